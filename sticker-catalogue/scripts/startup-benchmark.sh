@@ -0,0 +1,121 @@
+#!/bin/bash
+# Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+# This product includes software developed at Datadog (https://www.datadoghq.com/).
+# Copyright 2025-Present Datadog, Inc.
+
+
+# Startup Benchmark Script
+# Measures time-to-first-request (process launch until GET /health answers 200) for the plain JVM,
+# JVM with the AppCDS archive, and native builds.
+#
+# Build the modes you want to compare first:
+#   ./mvnw package -DskipTests                 # jvm
+#   ./mvnw package -DskipTests -Pappcds -Dquarkus.package.jar.appcds.use-container=false
+#                                              # appcds (also usable as jvm)
+#   ./mvnw package -DskipTests -Pnative        # native
+# Modes whose artifacts are missing are skipped.
+#
+# The appcds mode runs the archive with the java on the PATH, so the archive has to be built with that
+# same JDK rather than in the container the profile uses by default. It starts the JVM with
+# -Xshare:on, so an archive from a different JDK makes the run fail instead of silently measuring a
+# plain JVM start.
+#
+# The application connects to its database, object storage and broker on startup, so point it at
+# running ones through the usual environment variables (see README), for example the services
+# from docker-compose.dev.yml.
+#
+# Usage: scripts/startup-benchmark.sh [runs] [modes...]
+#   RUNS defaults to 5, MODES to "jvm appcds native". Set PORT to change the HTTP port (8080) and
+#   APP_OPTS to pass extra -D options to every mode.
+
+set -euo pipefail
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+PROJECT_DIR="$(cd "$SCRIPT_DIR/.." && pwd)"
+APP_DIR="$PROJECT_DIR/target/quarkus-app"
+PORT="${PORT:-8080}"
+APP_OPTS="${APP_OPTS:-}"
+TIMEOUT_SECONDS=120
+
+RUNS="${1:-5}"
+shift || true
+if [ $# -gt 0 ]; then
+    MODES=("$@")
+else
+    MODES=(jvm appcds native)
+fi
+
+NATIVE_RUNNER="$(ls "$PROJECT_DIR"/target/*-runner 2>/dev/null | head -n 1 || true)"
+LOG_FILE="$(mktemp)"
+trap 'rm -f "$LOG_FILE"' EXIT
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+# Prints the command for a mode, or nothing if it has not been built
+command_for() {
+    case "$1" in
+        jvm)
+            [ -f "$APP_DIR/quarkus-run.jar" ] && echo "java $APP_OPTS -jar $APP_DIR/quarkus-run.jar"
+            ;;
+        appcds)
+            [ -f "$APP_DIR/app-cds.jsa" ] && echo "java -XX:SharedArchiveFile=$APP_DIR/app-cds.jsa -Xshare:on $APP_OPTS -jar $APP_DIR/quarkus-run.jar"
+            ;;
+        native)
+            [ -n "$NATIVE_RUNNER" ] && echo "$NATIVE_RUNNER $APP_OPTS"
+            ;;
+        *)
+            echo "Unknown mode: $1" >&2
+            exit 1
+            ;;
+    esac
+    return 0
+}
+
+# Starts the application once and prints the milliseconds until /health first answers
+time_to_first_request() {
+    local cmd="$1"
+    local start pid elapsed
+    start=$(now_ms)
+    # shellcheck disable=SC2086
+    $cmd -Dquarkus.http.port="$PORT" > "$LOG_FILE" 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "http://localhost:$PORT/health"; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "❌ Application exited during startup, last log lines:" >&2
+            tail -n 20 "$LOG_FILE" >&2
+            return 1
+        fi
+        if [ $(( $(now_ms) - start )) -gt $(( TIMEOUT_SECONDS * 1000 )) ]; then
+            echo "❌ No response within ${TIMEOUT_SECONDS}s" >&2
+            kill "$pid" 2> /dev/null || true
+            return 1
+        fi
+        sleep 0.01
+    done
+    elapsed=$(( $(now_ms) - start ))
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    echo "$elapsed"
+}
+
+echo "⏱️  Startup Benchmark"
+echo "Project: $PROJECT_DIR"
+echo "Runs per mode: $RUNS"
+echo ""
+
+printf "%-8s %10s %10s %10s\n" "mode" "min (ms)" "median" "max"
+for mode in "${MODES[@]}"; do
+    cmd="$(command_for "$mode")"
+    if [ -z "$cmd" ]; then
+        printf "%-8s %s\n" "$mode" "skipped (not built)"
+        continue
+    fi
+    results=()
+    for _ in $(seq "$RUNS"); do
+        results+=("$(time_to_first_request "$cmd")")
+    done
+    mapfile -t sorted < <(printf "%s\n" "${results[@]}" | sort -n)
+    printf "%-8s %10s %10s %10s\n" "$mode" "${sorted[0]}" "${sorted[$(( RUNS / 2 ))]}" "${sorted[$(( RUNS - 1 ))]}"
+done
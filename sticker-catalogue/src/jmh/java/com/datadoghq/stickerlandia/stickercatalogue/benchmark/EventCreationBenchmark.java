@@ -0,0 +1,81 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.benchmark;
+
+import com.datadoghq.stickerlandia.common.messaging.CloudEventSerializer;
+import com.datadoghq.stickerlandia.stickercatalogue.event.CloudEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.messaging.StickerCloudEvents;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per-event work done on the request thread when a sticker changes.
+ *
+ * <p>{@code create} builds a CloudEvent inside a sampled span, so it includes formatting the {@code
+ * traceparent}; {@code serialize} writes an event with the default structured-mode {@link
+ * CloudEventSerializer}. Run with the {@code gc} profiler (the {@code jmh} profile's default) to
+ * see the bytes allocated per event.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventCreationBenchmark {
+
+    private static final String TOPIC = "stickers.stickerUpdated.v1";
+
+    private final CloudEventSerializer serializer = new CloudEventSerializer();
+    private CloudEvent<?> event;
+    private io.opentelemetry.context.Scope spanScope;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Thread-scoped state is set up on the benchmark thread, so the span stays current there
+        SpanContext spanContext =
+                SpanContext.create(
+                        "0af7651916cd43dd8448eb211c80319c",
+                        "b7ad6b7169203331",
+                        TraceFlags.getSampled(),
+                        TraceState.getDefault());
+        spanScope = Span.wrap(spanContext).makeCurrent();
+        event = create();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        spanScope.close();
+    }
+
+    @Benchmark
+    public CloudEvent<?> create() {
+        return StickerCloudEvents.stickerUpdated(
+                "sticker-4f9c2a", "Ruby", "A limited edition sticker from the catalogue");
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(TOPIC, new RecordHeaders(), event);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.benchmark;
+
+import com.datadoghq.stickerlandia.common.messaging.CloudEventSerializer;
+import com.datadoghq.stickerlandia.stickercatalogue.event.CloudEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.messaging.DispatchingStickerEventPublisher;
+import com.datadoghq.stickerlandia.stickercatalogue.messaging.DispatchingStickerEventPublisher.WaitStrategy;
+import com.datadoghq.stickerlandia.stickercatalogue.messaging.StickerCloudEvents;
+import com.datadoghq.stickerlandia.stickercatalogue.messaging.StickerEventPublisher;
+import io.opentelemetry.api.OpenTelemetry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures how long a request thread spends publishing a sticker event, sent inline ({@code
+ * direct}) or handed to the ring-buffer dispatcher with each wait strategy.
+ *
+ * <p>The broker is simulated by serializing the event and burning {@code sendTokens} of CPU, which
+ * stands in for the client's own work on the calling thread. Each operation also burns {@code
+ * requestTokens} of request work so that, as in a real service, the dispatcher has time to keep up
+ * and the ring does not fill. Subtract the {@code baseline} score to get the publish cost alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class EventDispatchBenchmark {
+
+    private static final String TOPIC = "stickers.stickerUpdated.v1";
+
+    @Param({"direct", "busy-spin", "yielding", "sleeping", "blocking"})
+    String dispatch;
+
+    @Param({"2000"})
+    long sendTokens;
+
+    @Param({"4000"})
+    long requestTokens;
+
+    private StickerEventPublisher publisher;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StickerEventPublisher broker = new SimulatedBroker(sendTokens);
+        publisher =
+                "direct".equals(dispatch)
+                        ? broker
+                        : new DispatchingStickerEventPublisher(
+                                broker,
+                                1024,
+                                WaitStrategy.valueOf(dispatch.toUpperCase().replace('-', '_')),
+                                256,
+                                OpenTelemetry.noop().getMeter("benchmark"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (publisher instanceof DispatchingStickerEventPublisher dispatching) {
+            dispatching.close();
+        }
+    }
+
+    @Benchmark
+    public void baseline() {
+        Blackhole.consumeCPU(requestTokens);
+    }
+
+    @Benchmark
+    public CompletionStage<Void> publish() {
+        Blackhole.consumeCPU(requestTokens);
+        return publisher.publishStickerUpdated(
+                "sticker-4f9c2a", "Ruby", "A limited edition sticker from the catalogue");
+    }
+
+    private static final class SimulatedBroker implements StickerEventPublisher {
+
+        private final CloudEventSerializer serializer = new CloudEventSerializer();
+        private final long sendTokens;
+
+        SimulatedBroker(long sendTokens) {
+            this.sendTokens = sendTokens;
+        }
+
+        @Override
+        public CompletionStage<Void> publishStickerAdded(
+                String stickerId, String name, String description) {
+            return publishEvent(StickerCloudEvents.stickerAdded(stickerId, name, description));
+        }
+
+        @Override
+        public CompletionStage<Void> publishStickerUpdated(
+                String stickerId, String name, String description) {
+            return publishEvent(StickerCloudEvents.stickerUpdated(stickerId, name, description));
+        }
+
+        @Override
+        public CompletionStage<Void> publishStickerDeleted(String stickerId, String name) {
+            return publishEvent(StickerCloudEvents.stickerDeleted(stickerId, name));
+        }
+
+        @Override
+        public CompletionStage<Void> publishEvent(CloudEvent<?> cloudEvent) {
+            serializer.serialize(TOPIC, cloudEvent);
+            Blackhole.consumeCPU(sendTokens);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.benchmark;
+
+import com.datadoghq.stickerlandia.common.messaging.AvroCloudEventSerializer;
+import com.datadoghq.stickerlandia.common.messaging.CloudEventDeserializer;
+import com.datadoghq.stickerlandia.common.messaging.CloudEventSerializer;
+import com.datadoghq.stickerlandia.stickercatalogue.event.CloudEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.messaging.StickerCloudEvents;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Serializer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the cost and size of the sticker event encodings.
+ *
+ * <p>{@code json} is the structured-mode envelope, {@code json-binary} the binary content mode with
+ * JSON data, and {@code avro} binary content mode with Avro data. The {@code valueBytes} and {@code
+ * headerBytes} counters of {@code serialize} are bytes per second; divided by its score they give
+ * the record size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventEncodingBenchmark {
+
+    private static final String TOPIC = "stickers.stickerUpdated.v1";
+
+    @Param({"json", "json-binary", "avro"})
+    String encoding;
+
+    private Serializer<CloudEvent<?>> serializer;
+    private final CloudEventDeserializer deserializer = new CloudEventDeserializer();
+    private CloudEvent<?> event;
+    private Headers encodedHeaders;
+    private byte[] encodedValue;
+
+    /** Bytes written, reported by JMH alongside the score. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Sizes {
+        public long valueBytes;
+        public long headerBytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        serializer =
+                switch (encoding) {
+                    case "avro" -> new AvroCloudEventSerializer();
+                    default -> new CloudEventSerializer();
+                };
+        serializer.configure(
+                Map.of(
+                        CloudEventSerializer.CONTENT_MODE_CONFIG,
+                        "json".equals(encoding) ? "structured" : "binary"),
+                false);
+        event =
+                StickerCloudEvents.stickerUpdated(
+                        "sticker-4f9c2a", "Ruby", "A limited edition sticker from the catalogue");
+        event.setTraceParent("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+        encodedHeaders = new RecordHeaders();
+        encodedValue = serializer.serialize(TOPIC, encodedHeaders, event);
+    }
+
+    @Benchmark
+    public byte[] serialize(Sizes sizes) {
+        Headers headers = new RecordHeaders();
+        byte[] value = serializer.serialize(TOPIC, headers, event);
+        sizes.valueBytes += value.length;
+        for (Header header : headers) {
+            sizes.headerBytes += header.key().length() + header.value().length;
+        }
+        return value;
+    }
+
+    @Benchmark
+    public CloudEvent<?> deserialize() {
+        return deserializer.deserialize(TOPIC, encodedHeaders, encodedValue);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.benchmark;
+
+import com.datadoghq.stickerlandia.stickercatalogue.security.IssuerValidationFilter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the issuer normalization that {@link IssuerValidationFilter} does twice per
+ * authenticated request. An issuer with a trailing slash costs a substring copy; one without is
+ * returned as is.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IssuerNormalizationBenchmark {
+
+    @Param({
+        "https://auth.stickerlandia.dev/realms/stickerlandia",
+        "https://auth.stickerlandia.dev/realms/stickerlandia/"
+    })
+    String issuer;
+
+    @Benchmark
+    public String normalizeIssuer() {
+        return IssuerValidationFilter.normalizeIssuer(issuer);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.benchmark;
+
+import com.datadoghq.stickerlandia.common.messaging.CloudEventSerializer;
+import com.datadoghq.stickerlandia.stickercatalogue.messaging.StickerCloudEvents;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.compress.Compression;
+import org.apache.kafka.common.record.CompressionType;
+import org.apache.kafka.common.record.MemoryRecords;
+import org.apache.kafka.common.record.MemoryRecordsBuilder;
+import org.apache.kafka.common.record.TimestampType;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures what the Kafka producer puts on the wire for sticker events.
+ *
+ * <p>Each invocation serializes a batch of CloudEvents and encodes them into a Kafka record batch,
+ * exactly as the producer does before sending. The {@code events} and {@code wireBytes} counters
+ * give events per second and bytes per second; their ratio is bytes per event. Compare the untuned
+ * producer ({@code compression=none, recordsPerBatch=1, keyed=false}: no linger, so each event
+ * travels alone) with the {@code prod-kafka} settings ({@code lz4} or {@code zstd}, batches filled
+ * during the linger, keyed by sticker ID).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KafkaRecordBatchBenchmark {
+
+    @Param({"none", "lz4", "zstd"})
+    String compression;
+
+    @Param({"1", "100"})
+    int recordsPerBatch;
+
+    @Param({"false", "true"})
+    boolean keyed;
+
+    private final CloudEventSerializer serializer = new CloudEventSerializer();
+    private Compression codec;
+    private ByteBuffer buffer;
+    private long sequence;
+
+    /** Totals reported by JMH alongside the score. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class WireCounters {
+        public long events;
+        public long wireBytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        codec = Compression.of(CompressionType.forName(compression)).build();
+        buffer = ByteBuffer.allocate(4 * 1024 * 1024);
+    }
+
+    @Benchmark
+    public MemoryRecords encodeBatch(WireCounters counters) {
+        buffer.clear();
+        MemoryRecordsBuilder builder =
+                MemoryRecords.builder(buffer, codec, TimestampType.CREATE_TIME, 0L);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < recordsPerBatch; i++) {
+            String stickerId = "sticker-" + (sequence++ % 1_000);
+            byte[] value =
+                    serializer.serialize(
+                            "stickers.stickerUpdated.v1",
+                            StickerCloudEvents.stickerUpdated(
+                                    stickerId,
+                                    "Sticker " + stickerId,
+                                    "A limited edition sticker from the catalogue"));
+            byte[] key = keyed ? stickerId.getBytes(StandardCharsets.UTF_8) : null;
+            builder.append(now, key, value);
+        }
+        MemoryRecords records = builder.build();
+        counters.events += recordsPerBatch;
+        counters.wireBytes += records.sizeInBytes();
+        return records;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.benchmark;
+
+import com.datadoghq.stickerlandia.common.dto.dto.PagedResponse;
+import com.datadoghq.stickerlandia.stickercatalogue.StickerRepository;
+import com.datadoghq.stickerlandia.stickercatalogue.dto.GetAllStickersResponse;
+import com.datadoghq.stickerlandia.stickercatalogue.dto.StickerDTO;
+import com.datadoghq.stickerlandia.stickercatalogue.entity.Sticker;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures building and serializing the catalogue's read responses.
+ *
+ * <p>{@code toStickerMetadata} is the entity-to-DTO mapping, including its two {@code Instant} to
+ * {@code Date} conversions; {@code serializeSticker} and {@code serializePage} write a single
+ * sticker and a page of {@code pageSize} stickers with Jackson, whose {@code @JsonFormat} date
+ * patterns dominate the cost. Run with the {@code gc} profiler (the {@code jmh} profile's default)
+ * and compare {@code gc.alloc.rate.norm}, the bytes allocated per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StickerResponseBenchmark {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private Sticker sticker;
+    private StickerDTO dto;
+
+    /**
+     * A page of the list endpoint, in its own state so only {@code serializePage} varies its size.
+     */
+    @State(Scope.Thread)
+    public static class Page {
+
+        @Param({"20", "100"})
+        int pageSize;
+
+        GetAllStickersResponse response;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            List<StickerDTO> stickers = new ArrayList<>(pageSize);
+            for (int i = 0; i < pageSize; i++) {
+                stickers.add(StickerRepository.toStickerMetadata(sticker(i)));
+            }
+            PagedResponse pagination = new PagedResponse();
+            pagination.setPage(0);
+            pagination.setSize(pageSize);
+            pagination.setTotal(10 * pageSize);
+            pagination.setTotalPages(10);
+            response = new GetAllStickersResponse();
+            response.setStickers(stickers);
+            response.setPagination(pagination);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sticker = sticker(0);
+        dto = StickerRepository.toStickerMetadata(sticker);
+    }
+
+    @Benchmark
+    public StickerDTO toStickerMetadata() {
+        return StickerRepository.toStickerMetadata(sticker);
+    }
+
+    @Benchmark
+    public byte[] serializeSticker() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(dto);
+    }
+
+    @Benchmark
+    public byte[] serializePage(Page page) throws JsonProcessingException {
+        return mapper.writeValueAsBytes(page.response);
+    }
+
+    private static Sticker sticker(int i) {
+        Sticker sticker =
+                new Sticker(
+                        "sticker-" + Integer.toHexString(0x4f9c2a + i),
+                        "Ruby " + i,
+                        "A limited edition sticker from the catalogue",
+                        250);
+        sticker.setImageKey("stickers/sticker-" + i + ".png");
+        sticker.setCreatedAt(Instant.parse("2025-06-01T09:30:00Z"));
+        sticker.setUpdatedAt(Instant.parse("2025-06-02T14:05:00Z"));
+        sticker.setVersion(3);
+        return sticker;
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.security.TestSecurity;
+import io.smallrye.reactive.messaging.memory.InMemoryConnector;
+import jakarta.enterprise.inject.Any;
+import jakarta.inject.Inject;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Load harness for the catalogue's HTTP API, run in-process against the stand-ins of {@link
+ * LoadBenchmarkProfile}.
+ *
+ * <p>Creates {@code load.fixtures} stickers with images, then runs each workload in {@code
+ * load.workloads} in turn at a fixed arrival rate: {@code load.warmup} seconds whose results are
+ * discarded, then {@code load.duration} seconds that are measured. The rate is {@code load.rate}
+ * requests per second, or {@code load.rate.<workload>} for one workload. Results, including the
+ * full HdrHistograms, are written as JSON to {@code load.output}.
+ *
+ * <pre>
+ * ./mvnw -Pload test -Dtest=CatalogueLoadBenchmark -Dload.rate=500 -Dload.workloads=list,by-id
+ * </pre>
+ */
+@QuarkusTest
+@TestProfile(LoadBenchmarkProfile.class)
+class CatalogueLoadBenchmark {
+
+    private static final Logger LOG = Logger.getLogger(CatalogueLoadBenchmark.class);
+
+    private static final String PAGE_SIZE = "20";
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @TestHTTPResource("/api/stickers/v1")
+    URI stickers;
+
+    @Inject @Any InMemoryConnector messaging;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final HttpClient client =
+            HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+
+    @Test
+    @TestSecurity(user = "load-benchmark", roles = "user")
+    void runWorkloads() throws Exception {
+        int fixtureCount = Integer.getInteger("load.fixtures", 200);
+        List<String> workloads =
+                List.of(System.getProperty("load.workloads", "list,by-id,image,create").split(","));
+        Duration warmup = Duration.ofSeconds(Integer.getInteger("load.warmup", 10));
+        Duration duration = Duration.ofSeconds(Integer.getInteger("load.duration", 30));
+        int maxInFlight = Integer.getInteger("load.max-in-flight", 256);
+
+        List<String> fixtures = createFixtures(fixtureCount);
+        OpenLoopLoadGenerator generator = new OpenLoopLoadGenerator(client, maxInFlight);
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        for (String workload : workloads) {
+            int rate =
+                    Integer.getInteger(
+                            "load.rate." + workload, Integer.getInteger("load.rate", 200));
+            Supplier<HttpRequest> requests = requests(workload, fixtures);
+            generator.run(workload, requests, rate, warmup);
+            LoadBenchmarkProfile.CHANNELS.forEach(channel -> messaging.sink(channel).clear());
+
+            WorkloadResult result = generator.run(workload, requests, rate, duration);
+            LOG.info(result.summary());
+            results.put(workload, result.toJson());
+        }
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("fixtures", fixtureCount);
+        config.put("warmupSeconds", warmup.toSeconds());
+        config.put("durationSeconds", duration.toSeconds());
+        config.put("maxInFlight", maxInFlight);
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", Instant.now().toString());
+        report.put("javaVersion", Runtime.version().toString());
+        report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        report.put("config", config);
+        report.put("workloads", results);
+        writeReport(report);
+    }
+
+    private Supplier<HttpRequest> requests(String workload, List<String> fixtures) {
+        return switch (workload) {
+            case "list" -> {
+                int pages = Math.max(1, fixtures.size() / Integer.parseInt(PAGE_SIZE));
+                yield () ->
+                        get(
+                                stickers
+                                        + "?page="
+                                        + ThreadLocalRandom.current().nextInt(pages)
+                                        + "&size="
+                                        + PAGE_SIZE);
+            }
+            case "by-id" -> () -> get(stickers + "/" + randomFixture(fixtures));
+            case "image" -> () -> get(stickers + "/" + randomFixture(fixtures) + "/image");
+            case "create" -> {
+                AtomicLong created = new AtomicLong();
+                yield () -> createRequest("Load sticker " + created.incrementAndGet());
+            }
+            default -> throw new IllegalArgumentException("Unknown workload: " + workload);
+        };
+    }
+
+    private List<String> createFixtures(int count) throws IOException, InterruptedException {
+        byte[] image;
+        try (InputStream sample = getClass().getResourceAsStream("/stickers/java-bits.png")) {
+            image = sample.readAllBytes();
+        }
+        List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            HttpResponse<String> created =
+                    client.send(
+                            createRequest("Fixture " + i), HttpResponse.BodyHandlers.ofString());
+            expectSuccess(created);
+            String stickerId = mapper.readTree(created.body()).path("stickerId").asText();
+
+            HttpRequest upload =
+                    HttpRequest.newBuilder(URI.create(stickers + "/" + stickerId + "/image"))
+                            .timeout(TIMEOUT)
+                            .header("Content-Type", "image/png")
+                            .POST(HttpRequest.BodyPublishers.ofByteArray(image))
+                            .build();
+            expectSuccess(client.send(upload, HttpResponse.BodyHandlers.ofString()));
+            ids.add(stickerId);
+        }
+        LOG.infof("Created %d fixture stickers", count);
+        return ids;
+    }
+
+    private HttpRequest createRequest(String name) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("stickerName", name);
+        body.put("stickerDescription", "Created by the load harness");
+        body.put("stickerQuantityRemaining", 100);
+        try {
+            return HttpRequest.newBuilder(stickers)
+                    .timeout(TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to serialize the create request", e);
+        }
+    }
+
+    private static HttpRequest get(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).timeout(TIMEOUT).GET().build();
+    }
+
+    private static String randomFixture(List<String> fixtures) {
+        return fixtures.get(ThreadLocalRandom.current().nextInt(fixtures.size()));
+    }
+
+    private static void expectSuccess(HttpResponse<String> response) {
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException(
+                    "Fixture setup failed with " + response.statusCode() + ": " + response.body());
+        }
+    }
+
+    private void writeReport(Map<String, Object> report) throws IOException {
+        String timestamp =
+                DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")
+                        .withZone(ZoneOffset.UTC)
+                        .format(Instant.now());
+        Path output =
+                Path.of(
+                        System.getProperty(
+                                "load.output", "target/load-results/load-" + timestamp + ".json"));
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        mapper.writer(SerializationFeature.INDENT_OUTPUT).writeValue(output.toFile(), report);
+        LOG.infof("Wrote load results to %s", output.toAbsolutePath());
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.load;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+
+/**
+ * The workloads of {@link CatalogueLoadBenchmark} against the in-memory sticker store, as the
+ * ceiling the Postgres-backed run can be compared with.
+ *
+ * <pre>
+ * ./mvnw -Pload test -Dtest=InMemoryCatalogueLoadBenchmark -Dload.rate=2000
+ * </pre>
+ */
+@QuarkusTest
+@TestProfile(InMemoryLoadBenchmarkProfile.class)
+class InMemoryCatalogueLoadBenchmark extends CatalogueLoadBenchmark {}
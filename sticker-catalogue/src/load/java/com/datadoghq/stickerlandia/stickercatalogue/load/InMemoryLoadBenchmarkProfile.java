@@ -0,0 +1,37 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.load;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link LoadBenchmarkProfile} with stickers kept in memory instead of embedded PostgreSQL, so a
+ * run measures the service's own overhead without a database behind it.
+ */
+public class InMemoryLoadBenchmarkProfile extends LoadBenchmarkProfile {
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        Map<String, String> config = super.getConfigOverrides();
+        config.put("sticker.store", "memory");
+        config.put("sticker.events.outbox.enabled", "false");
+        config.put("sticker.reservations.reaper.interval", "off");
+        config.put("sticker.stock.shards.refresh-interval", "off");
+        // Never connected to; it only has to resolve
+        config.put("quarkus.datasource.jdbc.url", "jdbc:postgresql://localhost:5432/unused");
+        config.put("quarkus.flyway.enabled", "false");
+        config.put("quarkus.flyway.migrate-at-start", "false");
+        config.put("quarkus.hibernate-orm.database.start-offline", "true");
+        return config;
+    }
+
+    @Override
+    public List<TestResourceEntry> testResources() {
+        return List.of();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.load;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Alternative;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Utilities;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
+import software.amazon.awssdk.services.s3.model.HeadBucketResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+/**
+ * An S3 client that keeps objects in memory, standing in for the image bucket in the load harness.
+ * Only the operations {@code StickerImageService} uses are implemented; the rest throw {@link
+ * UnsupportedOperationException}, as the interface's defaults do.
+ */
+@Alternative
+@ApplicationScoped
+public class InMemoryS3Client implements S3Client {
+
+    private final Map<String, Stored> objects = new ConcurrentHashMap<>();
+
+    private record Stored(byte[] content, String contentType) {}
+
+    @Override
+    public HeadBucketResponse headBucket(HeadBucketRequest request) {
+        return HeadBucketResponse.builder().build();
+    }
+
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+        try (InputStream content = body.contentStreamProvider().newStream()) {
+            objects.put(
+                    key(request.bucket(), request.key()),
+                    new Stored(content.readAllBytes(), request.contentType()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return PutObjectResponse.builder().build();
+    }
+
+    @Override
+    public ResponseInputStream<GetObjectResponse> getObject(GetObjectRequest request) {
+        Stored stored = objects.get(key(request.bucket(), request.key()));
+        if (stored == null) {
+            throw NoSuchKeyException.builder().message("No such key: " + request.key()).build();
+        }
+        GetObjectResponse response =
+                GetObjectResponse.builder()
+                        .contentLength((long) stored.content().length)
+                        .contentType(stored.contentType())
+                        .build();
+        return new ResponseInputStream<>(
+                response, AbortableInputStream.create(new ByteArrayInputStream(stored.content())));
+    }
+
+    @Override
+    public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+        objects.remove(key(request.bucket(), request.key()));
+        return DeleteObjectResponse.builder().build();
+    }
+
+    @Override
+    public S3Utilities utilities() {
+        return S3Utilities.builder().region(Region.US_EAST_1).build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+        objects.clear();
+    }
+
+    private static String key(String bucket, String key) {
+        return bucket + "/" + key;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.load;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Runs the service against in-process stand-ins, so a load run needs neither Docker nor the
+ * docker-compose stack: embedded PostgreSQL migrated with Flyway as in production, an in-memory S3
+ * client, and the SmallRye in-memory connector in place of Kafka.
+ */
+public class LoadBenchmarkProfile implements QuarkusTestProfile {
+
+    static final List<String> CHANNELS =
+            List.of("stickers_added", "stickers_updated", "stickers_deleted");
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        Map<String, String> config = new HashMap<>();
+        config.put("quarkus.datasource.devservices.enabled", "false");
+        config.put("quarkus.kafka.devservices.enabled", "false");
+        config.put("quarkus.s3.devservices.enabled", "false");
+
+        // The production schema, rather than the test suite's generated one and its fixtures
+        config.put("quarkus.flyway.enabled", "true");
+        config.put("quarkus.flyway.migrate-at-start", "true");
+        config.put("quarkus.hibernate-orm.schema-management.strategy", "none");
+        config.put("%test.quarkus.hibernate-orm.sql-load-script", "no-file");
+        config.put("sticker.seed.enabled", "false");
+
+        for (String channel : CHANNELS) {
+            config.put("mp.messaging.outgoing." + channel + ".connector", "smallrye-in-memory");
+        }
+
+        // Per-request logging would measure the console rather than the service
+        config.put("quarkus.hibernate-orm.log.sql", "false");
+        config.put("quarkus.log.level", "WARN");
+        config.put(
+                "quarkus.log.category.\"com.datadoghq.stickerlandia.stickercatalogue.load\".level",
+                "INFO");
+        return config;
+    }
+
+    @Override
+    public Set<Class<?>> getEnabledAlternatives() {
+        return Set.of(InMemoryS3Client.class);
+    }
+
+    @Override
+    public List<TestResourceEntry> testResources() {
+        return List.of(new TestResourceEntry(EmbeddedPostgresResource.class));
+    }
+}
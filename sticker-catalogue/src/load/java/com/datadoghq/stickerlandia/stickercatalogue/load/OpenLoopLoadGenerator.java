@@ -0,0 +1,116 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.load;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Sends requests at a fixed arrival rate, whatever the service's response times.
+ *
+ * <p>Request {@code i} is due at {@code start + i / rate} and is sent on its own virtual thread, so
+ * a slow response does not delay the requests behind it. Each response is recorded twice, in
+ * microseconds: from when it was due (corrected for coordinated omission, so time spent queueing
+ * behind a stall counts) and from when it was actually sent (service time only). At most {@code
+ * maxInFlight} requests are outstanding; beyond that, requests wait for a slot, and that wait shows
+ * in the corrected latencies only.
+ */
+final class OpenLoopLoadGenerator {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final HttpClient client;
+    private final int maxInFlight;
+
+    OpenLoopLoadGenerator(HttpClient client, int maxInFlight) {
+        this.client = client;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Runs one workload and waits for its last response.
+     *
+     * @param workload the workload's name
+     * @param requests creates each request; called on the generator thread only
+     * @param rate requests per second
+     * @param duration how long to keep sending
+     * @return the latencies and outcome counts
+     */
+    WorkloadResult run(
+            String workload, Supplier<HttpRequest> requests, int rate, Duration duration) {
+        Histogram corrected = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        Histogram uncorrected = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        LongAdder errors = new LongAdder();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long sent = 0;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long due = start; due < end; due = start + ++sent * interval) {
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                HttpRequest request = requests.get();
+                long dueAt = due;
+                executor.execute(
+                        () -> send(request, dueAt, inFlight, corrected, uncorrected, errors));
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        return new WorkloadResult(
+                workload, rate, sent, errors.sum(), elapsed, corrected, uncorrected);
+    }
+
+    private void send(
+            HttpRequest request,
+            long due,
+            Semaphore inFlight,
+            Histogram corrected,
+            Histogram uncorrected,
+            LongAdder errors) {
+        inFlight.acquireUninterruptibly();
+        try {
+            long sentAt = System.nanoTime();
+            HttpResponse<Void> response =
+                    client.send(request, HttpResponse.BodyHandlers.discarding());
+            long done = System.nanoTime();
+            if (response.statusCode() >= 400) {
+                errors.increment();
+                return;
+            }
+            corrected.recordValue(Math.min(micros(done - due), MAX_LATENCY_MICROS));
+            uncorrected.recordValue(Math.min(micros(done - sentAt), MAX_LATENCY_MICROS));
+        } catch (IOException e) {
+            errors.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            errors.increment();
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
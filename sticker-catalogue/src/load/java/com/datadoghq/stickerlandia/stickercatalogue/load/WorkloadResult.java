@@ -0,0 +1,105 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.load;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.HdrHistogram.Histogram;
+
+/**
+ * The outcome of one workload: request counts and latency histograms in microseconds.
+ *
+ * @param workload the workload's name
+ * @param targetRate the requested arrival rate, per second
+ * @param requests requests sent
+ * @param errors requests that failed or got a 4xx or 5xx response
+ * @param elapsedNanos time from the first request being due to the last response
+ * @param corrected latencies measured from when each request was due
+ * @param uncorrected latencies measured from when each request was sent
+ */
+record WorkloadResult(
+        String workload,
+        int targetRate,
+        long requests,
+        long errors,
+        long elapsedNanos,
+        Histogram corrected,
+        Histogram uncorrected) {
+
+    private static final Map<String, Double> PERCENTILES =
+            Map.of("p50", 50.0, "p90", 90.0, "p99", 99.0, "p999", 99.9, "p9999", 99.99);
+
+    /** Returns the responses per second actually achieved. */
+    double achievedRate() {
+        return requests * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    /**
+     * Returns the result as plain maps and lists, for JSON. Each histogram is also included in
+     * HdrHistogram's compressed, base64-encoded form, so runs can be merged or re-plotted later.
+     */
+    Map<String, Object> toJson() {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("targetRate", targetRate);
+        json.put("achievedRate", Math.round(achievedRate() * 10) / 10.0);
+        json.put("requests", requests);
+        json.put("errors", errors);
+        json.put("corrected", latencies(corrected));
+        json.put("uncorrected", latencies(uncorrected));
+        return json;
+    }
+
+    /** Returns a one-line summary of the corrected latencies, in milliseconds. */
+    String summary() {
+        return String.format(
+                "%-8s %6d req %5d err %8.1f req/s  p50 %7.2f  p99 %7.2f  p99.9 %7.2f  max %7.2f ms",
+                workload,
+                requests,
+                errors,
+                achievedRate(),
+                millis(corrected.getValueAtPercentile(50)),
+                millis(corrected.getValueAtPercentile(99)),
+                millis(corrected.getValueAtPercentile(99.9)),
+                millis(corrected.getMaxValue()));
+    }
+
+    private static Map<String, Object> latencies(Histogram histogram) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("unit", "ms");
+        json.put("count", histogram.getTotalCount());
+        json.put("mean", round(histogram.getMean() / 1000));
+        PERCENTILES.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue())
+                .forEach(
+                        percentile ->
+                                json.put(
+                                        percentile.getKey(),
+                                        millis(
+                                                histogram.getValueAtPercentile(
+                                                        percentile.getValue()))));
+        json.put("max", millis(histogram.getMaxValue()));
+
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        json.put(
+                "hdrHistogram",
+                Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length)));
+        return json;
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double millis) {
+        return Math.round(millis * 1000) / 1000.0;
+    }
+}
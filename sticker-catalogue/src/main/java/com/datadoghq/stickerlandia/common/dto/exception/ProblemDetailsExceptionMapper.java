@@ -39,7 +39,11 @@ public class ProblemDetailsExceptionMapper implements ExceptionMapper<WebApplica
             case 403 -> "Forbidden";
             case 404 -> "Not Found";
             case 409 -> "Conflict";
+            case 410 -> "Gone";
+            case 412 -> "Precondition Failed";
             case 500 -> "Internal Server Error";
+            case 501 -> "Not Implemented";
+            case 503 -> "Service Unavailable";
             default -> "Error";
         };
     }
@@ -34,10 +34,22 @@ public class ProblemDetailsResponseBuilder {
         return buildResponse(409, "Conflict", detail);
     }
 
+    public static Response gone(String detail) {
+        return buildResponse(410, "Gone", detail);
+    }
+
+    public static Response preconditionFailed(String detail) {
+        return buildResponse(412, "Precondition Failed", detail);
+    }
+
     public static Response internalServerError(String detail) {
         return buildResponse(500, "Internal Server Error", detail);
     }
 
+    public static Response notImplemented(String detail) {
+        return buildResponse(501, "Not Implemented", detail);
+    }
+
     private static Response buildResponse(int status, String title, String detail) {
         ProblemDetails problemDetails = new ProblemDetails(status, title, detail);
 
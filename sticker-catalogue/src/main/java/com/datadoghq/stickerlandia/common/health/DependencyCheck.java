@@ -0,0 +1,28 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.common.health;
+
+/**
+ * A dependency the service needs in order to serve requests, probed in the background by {@link
+ * DependencyProber}. Implementations are discovered as CDI beans.
+ */
+public interface DependencyCheck {
+
+    /**
+     * Returns the name the dependency is reported under.
+     *
+     * @return the dependency name
+     */
+    String name();
+
+    /**
+     * Checks the dependency once. Returning normally means it is usable.
+     *
+     * @throws Exception if the dependency is unavailable
+     */
+    void check() throws Exception;
+}
@@ -0,0 +1,166 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.common.health;
+
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Probes every {@link DependencyCheck} on a schedule and keeps the latest results, so that health
+ * requests are answered from memory and never add load to the dependencies themselves.
+ *
+ * <p>All checks run in parallel, each on its own virtual thread, and a check that takes longer than
+ * the probe timeout counts as down. A status change is logged once, not on every probe.
+ */
+@ApplicationScoped
+public class DependencyProber {
+
+    private static final Logger LOG = Logger.getLogger(DependencyProber.class);
+
+    /** The outcome of one check. */
+    public record Result(boolean up, long latencyMillis, String error) {}
+
+    /** The outcome of one probe of every dependency. */
+    public record Snapshot(Instant checkedAt, Map<String, Result> results) {
+
+        /** Returns whether every dependency was up. */
+        public boolean allUp() {
+            return results.values().stream().allMatch(Result::up);
+        }
+    }
+
+    private final Instance<DependencyCheck> checks;
+    private final Duration interval;
+    private final Duration timeout;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile Snapshot latest;
+
+    /**
+     * Creates the prober.
+     *
+     * @param checks the dependencies to probe
+     * @param interval how often they are probed
+     * @param timeout how long a single check may take before it counts as down
+     */
+    @Inject
+    public DependencyProber(
+            @Any Instance<DependencyCheck> checks,
+            @ConfigProperty(name = "sticker.health.probe-interval", defaultValue = "10s")
+                    Duration interval,
+            @ConfigProperty(name = "sticker.health.probe-timeout", defaultValue = "2s")
+                    Duration timeout) {
+        this.checks = checks;
+        this.interval = interval;
+        this.timeout = timeout;
+    }
+
+    @Scheduled(
+            every = "${sticker.health.probe-interval:10s}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledProbe() {
+        probe();
+    }
+
+    /**
+     * Checks every dependency now and keeps the result.
+     *
+     * @return the new snapshot
+     */
+    public Snapshot probe() {
+        List<DependencyCheck> all = checks.stream().toList();
+        Map<String, CompletableFuture<Result>> running = new LinkedHashMap<>();
+        for (DependencyCheck check : all) {
+            running.put(
+                    check.name(),
+                    CompletableFuture.supplyAsync(() -> run(check), executor)
+                            .completeOnTimeout(
+                                    new Result(
+                                            false,
+                                            timeout.toMillis(),
+                                            "No answer within " + timeout.toMillis() + "ms"),
+                                    timeout.toMillis(),
+                                    TimeUnit.MILLISECONDS));
+        }
+
+        Map<String, Result> results = new LinkedHashMap<>();
+        running.forEach((name, result) -> results.put(name, result.join()));
+        Snapshot snapshot = new Snapshot(Instant.now(), Collections.unmodifiableMap(results));
+        logChanges(latest, snapshot);
+        latest = snapshot;
+        return snapshot;
+    }
+
+    /** Returns the latest snapshot, or null if no probe has finished yet. */
+    public Snapshot latest() {
+        return latest;
+    }
+
+    /**
+     * Returns whether probes are still running on schedule. Before the first probe, and while the
+     * latest is no more than a few intervals old, this is true.
+     */
+    public boolean isProbing() {
+        Snapshot snapshot = latest;
+        return snapshot == null
+                || Duration.between(snapshot.checkedAt(), Instant.now())
+                                .compareTo(interval.multipliedBy(3).plus(timeout))
+                        <= 0;
+    }
+
+    @PreDestroy
+    void close() {
+        executor.shutdownNow();
+    }
+
+    private static Result run(DependencyCheck check) {
+        long start = System.nanoTime();
+        try {
+            check.check();
+            return new Result(true, elapsedMillis(start), null);
+        } catch (Exception e) {
+            String error = e instanceof TimeoutException ? "Timed out" : e.toString();
+            return new Result(false, elapsedMillis(start), error);
+        }
+    }
+
+    private static long elapsedMillis(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private static void logChanges(Snapshot previous, Snapshot current) {
+        current.results()
+                .forEach(
+                        (name, result) -> {
+                            Result before = previous != null ? previous.results().get(name) : null;
+                            if (before != null && before.up() == result.up()) {
+                                return;
+                            }
+                            if (result.up()) {
+                                LOG.infof("Dependency %s is up", name);
+                            } else {
+                                LOG.warnf("Dependency %s is down: %s", name, result.error());
+                            }
+                        });
+    }
+}
@@ -6,12 +6,14 @@
 
 package com.datadoghq.stickerlandia.common.health;
 
+import jakarta.inject.Inject;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 
@@ -19,6 +21,8 @@ import org.eclipse.microprofile.openapi.annotations.Operation;
 @Path("/health")
 public class HealthResource {
 
+    @Inject DependencyProber prober;
+
     /**
      * Basic health check endpoint.
      *
@@ -32,4 +36,61 @@ public class HealthResource {
         healthStatus.put("status", "OK");
         return Response.ok(healthStatus).build();
     }
+
+    /**
+     * Liveness endpoint. Reports DOWN only if the process has stopped probing its dependencies, not
+     * when a dependency is down, so an outage elsewhere does not get the service restarted.
+     *
+     * @return 200 while live, 503 otherwise
+     */
+    @GET
+    @Path("/live")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Liveness endpoint")
+    public Response live() {
+        boolean live = prober.isProbing();
+        Map<String, Object> healthStatus = new LinkedHashMap<>();
+        healthStatus.put("status", live ? "UP" : "DOWN");
+        DependencyProber.Snapshot snapshot = prober.latest();
+        if (snapshot != null) {
+            healthStatus.put("checkedAt", snapshot.checkedAt().toString());
+        }
+        return Response.status(live ? 200 : 503).entity(healthStatus).build();
+    }
+
+    /**
+     * Readiness endpoint, answered from the latest background probe of the service's dependencies.
+     * Only a request that arrives before the first scheduled probe probes them itself. Reports DOWN
+     * whenever any dependency was down.
+     *
+     * @return 200 with each dependency's status and latency while ready, 503 otherwise
+     */
+    @GET
+    @Path("/ready")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Readiness endpoint")
+    public Response ready() {
+        DependencyProber.Snapshot snapshot = prober.latest();
+        if (snapshot == null) {
+            snapshot = prober.probe();
+        }
+        boolean ready = snapshot.allUp() && prober.isProbing();
+        Map<String, Object> healthStatus = new LinkedHashMap<>();
+        healthStatus.put("status", ready ? "UP" : "DOWN");
+        healthStatus.put("checkedAt", snapshot.checkedAt().toString());
+        Map<String, Object> checks = new LinkedHashMap<>();
+        snapshot.results()
+                .forEach(
+                        (name, result) -> {
+                            Map<String, Object> check = new LinkedHashMap<>();
+                            check.put("status", result.up() ? "UP" : "DOWN");
+                            check.put("latencyMs", result.latencyMillis());
+                            if (result.error() != null) {
+                                check.put("error", result.error());
+                            }
+                            checks.put(name, check);
+                        });
+        healthStatus.put("checks", checks);
+        return Response.status(ready ? 200 : 503).entity(healthStatus).build();
+    }
 }
@@ -0,0 +1,97 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.common.messaging;
+
+import com.datadoghq.stickerlandia.stickercatalogue.event.CloudEvent;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.avro.message.SchemaStore;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Serializes CloudEvents compactly: the attributes go into {@code ce_*} headers, as in binary
+ * content mode, and the data is Avro-encoded with the schemas from {@link StickerEventAvro}.
+ *
+ * <p>Values use Avro's single-object encoding, which prefixes the payload with the 64-bit
+ * fingerprint of the writer schema, so a consumer can look the schema up and resolve it against its
+ * own version. The {@code content-type} header is {@value #CONTENT_TYPE}, which lets {@link
+ * CloudEventDeserializer} tell these records apart from JSON ones. Writer schemas are registered
+ * with the schema store named by {@value #SCHEMA_STORE_CONFIG}, if it accepts registrations.
+ *
+ * <p>Callers that cannot pass headers get structured JSON, since Avro data alone would lose the
+ * attributes.
+ */
+public class AvroCloudEventSerializer implements Serializer<CloudEvent<?>> {
+
+    public static final String CONTENT_TYPE = "application/avro";
+
+    /**
+     * Config key for the schema store: a {@link SchemaStore} instance, or the name of a class with
+     * a no-argument constructor. Defaults to {@link StickerEventAvro#schemaStore()}.
+     */
+    public static final String SCHEMA_STORE_CONFIG = "avro.schema-store";
+
+    private final Map<String, BinaryMessageEncoder<GenericRecord>> encoders = new HashMap<>();
+    private final CloudEventSerializer structured = new CloudEventSerializer();
+
+    public AvroCloudEventSerializer() {
+        configure(Map.of(), false);
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        SchemaStore store = StickerEventAvro.schemaStore(configs.get(SCHEMA_STORE_CONFIG));
+        encoders.clear();
+        for (String eventType : StickerEventAvro.eventTypes()) {
+            Schema schema = StickerEventAvro.schema(eventType);
+            if (store instanceof SchemaStore.Cache cache) {
+                cache.addSchema(schema);
+            }
+            encoders.put(eventType, new BinaryMessageEncoder<>(GenericData.get(), schema));
+        }
+    }
+
+    /**
+     * Without headers there is nowhere to put the attributes, so the event is written as a
+     * structured JSON CloudEvent instead, which {@link CloudEventDeserializer} reads as well.
+     */
+    @Override
+    public byte[] serialize(String topic, CloudEvent<?> data) {
+        return structured.serialize(topic, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, CloudEvent<?> data) {
+        if (data == null) {
+            return null;
+        }
+        BinaryMessageEncoder<GenericRecord> encoder = encoders.get(data.getType());
+        if (encoder == null) {
+            throw new IllegalArgumentException("No Avro schema for event type: " + data.getType());
+        }
+        CloudEventHeaders.write(headers, data, CONTENT_TYPE);
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+            encoder.encode(StickerEventAvro.toRecord(data.getType(), data.getData()), out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to serialize CloudEvent data", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        // nothing to close
+    }
+}
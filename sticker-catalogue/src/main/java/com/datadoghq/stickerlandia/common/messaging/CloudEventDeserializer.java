@@ -0,0 +1,112 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.common.messaging;
+
+import com.datadoghq.stickerlandia.stickercatalogue.event.CloudEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.event.StickerAddedEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.event.StickerDeletedEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.event.StickerUpdatedEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.messaging.StickerCloudEvents;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.SchemaStore;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * Reads sticker CloudEvents in any of the encodings this service produces, chosen by the record's
+ * {@code content-type} header: none for structured JSON, {@code application/json} for binary-mode
+ * JSON from {@link CloudEventSerializer}, or {@value AvroCloudEventSerializer#CONTENT_TYPE} from
+ * {@link AvroCloudEventSerializer}. Avro writer schemas are looked up in the schema store named by
+ * {@value AvroCloudEventSerializer#SCHEMA_STORE_CONFIG}.
+ */
+public class CloudEventDeserializer implements Deserializer<CloudEvent<?>> {
+
+    private static final Map<String, Class<?>> DATA_TYPES =
+            Map.of(
+                    StickerAddedEvent.EVENT_TYPE, StickerAddedEvent.class,
+                    StickerUpdatedEvent.EVENT_TYPE, StickerUpdatedEvent.class,
+                    StickerDeletedEvent.EVENT_TYPE, StickerDeletedEvent.class);
+
+    // The event classes take timestamps as Instants when reading
+    private final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+    private final Map<String, BinaryMessageDecoder<GenericRecord>> decoders = new HashMap<>();
+
+    public CloudEventDeserializer() {
+        configure(Map.of(), false);
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        SchemaStore store =
+                StickerEventAvro.schemaStore(
+                        configs.get(AvroCloudEventSerializer.SCHEMA_STORE_CONFIG));
+        decoders.clear();
+        for (String eventType : StickerEventAvro.eventTypes()) {
+            decoders.put(
+                    eventType,
+                    new BinaryMessageDecoder<>(
+                            GenericData.get(), StickerEventAvro.schema(eventType), store));
+        }
+    }
+
+    @Override
+    public CloudEvent<?> deserialize(String topic, byte[] data) {
+        return deserialize(topic, null, data);
+    }
+
+    @Override
+    public CloudEvent<?> deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        String contentType = CloudEventHeaders.get(headers, CloudEventHeaders.CONTENT_TYPE);
+        try {
+            if (contentType == null) {
+                String json = new String(data, StandardCharsets.UTF_8);
+                String type = mapper.readTree(json).path("type").asText();
+                return StickerCloudEvents.read(mapper, type, json);
+            }
+            String type = CloudEventHeaders.get(headers, CloudEventHeaders.TYPE);
+            Object eventData =
+                    switch (contentType) {
+                        case AvroCloudEventSerializer.CONTENT_TYPE ->
+                                StickerEventAvro.fromRecord(type, decoder(type).decode(data));
+                        case CloudEventSerializer.JSON_CONTENT_TYPE ->
+                                mapper.readValue(data, dataType(type));
+                        default ->
+                                throw new IllegalArgumentException(
+                                        "Unsupported content type: " + contentType);
+                    };
+            return CloudEventHeaders.read(headers, eventData);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to deserialize CloudEvent", e);
+        }
+    }
+
+    private BinaryMessageDecoder<GenericRecord> decoder(String eventType) {
+        BinaryMessageDecoder<GenericRecord> decoder = decoders.get(eventType);
+        if (decoder == null) {
+            throw new IllegalArgumentException("No Avro schema for event type: " + eventType);
+        }
+        return decoder;
+    }
+
+    private static Class<?> dataType(String eventType) {
+        Class<?> type = DATA_TYPES.get(eventType);
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown event type: " + eventType);
+        }
+        return type;
+    }
+}
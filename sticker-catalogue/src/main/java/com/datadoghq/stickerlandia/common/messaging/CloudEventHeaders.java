@@ -0,0 +1,86 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.common.messaging;
+
+import com.datadoghq.stickerlandia.stickercatalogue.event.CloudEvent;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+/**
+ * Maps CloudEvent attributes to and from Kafka record headers, following the binary content mode of
+ * the CloudEvents Kafka protocol binding.
+ */
+public final class CloudEventHeaders {
+
+    public static final String SPEC_VERSION = "ce_specversion";
+    public static final String ID = "ce_id";
+    public static final String SOURCE = "ce_source";
+    public static final String TYPE = "ce_type";
+    public static final String TIME = "ce_time";
+    public static final String TRACE_PARENT = "traceparent";
+    public static final String CONTENT_TYPE = "content-type";
+
+    private CloudEventHeaders() {}
+
+    /**
+     * Writes a CloudEvent's attributes, but not its data, as headers.
+     *
+     * @param headers the record headers to add to
+     * @param cloudEvent the CloudEvent
+     * @param contentType the media type of the record value
+     */
+    public static void write(Headers headers, CloudEvent<?> cloudEvent, String contentType) {
+        add(headers, SPEC_VERSION, cloudEvent.getSpecVersion());
+        add(headers, ID, cloudEvent.getId());
+        add(headers, SOURCE, cloudEvent.getSource());
+        add(headers, TYPE, cloudEvent.getType());
+        add(headers, TIME, cloudEvent.getTime());
+        add(headers, TRACE_PARENT, cloudEvent.getTraceParent());
+        add(headers, CONTENT_TYPE, contentType);
+    }
+
+    /**
+     * Rebuilds a CloudEvent's attributes from headers written by {@link #write}.
+     *
+     * @param headers the record headers
+     * @param data the already-decoded event data
+     * @return the CloudEvent
+     */
+    public static <T> CloudEvent<T> read(Headers headers, T data) {
+        CloudEvent<T> cloudEvent = new CloudEvent<>(get(headers, TYPE), get(headers, SOURCE), data);
+        cloudEvent.setSpecVersion(get(headers, SPEC_VERSION));
+        cloudEvent.setId(get(headers, ID));
+        String time = get(headers, TIME);
+        if (time != null) {
+            cloudEvent.setTime(Instant.parse(time));
+        }
+        cloudEvent.setTraceParent(get(headers, TRACE_PARENT));
+        return cloudEvent;
+    }
+
+    /**
+     * Returns the last value of a header as a string.
+     *
+     * @param headers the record headers
+     * @param name the header name
+     * @return the value, or null if the header is absent
+     */
+    public static String get(Headers headers, String name) {
+        Header header = headers == null ? null : headers.lastHeader(name);
+        return header == null || header.value() == null
+                ? null
+                : new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+    private static void add(Headers headers, String name, String value) {
+        if (value != null) {
+            headers.add(name, value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -9,19 +9,34 @@ package com.datadoghq.stickerlandia.common.messaging;
 import com.datadoghq.stickerlandia.stickercatalogue.event.CloudEvent;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.Map;
+import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.serialization.Serializer;
 
 /**
  * Serializes CloudEvents, which wrap up a concrete, topic-specific payload. This is used by our
  * smallrye Kafka infrastructure.
+ *
+ * <p>By default the whole envelope is written as the record value (structured content mode). With
+ * {@value #CONTENT_MODE_CONFIG}{@code =binary} in the channel configuration, the CloudEvent
+ * attributes are written as {@code ce_*} record headers following the CloudEvents Kafka protocol
+ * binding, the trace context as a W3C {@code traceparent} header, and only {@code data} as the
+ * value. Consumers can then route or filter on headers without parsing the payload.
  */
 public class CloudEventSerializer implements Serializer<CloudEvent<?>> {
 
+    /** Channel attribute selecting the content mode: {@code structured} (default) or binary. */
+    public static final String CONTENT_MODE_CONFIG = "cloudevents.mode";
+
+    static final String JSON_CONTENT_TYPE = "application/json";
+
     private final ObjectMapper mapper = new ObjectMapper();
 
+    private boolean binaryMode;
+
     @Override
     public void configure(Map<String, ?> configs, boolean isKey) {
-        // nothing to configure
+        Object mode = configs.get(CONTENT_MODE_CONFIG);
+        binaryMode = mode != null && "binary".equalsIgnoreCase(mode.toString().trim());
     }
 
     @Override
@@ -36,6 +51,19 @@ public class CloudEventSerializer implements Serializer<CloudEvent<?>> {
         }
     }
 
+    @Override
+    public byte[] serialize(String topic, Headers headers, CloudEvent<?> data) {
+        if (!binaryMode || data == null) {
+            return serialize(topic, data);
+        }
+        CloudEventHeaders.write(headers, data, JSON_CONTENT_TYPE);
+        try {
+            return mapper.writeValueAsBytes(data.getData());
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to serialize CloudEvent data", e);
+        }
+    }
+
     @Override
     public void close() {
         // nothing to close
@@ -0,0 +1,204 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.common.messaging;
+
+import com.datadoghq.stickerlandia.stickercatalogue.event.StickerAddedEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.event.StickerDeletedEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.event.StickerUpdatedEvent;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Set;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.message.SchemaStore;
+
+/**
+ * Avro schemas for sticker event data, and the mapping between them and the event classes.
+ *
+ * <p>The schemas in {@code src/main/resources/avro} follow the event data schemas in {@code
+ * docs/async_api.json}. The constant {@code eventName} and {@code eventVersion} properties are
+ * implied by the schema's name and namespace and are not sent. Timestamps are encoded as
+ * microseconds since the epoch rather than ISO strings, so anything finer than a microsecond is
+ * dropped.
+ */
+public final class StickerEventAvro {
+
+    private static final Map<String, Schema> SCHEMAS =
+            Map.of(
+                    StickerAddedEvent.EVENT_TYPE, load("StickerAddedEventData"),
+                    StickerUpdatedEvent.EVENT_TYPE, load("StickerUpdatedEventData"),
+                    StickerDeletedEvent.EVENT_TYPE, load("StickerDeletedEventData"));
+
+    /**
+     * In-process stand-in for a schema registry. It knows the schemas bundled with this service,
+     * plus any that serializers register with it.
+     */
+    private static final SchemaStore.Cache SHARED_STORE = new SchemaStore.Cache();
+
+    static {
+        SCHEMAS.values().forEach(SHARED_STORE::addSchema);
+    }
+
+    private StickerEventAvro() {}
+
+    /**
+     * Returns the schema of an event type's data.
+     *
+     * @param eventType the CloudEvent type
+     * @return the Avro schema
+     * @throws IllegalArgumentException if the type is unknown
+     */
+    public static Schema schema(String eventType) {
+        Schema schema = SCHEMAS.get(eventType);
+        if (schema == null) {
+            throw new IllegalArgumentException("No Avro schema for event type: " + eventType);
+        }
+        return schema;
+    }
+
+    /** Returns every event type that has a schema. */
+    public static Set<String> eventTypes() {
+        return SCHEMAS.keySet();
+    }
+
+    /**
+     * Returns the schema store to resolve writer schemas with.
+     *
+     * @param configured a {@link SchemaStore}, the name of a class implementing it, or null for the
+     *     shared in-process store
+     * @return the schema store
+     */
+    public static SchemaStore schemaStore(Object configured) {
+        return switch (configured) {
+            case null -> SHARED_STORE;
+            case SchemaStore store -> store;
+            case String className -> {
+                try {
+                    yield (SchemaStore)
+                            Class.forName(
+                                            className.trim(),
+                                            true,
+                                            Thread.currentThread().getContextClassLoader())
+                                    .getDeclaredConstructor()
+                                    .newInstance();
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalArgumentException(
+                            "Cannot create schema store " + className, e);
+                }
+            }
+            default ->
+                    throw new IllegalArgumentException(
+                            "Not a schema store: " + configured.getClass().getName());
+        };
+    }
+
+    /**
+     * Converts event data to a record of its type's schema.
+     *
+     * @param eventType the CloudEvent type
+     * @param data the event data
+     * @return the record
+     */
+    public static GenericRecord toRecord(String eventType, Object data) {
+        GenericData.Record record = new GenericData.Record(schema(eventType));
+        switch (data) {
+            case StickerAddedEvent added -> {
+                record.put("stickerId", added.getStickerId());
+                record.put("name", added.getName());
+                record.put("description", added.getDescription());
+                record.put("category", added.getCategory());
+                record.put("addedAt", toMicros(added.getAddedAt()));
+            }
+            case StickerUpdatedEvent updated -> {
+                record.put("stickerId", updated.getStickerId());
+                record.put("name", updated.getName());
+                record.put("description", updated.getDescription());
+                record.put("category", updated.getCategory());
+                record.put("updatedAt", toMicros(updated.getUpdatedAt()));
+            }
+            case StickerDeletedEvent deleted -> {
+                record.put("stickerId", deleted.getStickerId());
+                record.put("name", deleted.getName());
+                record.put("deletedAt", toMicros(deleted.getDeletedAt()));
+            }
+            default ->
+                    throw new IllegalArgumentException(
+                            "Not sticker event data: " + data.getClass().getName());
+        }
+        return record;
+    }
+
+    /**
+     * Converts a record back to event data.
+     *
+     * @param eventType the CloudEvent type
+     * @param record a record of the type's schema, or of a compatible writer schema resolved to it
+     * @return the event data
+     */
+    public static Object fromRecord(String eventType, GenericRecord record) {
+        return switch (eventType) {
+            case StickerAddedEvent.EVENT_TYPE -> {
+                StickerAddedEvent added =
+                        new StickerAddedEvent(
+                                string(record, "stickerId"),
+                                string(record, "name"),
+                                string(record, "description"),
+                                string(record, "category"));
+                added.setAddedAt(fromMicros(record.get("addedAt")));
+                yield added;
+            }
+            case StickerUpdatedEvent.EVENT_TYPE -> {
+                StickerUpdatedEvent updated =
+                        new StickerUpdatedEvent(
+                                string(record, "stickerId"),
+                                string(record, "name"),
+                                string(record, "description"),
+                                string(record, "category"));
+                updated.setUpdatedAt(fromMicros(record.get("updatedAt")));
+                yield updated;
+            }
+            case StickerDeletedEvent.EVENT_TYPE -> {
+                StickerDeletedEvent deleted =
+                        new StickerDeletedEvent(
+                                string(record, "stickerId"), string(record, "name"));
+                deleted.setDeletedAt(fromMicros(record.get("deletedAt")));
+                yield deleted;
+            }
+            default -> throw new IllegalArgumentException("Unknown event type: " + eventType);
+        };
+    }
+
+    private static Schema load(String name) {
+        try (InputStream in =
+                StickerEventAvro.class.getResourceAsStream("/avro/" + name + ".avsc")) {
+            if (in == null) {
+                throw new IllegalStateException("Missing Avro schema " + name);
+            }
+            return new Schema.Parser().parse(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read Avro schema " + name, e);
+        }
+    }
+
+    private static String string(GenericRecord record, String field) {
+        Object value = record.get(field);
+        return value == null ? null : value.toString();
+    }
+
+    private static long toMicros(String timestamp) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, Instant.parse(timestamp));
+    }
+
+    private static Instant fromMicros(Object micros) {
+        return Instant.EPOCH.plus((Long) micros, ChronoUnit.MICROS);
+    }
+}
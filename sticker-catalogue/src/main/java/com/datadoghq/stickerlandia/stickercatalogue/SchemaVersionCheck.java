@@ -0,0 +1,66 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue;
+
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.interceptor.Interceptor;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationInfoService;
+import org.jboss.logging.Logger;
+
+/**
+ * Refuses to start a serving replica against a database that is missing migrations.
+ *
+ * <p>Only runs when {@code quarkus.flyway.migrate-at-start} is off, i.e. when migrations are left
+ * to the {@code migrate} command, and the sticker store is Postgres. It reads the schema history
+ * once and compares it with the migrations on the classpath, which is much cheaper than migrating
+ * or validating the schema. Failing startup leaves the replica to be restarted until the migration
+ * job has finished.
+ */
+@ApplicationScoped
+public class SchemaVersionCheck {
+
+    private static final Logger LOG = Logger.getLogger(SchemaVersionCheck.class);
+
+    @Inject Instance<Flyway> flyway;
+
+    @ConfigProperty(name = "quarkus.flyway.migrate-at-start", defaultValue = "false")
+    boolean migrateAtStart;
+
+    @ConfigProperty(name = "sticker.store", defaultValue = "postgres")
+    String store;
+
+    // Before anything else that observes startup touches the database
+    void onStart(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEvent event) {
+        if (migrateAtStart || !"postgres".equals(store) || !flyway.isResolvable()) {
+            return;
+        }
+
+        MigrationInfoService info = flyway.get().info();
+        MigrationInfo current = info.current();
+        String version = current != null ? current.getVersion().toString() : "empty";
+        MigrationInfo[] pending = info.pending();
+        if (pending.length > 0) {
+            throw new IllegalStateException(
+                    "Database schema is at version "
+                            + version
+                            + " but "
+                            + pending.length
+                            + " migrations up to version "
+                            + pending[pending.length - 1].getVersion()
+                            + " are pending; run the migrate command first");
+        }
+        LOG.infof("Database schema is at version %s", version);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue;
+
+import io.quarkus.runtime.Quarkus;
+import io.quarkus.runtime.QuarkusApplication;
+import io.quarkus.runtime.annotations.QuarkusMain;
+import java.util.Map;
+import org.jboss.logging.Logger;
+
+/**
+ * Entry point of the service.
+ *
+ * <p>With no arguments the service starts and serves requests. With {@code migrate} it applies the
+ * Flyway migrations and exits, without listening for requests, seeding or starting background work,
+ * for use as a Kubernetes init job or one-off task ahead of a rollout. Serving replicas can then
+ * run with the {@code external-migrations} profile, which neither migrates nor validates the
+ * schema, and only check at startup that no migration is pending (see {@link SchemaVersionCheck}).
+ */
+@QuarkusMain
+public class StickerCatalogueMain implements QuarkusApplication {
+
+    private static final Logger LOG = Logger.getLogger(StickerCatalogueMain.class);
+
+    static final String MIGRATE = "migrate";
+
+    /**
+     * Starts the service, or runs the command given as the first argument.
+     *
+     * @param args the command line arguments
+     */
+    public static void main(String... args) {
+        commandProperties(args).forEach(System::setProperty);
+        Quarkus.run(StickerCatalogueMain.class, args);
+    }
+
+    /**
+     * Returns the configuration the command needs set before Quarkus starts.
+     *
+     * @param args the command line arguments
+     * @return the properties to set, empty when serving
+     */
+    static Map<String, String> commandProperties(String... args) {
+        if (!isMigrate(args)) {
+            return Map.of();
+        }
+        // Flyway migrates while Quarkus starts; everything else that would start is switched off
+        return Map.of(
+                "quarkus.flyway.migrate-at-start", "true",
+                "quarkus.http.host-enabled", "false",
+                "quarkus.scheduler.enabled", "false",
+                "sticker.events.outbox.notify.enabled", "false",
+                "sticker.seed.enabled", "false");
+    }
+
+    @Override
+    public int run(String... args) {
+        if (isMigrate(args)) {
+            LOG.info("Database migrations applied");
+            return 0;
+        }
+        if (args.length > 0) {
+            LOG.errorf("Unknown command %s, expected none or %s", args[0], MIGRATE);
+            return 2;
+        }
+        Quarkus.waitForExit();
+        return 0;
+    }
+
+    private static boolean isMigrate(String... args) {
+        return args.length > 0 && MIGRATE.equals(args[0]);
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue;
+
+import com.datadoghq.stickerlandia.stickercatalogue.dto.StickerChangeNotification;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
+import io.smallrye.mutiny.operators.multi.processors.UnicastProcessor;
+import io.smallrye.mutiny.subscription.Cancellable;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Fans sticker changes out to live subscribers, such as the SSE stream.
+ *
+ * <p>Changes are published once their transaction commits, through one shared {@link
+ * BroadcastProcessor}. Each subscriber reads from its own bounded buffer; when a slow subscriber's
+ * buffer is full, its oldest pending notification is dropped to make room, so one slow reader
+ * neither holds up the others nor grows without limit. The number of subscribers is capped.
+ */
+@ApplicationScoped
+public class StickerChangeBroadcaster {
+
+    private static final Logger LOG = Logger.getLogger(StickerChangeBroadcaster.class);
+
+    @Inject TransactionSynchronizationRegistry transactions;
+
+    @Inject Meter meter;
+
+    @ConfigProperty(name = "sticker.stream.max-subscribers", defaultValue = "1000")
+    int maxSubscribers;
+
+    @ConfigProperty(name = "sticker.stream.buffer-size", defaultValue = "256")
+    int bufferSize;
+
+    private final BroadcastProcessor<StickerChangeNotification> broadcast =
+            BroadcastProcessor.create();
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private LongCounter dropped;
+
+    @PostConstruct
+    void init() {
+        dropped =
+                meter.counterBuilder("sticker.stream.dropped")
+                        .setDescription("Change notifications dropped for slow subscribers")
+                        .setUnit("{notification}")
+                        .build();
+        meter.gaugeBuilder("sticker.stream.subscribers")
+                .setDescription("Open change stream subscriptions")
+                .setUnit("{subscriber}")
+                .ofLongs()
+                .buildWithCallback(measurement -> measurement.record(subscribers.get()));
+    }
+
+    /**
+     * Publishes a change once the current transaction commits, or straight away outside one. Does
+     * nothing when nobody is subscribed.
+     *
+     * @param notification the change to publish
+     */
+    public void publishAfterCommit(StickerChangeNotification notification) {
+        if (subscribers.get() == 0) {
+            return;
+        }
+        if (transactions.getTransactionStatus() == Status.STATUS_NO_TRANSACTION) {
+            publish(notification);
+            return;
+        }
+        transactions.registerInterposedSynchronization(
+                new Synchronization() {
+                    @Override
+                    public void beforeCompletion() {}
+
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (status == Status.STATUS_COMMITTED) {
+                            publish(notification);
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Opens a subscription to changes published from now on.
+     *
+     * @return the subscriber's stream; cancelling it frees the subscription
+     * @throws IllegalStateException if the subscriber limit has been reached
+     */
+    public Multi<StickerChangeNotification> subscribe() {
+        if (subscribers.incrementAndGet() > maxSubscribers) {
+            subscribers.decrementAndGet();
+            throw new IllegalStateException(
+                    "The change stream is at its limit of " + maxSubscribers + " subscribers");
+        }
+
+        UnicastProcessor<StickerChangeNotification> buffer =
+                UnicastProcessor.create(new DropOldestQueue<>(bufferSize, dropped), null);
+        // Unbounded demand from the broadcast; the bounded buffer absorbs the subscriber's pace
+        Cancellable upstream = broadcast.subscribe().with(buffer::onNext);
+        AtomicInteger released = new AtomicInteger();
+        return buffer.onTermination()
+                .invoke(
+                        () -> {
+                            if (released.getAndIncrement() == 0) {
+                                upstream.cancel();
+                                subscribers.decrementAndGet();
+                                LOG.debug("Change stream subscriber left");
+                            }
+                        });
+    }
+
+    /** Returns the number of open subscriptions. */
+    public int subscriberCount() {
+        return subscribers.get();
+    }
+
+    private synchronized void publish(StickerChangeNotification notification) {
+        broadcast.onNext(notification);
+    }
+
+    /** A bounded queue that makes room for a new item by discarding the oldest one. */
+    private static final class DropOldestQueue<T> extends AbstractQueue<T> {
+
+        private final ArrayDeque<T> items;
+        private final int capacity;
+        private final LongCounter dropped;
+
+        DropOldestQueue(int capacity, LongCounter dropped) {
+            this.items = new ArrayDeque<>(capacity);
+            this.capacity = capacity;
+            this.dropped = dropped;
+        }
+
+        @Override
+        public synchronized boolean offer(T item) {
+            if (items.size() == capacity) {
+                items.pollFirst();
+                dropped.add(1);
+            }
+            return items.offerLast(item);
+        }
+
+        @Override
+        public synchronized T poll() {
+            return items.pollFirst();
+        }
+
+        @Override
+        public synchronized T peek() {
+            return items.peekFirst();
+        }
+
+        @Override
+        public synchronized int size() {
+            return items.size();
+        }
+
+        @Override
+        public synchronized Iterator<T> iterator() {
+            return new ArrayList<>(items).iterator();
+        }
+    }
+}
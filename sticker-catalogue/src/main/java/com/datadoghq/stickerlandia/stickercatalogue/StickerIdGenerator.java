@@ -0,0 +1,103 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Generates time-ordered sticker IDs in the style of ULID / UUIDv7.
+ *
+ * <p>Each ID carries 128 bits: a 48-bit millisecond timestamp, a 16-bit sequence that keeps IDs
+ * generated within the same millisecond strictly increasing, and 64 random bits so that replicas
+ * generating IDs in the same millisecond do not collide. The bits are rendered as 26 lowercase
+ * Crockford base32 characters, so string order matches creation order and inserts into the primary
+ * key index stay append-only.
+ *
+ * <p>The generator is lock-free: the timestamp and sequence live in a single {@link AtomicLong}
+ * advanced with a CAS loop, and randomness comes from {@link ThreadLocalRandom} rather than {@code
+ * SecureRandom}.
+ */
+@ApplicationScoped
+public class StickerIdGenerator {
+
+    static final String PREFIX = "sticker-";
+    static final int ENCODED_LENGTH = 26;
+
+    private static final char[] ALPHABET = "0123456789abcdefghjkmnpqrstvwxyz".toCharArray();
+    private static final int SEQUENCE_BITS = 16;
+
+    private final AtomicLong lastTimeAndSequence = new AtomicLong();
+    private final LongSupplier clock;
+
+    /** Creates a generator backed by the system clock. */
+    public StickerIdGenerator() {
+        this(System::currentTimeMillis);
+    }
+
+    StickerIdGenerator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Generates the next sticker ID.
+     *
+     * @return a new, unique sticker ID of the form {@code sticker-<26 base32 chars>}
+     */
+    public String nextId() {
+        return nextId(PREFIX);
+    }
+
+    /**
+     * Generates the next time-ordered ID with a custom prefix, e.g. for reservation holds.
+     *
+     * @param prefix the prefix to prepend to the encoded ID
+     * @return a new, unique ID of the form {@code <prefix><26 base32 chars>}
+     */
+    public String nextId(String prefix) {
+        return encode(prefix, nextTimeAndSequence(), ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Returns the next timestamp/sequence pair, which is always greater than any previously
+     * returned value. If more than 2^16 IDs are requested within one millisecond, the sequence
+     * carries into the timestamp, borrowing from the next millisecond rather than going backwards.
+     */
+    private long nextTimeAndSequence() {
+        long now = clock.getAsLong() << SEQUENCE_BITS;
+        while (true) {
+            long previous = lastTimeAndSequence.get();
+            long next = Math.max(now, previous + 1);
+            if (lastTimeAndSequence.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+
+    private static String encode(String prefix, long high, long low) {
+        char[] out = new char[prefix.length() + ENCODED_LENGTH];
+        prefix.getChars(0, prefix.length(), out, 0);
+
+        // Emit 5-bit groups from least to most significant, filling the buffer from the end.
+        int position = out.length;
+        for (int i = 0; i < ENCODED_LENGTH; i++) {
+            int shift = i * 5;
+            long bits;
+            if (shift + 5 <= Long.SIZE) {
+                bits = low >>> shift;
+            } else if (shift >= Long.SIZE) {
+                bits = high >>> (shift - Long.SIZE);
+            } else {
+                bits = (low >>> shift) | (high << (Long.SIZE - shift));
+            }
+            out[--position] = ALPHABET[(int) (bits & 0x1F)];
+        }
+        return new String(out);
+    }
+}
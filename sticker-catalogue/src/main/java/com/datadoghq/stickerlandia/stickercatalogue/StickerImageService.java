@@ -27,6 +27,15 @@ public class StickerImageService {
 
     @Inject S3Client s3Client;
 
+    /**
+     * Checks that the image bucket exists and is accessible, with a single HEAD request.
+     *
+     * @throws software.amazon.awssdk.core.exception.SdkException if it is not
+     */
+    public void checkBucket() {
+        s3Client.headBucket(request -> request.bucket(bucketName));
+    }
+
     /**
      * Uploads an image to S3 and returns the storage key.
      *
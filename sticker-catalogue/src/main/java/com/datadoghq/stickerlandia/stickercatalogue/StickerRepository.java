@@ -10,21 +10,29 @@ import com.datadoghq.stickerlandia.common.dto.dto.PagedResponse;
 import com.datadoghq.stickerlandia.stickercatalogue.dto.CreateStickerRequest;
 import com.datadoghq.stickerlandia.stickercatalogue.dto.CreateStickerResponse;
 import com.datadoghq.stickerlandia.stickercatalogue.dto.GetAllStickersResponse;
+import com.datadoghq.stickerlandia.stickercatalogue.dto.StickerChange;
+import com.datadoghq.stickerlandia.stickercatalogue.dto.StickerChangeNotification;
+import com.datadoghq.stickerlandia.stickercatalogue.dto.StickerChangesResponse;
 import com.datadoghq.stickerlandia.stickercatalogue.dto.StickerDTO;
 import com.datadoghq.stickerlandia.stickercatalogue.dto.StickerImageUploadResponse;
+import com.datadoghq.stickerlandia.stickercatalogue.dto.StickerStockResponse;
 import com.datadoghq.stickerlandia.stickercatalogue.dto.UpdateStickerRequest;
 import com.datadoghq.stickerlandia.stickercatalogue.entity.Sticker;
-import com.datadoghq.stickerlandia.stickercatalogue.messaging.StickerEventPublisher;
+import com.datadoghq.stickerlandia.stickercatalogue.entity.StickerTombstone;
+import com.datadoghq.stickerlandia.stickercatalogue.messaging.StickerEventOutbox;
+import com.datadoghq.stickerlandia.stickercatalogue.store.StickerStore;
 import io.quarkus.panache.common.Sort;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.persistence.OptimisticLockException;
 import jakarta.persistence.PersistenceException;
 import jakarta.transaction.Transactional;
 import java.io.InputStream;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
-import java.util.UUID;
 import java.util.stream.Collectors;
 import org.hibernate.exception.ConstraintViolationException;
 
@@ -32,17 +40,32 @@ import org.hibernate.exception.ConstraintViolationException;
 @ApplicationScoped
 public class StickerRepository {
 
-    @Inject StickerEventPublisher eventPublisher;
+    /** The most changes one change feed call returns. */
+    static final int MAX_CHANGES = 1000;
+
+    @Inject StickerStore store;
+
+    @Inject StickerEventOutbox eventOutbox;
+
+    @Inject StickerIdGenerator idGenerator;
+
+    @Inject StickerStockShardRepository stockShards;
+
+    @Inject StickerChangeBroadcaster changeBroadcaster;
 
     /**
      * Creates a new sticker.
      *
      * @param request the sticker creation request
      * @return response containing the created sticker details
+     * @throws IllegalArgumentException if the requested stock sharding is invalid
      */
     @Transactional
     public CreateStickerResponse createSticker(CreateStickerRequest request) {
-        String stickerId = "sticker-" + UUID.randomUUID().toString().substring(0, 8);
+        if (request.getStockShardCount() != null) {
+            checkShardingSupported(request.getStockShardCount());
+        }
+        String stickerId = idGenerator.nextId();
 
         Sticker sticker =
                 new Sticker(
@@ -51,11 +74,16 @@ public class StickerRepository {
                         request.getStickerDescription(),
                         request.getStickerQuantityRemaining());
 
-        sticker.persist();
+        store.insert(sticker);
+
+        if (request.getStockShardCount() != null) {
+            applyStock(sticker, null, request.getStockShardCount());
+        }
 
-        // Publish sticker added event
-        eventPublisher.publishStickerAdded(
+        // Record sticker added event in the outbox
+        eventOutbox.publishStickerAdded(
                 sticker.getStickerId(), sticker.getName(), sticker.getDescription());
+        notifyChange(StickerChangeNotification.Type.CREATED, sticker);
 
         CreateStickerResponse response = new CreateStickerResponse();
         response.setStickerId(sticker.getStickerId());
@@ -72,12 +100,12 @@ public class StickerRepository {
      * @return response containing paginated stickers
      */
     public GetAllStickersResponse getAllStickers(int page, int size) {
-        var query = Sticker.<Sticker>findAll(Sort.by("createdAt").descending()).page(page, size);
-
         final List<StickerDTO> stickerDtoList =
-                query.stream().map(this::convertToDto).collect(Collectors.toList());
+                store.findPage(page, size).stream()
+                        .map(this::convertToDto)
+                        .collect(Collectors.toList());
 
-        long totalCount = Sticker.count();
+        long totalCount = store.count();
         int totalPages = (int) Math.ceil((double) totalCount / size);
 
         PagedResponse<StickerDTO> pagination = new PagedResponse<>();
@@ -99,7 +127,7 @@ public class StickerRepository {
      * @return the sticker entity, or null if not found
      */
     public Sticker findById(String stickerId) {
-        return Sticker.findById(stickerId);
+        return store.findById(stickerId);
     }
 
     /**
@@ -136,6 +164,8 @@ public class StickerRepository {
      * @param stickerId the ID of the sticker to update
      * @param request the update request
      * @return response containing the updated sticker details, or null if not found
+     * @throws IllegalArgumentException if the requested stock sharding is invalid
+     * @throws jakarta.persistence.OptimisticLockException if the sticker changed since it was read
      */
     @Transactional
     public StickerDTO updateSticker(String stickerId, UpdateStickerRequest request) {
@@ -150,20 +180,182 @@ public class StickerRepository {
         if (request.getStickerDescription() != null) {
             sticker.setDescription(request.getStickerDescription());
         }
-        if (request.getStickerQuantityRemaining() != null) {
-            sticker.setStickerQuantityRemaining(request.getStickerQuantityRemaining());
+        if (request.getStickerQuantityRemaining() != null || request.getStockShardCount() != null) {
+            applyStock(
+                    sticker, request.getStickerQuantityRemaining(), request.getStockShardCount());
         }
 
         sticker.setUpdatedAt(Instant.now());
-        sticker.persist();
+        store.save(sticker);
 
-        // Publish sticker updated event
-        eventPublisher.publishStickerUpdated(
+        // Record sticker updated event in the outbox
+        eventOutbox.publishStickerUpdated(
                 sticker.getStickerId(), sticker.getName(), sticker.getDescription());
+        notifyChange(StickerChangeNotification.Type.UPDATED, sticker);
 
         return toStickerMetadata(sticker);
     }
 
+    /**
+     * Applies a partial update that only sets the fields present in the request and bumps the
+     * version, in one atomic step of the store. When {@code expectedVersion} is given the update
+     * only applies if the stored version still matches, so concurrent writers fail fast instead of
+     * overwriting each other.
+     *
+     * @param stickerId the ID of the sticker to update
+     * @param request the fields to change; null fields are left as they are
+     * @param expectedVersion the version the caller last saw, or null to update unconditionally
+     * @return the updated sticker, or null if not found
+     * @throws IllegalArgumentException if the request changes nothing, or changes stock that can
+     *     only be redistributed through a full update
+     * @throws OptimisticLockException if the sticker has been modified since {@code
+     *     expectedVersion}
+     */
+    @Transactional
+    public StickerDTO patchSticker(
+            String stickerId, UpdateStickerRequest request, Long expectedVersion) {
+        if (request.getStockShardCount() != null) {
+            throw new IllegalArgumentException(
+                    "Stock sharding cannot be changed with PATCH, use PUT instead");
+        }
+        if (request.getStickerName() == null
+                && request.getStickerDescription() == null
+                && request.getStickerQuantityRemaining() == null) {
+            throw new IllegalArgumentException("PATCH request must change at least one field");
+        }
+
+        Sticker patched =
+                store.patch(
+                        stickerId,
+                        request.getStickerName(),
+                        request.getStickerDescription(),
+                        request.getStickerQuantityRemaining(),
+                        expectedVersion);
+        if (patched == null) {
+            // Only the failure path pays for a second lookup to work out why
+            Sticker current = findById(stickerId);
+            if (current == null) {
+                return null;
+            }
+            if (expectedVersion != null && current.getVersion() != expectedVersion) {
+                throw new OptimisticLockException(
+                        "Sticker "
+                                + stickerId
+                                + " has been modified since version "
+                                + expectedVersion);
+            }
+            throw new IllegalArgumentException(
+                    "The quantity of a sharded sticker cannot be changed with PATCH, use PUT instead");
+        }
+
+        eventOutbox.publishStickerUpdated(
+                patched.getStickerId(), patched.getName(), patched.getDescription());
+        notifyChange(StickerChangeNotification.Type.UPDATED, patched);
+        return toStickerMetadata(patched);
+    }
+
+    /**
+     * Lists the changes to the catalogue after a change token, oldest first. A sticker that changed
+     * several times appears once, at its latest change, with its current state; a deleted sticker
+     * appears as a tombstone.
+     *
+     * <p>Changes are ordered by the transaction that made them, then by change number. Only changes
+     * from transactions older than every transaction still running are returned, so a transaction
+     * that commits late can never land behind a token already handed out. A transaction left open
+     * holds back the changes after it until it ends.
+     *
+     * @param since the {@code nextToken} of the previous call, or null to start from the beginning
+     * @param limit the most changes to return
+     * @return the changes and the token to continue from
+     * @throws IllegalArgumentException if the token is malformed or the limit is out of range
+     * @throws UnsupportedOperationException if the store does not keep the change history
+     */
+    public StickerChangesResponse getChanges(String since, int limit) {
+        requireTransactionalStore("The change feed");
+        ChangePosition after = ChangePosition.parse(since);
+        if (limit < 1 || limit > MAX_CHANGES) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_CHANGES);
+        }
+
+        // Taken before the reads, so every transaction below it is visible to them
+        long committedBelow =
+                ((Number)
+                                Sticker.getEntityManager()
+                                        .createNativeQuery("SELECT " + Sticker.SNAPSHOT_XMIN)
+                                        .getSingleResult())
+                        .longValue();
+
+        // One more than asked from each side tells whether anything is left after this page
+        String afterPosition =
+                "changeXid < ?1 and (changeXid > ?2 or (changeXid = ?2 and changeSeq > ?3))";
+        Sort positionOrder = Sort.by("changeXid").and("changeSeq");
+        List<Sticker> upserts =
+                Sticker.<Sticker>find(
+                                afterPosition,
+                                positionOrder,
+                                committedBelow,
+                                after.xid(),
+                                after.seq())
+                        .range(0, limit)
+                        .list();
+        List<StickerTombstone> deletes =
+                StickerTombstone.<StickerTombstone>find(
+                                afterPosition,
+                                positionOrder,
+                                committedBelow,
+                                after.xid(),
+                                after.seq())
+                        .range(0, limit)
+                        .list();
+
+        List<StickerChange> changes = new ArrayList<>();
+        ChangePosition nextToken = after;
+        boolean hasMore = false;
+        int u = 0;
+        int d = 0;
+        while (u < upserts.size() || d < deletes.size()) {
+            ChangePosition upsertAt =
+                    u < upserts.size()
+                            ? new ChangePosition(
+                                    upserts.get(u).getChangeXid(), upserts.get(u).getChangeSeq())
+                            : null;
+            ChangePosition deleteAt =
+                    d < deletes.size()
+                            ? new ChangePosition(
+                                    deletes.get(d).getChangeXid(), deletes.get(d).getChangeSeq())
+                            : null;
+            boolean takeUpsert =
+                    deleteAt == null || (upsertAt != null && upsertAt.compareTo(deleteAt) < 0);
+            if (changes.size() == limit) {
+                hasMore = true;
+                break;
+            }
+            ChangePosition position;
+            StickerChange change = new StickerChange();
+            if (takeUpsert) {
+                Sticker sticker = upserts.get(u++);
+                position = upsertAt;
+                change.setChangeType(StickerChange.ChangeType.UPSERT);
+                change.setStickerId(sticker.getStickerId());
+                change.setSticker(toStickerMetadata(sticker));
+            } else {
+                StickerTombstone tombstone = deletes.get(d++);
+                position = deleteAt;
+                change.setChangeType(StickerChange.ChangeType.DELETE);
+                change.setStickerId(tombstone.getStickerId());
+            }
+            change.setChangeToken(position.toString());
+            changes.add(change);
+            nextToken = position;
+        }
+
+        StickerChangesResponse response = new StickerChangesResponse();
+        response.setChanges(changes);
+        response.setNextToken(nextToken.toString());
+        response.setHasMore(hasMore);
+        return response;
+    }
+
     /**
      * Uploads an image for a sticker.
      *
@@ -200,25 +392,245 @@ public class StickerRepository {
         if (sticker != null) {
             sticker.setImageKey(imageKey);
             sticker.setUpdatedAt(Instant.now());
-            sticker.persist();
+            store.save(sticker);
+            notifyChange(StickerChangeNotification.Type.UPDATED, sticker);
         }
     }
 
-    private StickerDTO toStickerMetadata(Sticker sticker) {
+    /**
+     * Atomically claims one unit of stock for a sticker.
+     *
+     * <p>The decrement happens in a single conditional {@code UPDATE ... RETURNING} statement, so
+     * concurrent claims never lose updates or oversell, and no row lock is held beyond the
+     * statement itself. Unlimited stickers are never written to.
+     *
+     * @param stickerId the ID of the sticker to claim
+     * @return the remaining stock after the claim, or null if the sticker was not found
+     * @throws IllegalStateException if the sticker has no stock left
+     */
+    @Transactional
+    public StickerStockResponse claimSticker(String stickerId) {
+        return claimStock(stickerId);
+    }
+
+    /**
+     * Atomically returns one unit of stock for a sticker, e.g. when an award is revoked. Unlimited
+     * stickers are never written to.
+     *
+     * @param stickerId the ID of the sticker to release
+     * @return the remaining stock after the release, or null if the sticker was not found
+     */
+    @Transactional
+    public StickerStockResponse releaseSticker(String stickerId) {
+        return releaseStock(stickerId, 1);
+    }
+
+    /**
+     * Claims one unit of stock within the caller's transaction.
+     *
+     * @param stickerId the ID of the sticker to claim
+     * @return the remaining stock after the claim, or null if the sticker was not found
+     * @throws IllegalStateException if the sticker has no stock left
+     */
+    StickerStockResponse claimStock(String stickerId) {
+        Integer remaining = store.claim(stickerId);
+        if (remaining != null) {
+            return quantityChanged(stickerId, remaining);
+        }
+
+        // Nothing was updated: the sticker is missing, unlimited, sharded, or sold out
+        Sticker sticker = findById(stickerId);
+        if (sticker == null) {
+            return null;
+        }
+        if (sticker.hasUnlimitedQuantity()) {
+            return toStockResponse(stickerId, -1);
+        }
+        if (sticker.hasShardedStock()) {
+            Integer total = stockShards.claim(stickerId, sticker.getStockShardCount());
+            if (total != null) {
+                return quantityChanged(stickerId, total);
+            }
+        }
+        throw new IllegalStateException("Sticker " + stickerId + " is out of stock");
+    }
+
+    /**
+     * Returns {@code amount} units of stock within the caller's transaction.
+     *
+     * @param stickerId the ID of the sticker to release
+     * @param amount the number of units to return
+     * @return the remaining stock after the release, or null if the sticker was not found
+     */
+    StickerStockResponse releaseStock(String stickerId, int amount) {
+        Integer remaining = store.release(stickerId, amount);
+        if (remaining != null) {
+            return quantityChanged(stickerId, remaining);
+        }
+
+        // Nothing was updated: the sticker is missing, unlimited, or sharded
+        Sticker sticker = findById(stickerId);
+        if (sticker == null) {
+            return null;
+        }
+        if (sticker.hasShardedStock()) {
+            return quantityChanged(
+                    stickerId,
+                    stockShards.release(stickerId, sticker.getStockShardCount(), amount));
+        }
+        return toStockResponse(stickerId, -1);
+    }
+
+    /**
+     * Applies a new quantity and/or shard count to a sticker. When the sticker is or becomes
+     * sharded, the current stock is summed under lock and redistributed across the new shards.
+     */
+    private void applyStock(Sticker sticker, Integer newQuantity, Integer newShardCount) {
+        if (newShardCount != null) {
+            checkShardingSupported(newShardCount);
+        }
+        int shardCount =
+                newShardCount != null
+                        ? stockShards.normalizeShardCount(newShardCount)
+                        : sticker.getStockShardCount();
+
+        if (!sticker.hasShardedStock() && shardCount == 0) {
+            if (newQuantity != null) {
+                sticker.setStickerQuantityRemaining(newQuantity);
+            }
+            return;
+        }
+
+        int quantity;
+        if (newQuantity != null) {
+            quantity = newQuantity;
+        } else if (sticker.hasShardedStock()) {
+            quantity = stockShards.lockAndSum(sticker.getStickerId());
+        } else if (sticker.getStickerQuantityRemaining() != null) {
+            quantity = sticker.getStickerQuantityRemaining();
+        } else {
+            quantity = -1;
+        }
+        if (quantity < 0 && shardCount > 0) {
+            throw new IllegalArgumentException("Unlimited stickers cannot have sharded stock");
+        }
+
+        stockShards.distribute(sticker.getStickerId(), quantity, shardCount);
+        sticker.setStockShardCount(shardCount);
+        sticker.setStickerQuantityRemaining(quantity);
+    }
+
+    /**
+     * A place in the change feed: the transaction that made a change, then its change number.
+     * Tokens are written as {@code <xid>.<seq>}.
+     */
+    private record ChangePosition(long xid, long seq) implements Comparable<ChangePosition> {
+
+        private static final Comparator<ChangePosition> ORDER =
+                Comparator.comparingLong(ChangePosition::xid)
+                        .thenComparingLong(ChangePosition::seq);
+
+        static ChangePosition parse(String token) {
+            if (token == null || token.isBlank()) {
+                return new ChangePosition(0, 0);
+            }
+            String[] parts = token.trim().split("\\.", -1);
+            try {
+                if (parts.length == 2) {
+                    long xid = Long.parseLong(parts[0]);
+                    long seq = Long.parseLong(parts[1]);
+                    if (xid >= 0 && seq >= 0) {
+                        return new ChangePosition(xid, seq);
+                    }
+                }
+            } catch (NumberFormatException e) {
+                // Fall through to the error below
+            }
+            throw new IllegalArgumentException("Invalid change token: " + token);
+        }
+
+        @Override
+        public int compareTo(ChangePosition other) {
+            return ORDER.compare(this, other);
+        }
+
+        @Override
+        public String toString() {
+            return xid + "." + seq;
+        }
+    }
+
+    /**
+     * Fails unless the store keeps stickers in Postgres, which a feature builds on.
+     *
+     * @param feature the feature, as the start of a sentence
+     * @throws UnsupportedOperationException if the store is not transactional
+     */
+    void requireTransactionalStore(String feature) {
+        if (!store.isTransactional()) {
+            throw new UnsupportedOperationException(
+                    feature + " is not available with the in-memory sticker store");
+        }
+    }
+
+    private void checkShardingSupported(int shardCount) {
+        if (shardCount > 0 && !store.isTransactional()) {
+            throw new IllegalArgumentException(
+                    "Sharded stock is not available with the in-memory sticker store");
+        }
+    }
+
+    /** Notifies live subscribers of a stock change once it commits, and builds the response. */
+    private StickerStockResponse quantityChanged(String stickerId, int remaining) {
+        changeBroadcaster.publishAfterCommit(
+                new StickerChangeNotification(
+                        StickerChangeNotification.Type.QUANTITY_CHANGED,
+                        stickerId,
+                        null,
+                        remaining));
+        return toStockResponse(stickerId, remaining);
+    }
+
+    private void notifyChange(StickerChangeNotification.Type type, Sticker sticker) {
+        changeBroadcaster.publishAfterCommit(
+                new StickerChangeNotification(
+                        type,
+                        sticker.getStickerId(),
+                        sticker.getName(),
+                        sticker.getStickerQuantityRemaining()));
+    }
+
+    private StickerStockResponse toStockResponse(String stickerId, int remaining) {
+        StickerStockResponse response = new StickerStockResponse();
+        response.setStickerId(stickerId);
+        response.setStickerQuantityRemaining(remaining);
+        return response;
+    }
+
+    /**
+     * Maps a sticker entity to the metadata returned by the API.
+     *
+     * @param sticker the sticker entity
+     * @return the sticker metadata DTO
+     */
+    public static StickerDTO toStickerMetadata(Sticker sticker) {
         StickerDTO metadata = new StickerDTO();
         metadata.setStickerId(sticker.getStickerId());
         metadata.setStickerName(sticker.getName());
         metadata.setStickerDescription(sticker.getDescription());
         metadata.setStickerQuantityRemaining(sticker.getStickerQuantityRemaining());
+        metadata.setStockShardCount(
+                sticker.hasShardedStock() ? sticker.getStockShardCount() : null);
         metadata.setImagePath(buildImagePath(sticker.getStickerId()));
         metadata.setImageKey(sticker.getImageKey());
+        metadata.setVersion(sticker.getVersion());
         metadata.setCreatedAt(Date.from(sticker.getCreatedAt()));
         metadata.setUpdatedAt(
                 sticker.getUpdatedAt() != null ? Date.from(sticker.getUpdatedAt()) : null);
         return metadata;
     }
 
-    private String buildImagePath(String stickerId) {
+    private static String buildImagePath(String stickerId) {
         return "/api/stickers/v1/" + stickerId + "/image";
     }
 
@@ -259,10 +671,19 @@ public class StickerRepository {
         }
 
         try {
-            // Publish sticker deleted event before deletion
-            eventPublisher.publishStickerDeleted(sticker.getStickerId(), sticker.getName());
+            // Record sticker deleted event in the outbox before deletion
+            eventOutbox.publishStickerDeleted(sticker.getStickerId(), sticker.getName());
 
-            sticker.delete();
+            if (sticker.hasShardedStock()) {
+                stockShards.distribute(stickerId, 0, 0);
+            }
+            store.delete(sticker);
+            changeBroadcaster.publishAfterCommit(
+                    new StickerChangeNotification(
+                            StickerChangeNotification.Type.DELETED,
+                            stickerId,
+                            sticker.getName(),
+                            null));
             return true;
         } catch (PersistenceException e) {
             // If we can't delete because of a constraint violation, the
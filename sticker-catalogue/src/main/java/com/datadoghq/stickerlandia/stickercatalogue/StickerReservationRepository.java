@@ -0,0 +1,242 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue;
+
+import com.datadoghq.stickerlandia.stickercatalogue.dto.StickerReservationResponse;
+import com.datadoghq.stickerlandia.stickercatalogue.dto.StickerStockResponse;
+import com.datadoghq.stickerlandia.stickercatalogue.entity.StickerReservation;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.query.NativeQuery;
+import org.jboss.logging.Logger;
+
+/**
+ * Repository for time-limited stock reservations.
+ *
+ * <p>Reserving takes one unit of stock immediately, through the same atomic claim path as {@link
+ * StickerRepository#claimSticker}, and records a hold that expires after a TTL. Confirming deletes
+ * the hold and keeps the stock; cancelling deletes it and returns the stock. Holds that are neither
+ * confirmed nor cancelled in time are deleted by a background reaper, which returns their stock in
+ * small batches taken with {@code FOR UPDATE SKIP LOCKED} so that several replicas can reap at
+ * once. Every transition is a single-row delete, so a hold can only ever be confirmed, cancelled or
+ * reaped once.
+ */
+@ApplicationScoped
+public class StickerReservationRepository {
+
+    private static final Logger LOG = Logger.getLogger(StickerReservationRepository.class);
+
+    static final String RESERVATION_ID_PREFIX = "hold-";
+
+    private static final String REAP_EXPIRED_SQL =
+            "DELETE FROM sticker_reservations WHERE reservation_id IN ("
+                    + " SELECT reservation_id FROM sticker_reservations"
+                    + " WHERE expires_at <= :now ORDER BY expires_at"
+                    + " LIMIT :batchSize FOR UPDATE SKIP LOCKED)"
+                    + " RETURNING sticker_id";
+
+    @Inject EntityManager entityManager;
+
+    @Inject StickerRepository stickerRepository;
+
+    @Inject StickerIdGenerator idGenerator;
+
+    @Inject Meter meter;
+
+    @ConfigProperty(name = "sticker.reservations.default-ttl", defaultValue = "PT5M")
+    Duration defaultTtl;
+
+    @ConfigProperty(name = "sticker.reservations.max-ttl", defaultValue = "PT1H")
+    Duration maxTtl;
+
+    @ConfigProperty(name = "sticker.reservations.reaper.batch-size", defaultValue = "500")
+    int reaperBatchSize;
+
+    private final AtomicLong activeHolds = new AtomicLong();
+
+    private LongCounter reservedCounter;
+    private LongCounter confirmedCounter;
+    private LongCounter cancelledCounter;
+    private LongCounter expiredCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        reservedCounter = holdCounter("sticker.reservations.reserved", "Holds taken on stock");
+        confirmedCounter = holdCounter("sticker.reservations.confirmed", "Holds confirmed");
+        cancelledCounter = holdCounter("sticker.reservations.cancelled", "Holds cancelled");
+        expiredCounter =
+                holdCounter("sticker.reservations.expired", "Holds expired and returned to stock");
+        meter.gaugeBuilder("sticker.reservations.active")
+                .setDescription("Unconfirmed holds as of the last reaper run")
+                .setUnit("{hold}")
+                .ofLongs()
+                .buildWithCallback(measurement -> measurement.record(activeHolds.get()));
+    }
+
+    /**
+     * Reserves one unit of a sticker's stock.
+     *
+     * @param stickerId the ID of the sticker to reserve
+     * @param ttl how long to hold the stock for, or null for the configured default
+     * @return the new hold, or null if the sticker was not found
+     * @throws IllegalArgumentException if the TTL is not positive or exceeds the configured maximum
+     * @throws IllegalStateException if the sticker has no stock left
+     * @throws UnsupportedOperationException if the sticker store cannot hold reservations
+     */
+    @Transactional
+    public StickerReservationResponse reserve(String stickerId, Duration ttl) {
+        stickerRepository.requireTransactionalStore("Reservations");
+        Duration holdFor = ttl != null ? ttl : defaultTtl;
+        if (holdFor.isNegative() || holdFor.isZero() || holdFor.compareTo(maxTtl) > 0) {
+            throw new IllegalArgumentException(
+                    "Reservation TTL must be between 1 and " + maxTtl.toSeconds() + " seconds");
+        }
+
+        StickerStockResponse stock = stickerRepository.claimStock(stickerId);
+        if (stock == null) {
+            return null;
+        }
+
+        StickerReservation reservation =
+                new StickerReservation(
+                        idGenerator.nextId(RESERVATION_ID_PREFIX),
+                        stickerId,
+                        Instant.now().plus(holdFor));
+        reservation.persist();
+        reservedCounter.add(1);
+
+        StickerReservationResponse response = toResponse(stickerId, reservation.getReservationId());
+        response.setStickerQuantityRemaining(stock.getStickerQuantityRemaining());
+        response.setExpiresAt(reservation.getExpiresAt());
+        return response;
+    }
+
+    /**
+     * Confirms a hold, keeping its stock permanently taken.
+     *
+     * @param stickerId the ID of the reserved sticker
+     * @param reservationId the ID of the hold
+     * @return the confirmed hold, or null if no such hold exists
+     * @throws IllegalStateException if the hold has expired
+     */
+    @Transactional
+    public StickerReservationResponse confirm(String stickerId, String reservationId) {
+        stickerRepository.requireTransactionalStore("Reservations");
+        long confirmed =
+                StickerReservation.delete(
+                        "reservationId = ?1 and stickerId = ?2 and expiresAt > ?3",
+                        reservationId,
+                        stickerId,
+                        Instant.now());
+        if (confirmed == 0) {
+            // Either it never existed, or it has expired and is waiting for the reaper
+            if (findReservation(stickerId, reservationId) == null) {
+                return null;
+            }
+            throw new IllegalStateException("Reservation " + reservationId + " has expired");
+        }
+        confirmedCounter.add(1);
+        return toResponse(stickerId, reservationId);
+    }
+
+    /**
+     * Cancels a hold and returns its stock straight away.
+     *
+     * @param stickerId the ID of the reserved sticker
+     * @param reservationId the ID of the hold
+     * @return the cancelled hold with the remaining stock, or null if no such hold exists
+     */
+    @Transactional
+    public StickerReservationResponse cancel(String stickerId, String reservationId) {
+        stickerRepository.requireTransactionalStore("Reservations");
+        long cancelled =
+                StickerReservation.delete(
+                        "reservationId = ?1 and stickerId = ?2", reservationId, stickerId);
+        if (cancelled == 0) {
+            return null;
+        }
+        cancelledCounter.add(1);
+
+        StickerReservationResponse response = toResponse(stickerId, reservationId);
+        StickerStockResponse stock = stickerRepository.releaseStock(stickerId, 1);
+        if (stock != null) {
+            response.setStickerQuantityRemaining(stock.getStickerQuantityRemaining());
+        }
+        return response;
+    }
+
+    /** Returns the stock of expired holds, one short transaction per batch. */
+    @Scheduled(
+            every = "${sticker.reservations.reaper.interval:10s}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void reapExpiredReservations() {
+        int total = 0;
+        int reaped;
+        do {
+            reaped = QuarkusTransaction.requiringNew().call(this::reapBatch);
+            total += reaped;
+        } while (reaped == reaperBatchSize);
+
+        activeHolds.set(QuarkusTransaction.requiringNew().call(StickerReservation::count));
+        if (total > 0) {
+            LOG.infof("Returned %d expired sticker reservations to stock", total);
+        }
+    }
+
+    private int reapBatch() {
+        List<String> stickerIds =
+                entityManager
+                        .createNativeQuery(REAP_EXPIRED_SQL)
+                        .unwrap(NativeQuery.class)
+                        .addScalar("sticker_id", String.class)
+                        .setParameter("now", Instant.now())
+                        .setParameter("batchSize", reaperBatchSize)
+                        .getResultList();
+
+        // One stock update per sticker, however many of its holds expired in this batch
+        Map<String, Long> expiredPerSticker =
+                stickerIds.stream()
+                        .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        expiredPerSticker.forEach(
+                (stickerId, count) -> stickerRepository.releaseStock(stickerId, count.intValue()));
+
+        expiredCounter.add(stickerIds.size());
+        return stickerIds.size();
+    }
+
+    private StickerReservation findReservation(String stickerId, String reservationId) {
+        return StickerReservation.find(
+                        "reservationId = ?1 and stickerId = ?2", reservationId, stickerId)
+                .firstResult();
+    }
+
+    private LongCounter holdCounter(String name, String description) {
+        return meter.counterBuilder(name).setDescription(description).setUnit("{hold}").build();
+    }
+
+    private StickerReservationResponse toResponse(String stickerId, String reservationId) {
+        StickerReservationResponse response = new StickerReservationResponse();
+        response.setReservationId(reservationId);
+        response.setStickerId(stickerId);
+        return response;
+    }
+}
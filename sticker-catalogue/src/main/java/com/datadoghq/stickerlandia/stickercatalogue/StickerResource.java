@@ -10,28 +10,43 @@ import com.datadoghq.stickerlandia.common.dto.exception.ProblemDetailsResponseBu
 import com.datadoghq.stickerlandia.stickercatalogue.dto.CreateStickerRequest;
 import com.datadoghq.stickerlandia.stickercatalogue.dto.CreateStickerResponse;
 import com.datadoghq.stickerlandia.stickercatalogue.dto.GetAllStickersResponse;
+import com.datadoghq.stickerlandia.stickercatalogue.dto.StickerChangeNotification;
+import com.datadoghq.stickerlandia.stickercatalogue.dto.StickerChangesResponse;
 import com.datadoghq.stickerlandia.stickercatalogue.dto.StickerDTO;
 import com.datadoghq.stickerlandia.stickercatalogue.dto.StickerImageUploadResponse;
+import com.datadoghq.stickerlandia.stickercatalogue.dto.StickerReservationResponse;
+import com.datadoghq.stickerlandia.stickercatalogue.dto.StickerStockResponse;
 import com.datadoghq.stickerlandia.stickercatalogue.dto.UpdateStickerRequest;
 import io.opentelemetry.api.trace.Span;
 import io.quarkus.security.Authenticated;
 import io.smallrye.common.constraint.NotNull;
+import io.smallrye.mutiny.Multi;
 import jakarta.inject.Inject;
+import jakarta.persistence.OptimisticLockException;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.PATCH;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.ServiceUnavailableException;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import java.io.InputStream;
+import java.time.Duration;
 import java.time.Instant;
 import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.hibernate.StaleStateException;
 import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.RestStreamElementType;
 
 /** REST resource for managing stickers. */
 @Path("/api/stickers/v1")
@@ -41,6 +56,10 @@ public class StickerResource {
 
     @Inject StickerImageService stickerImageService;
 
+    @Inject StickerReservationRepository reservationRepository;
+
+    @Inject StickerChangeBroadcaster changeBroadcaster;
+
     private static final Logger LOG = Logger.getLogger(StickerResource.class);
 
     /**
@@ -61,6 +80,55 @@ public class StickerResource {
         return stickerRepository.getAllStickers(page, size);
     }
 
+    /**
+     * Lists the changes to the catalogue since a change token, so that consumers can keep a local
+     * copy in sync without re-listing it.
+     *
+     * @param since the {@code nextToken} of the previous call; omit to read the whole catalogue
+     * @param limit the most changes to return
+     * @return response containing the changes and the token to continue from
+     */
+    @GET
+    @Path("/changes")
+    @Produces("application/json")
+    @Operation(summary = "List catalogue changes since a change token")
+    public Response getChanges(
+            @QueryParam("since") String since,
+            @QueryParam("limit") @DefaultValue("100") int limit) {
+        LOG.info("GetChanges");
+        Span span = Span.current();
+        span.setAttribute("sticker.changes.since", since != null ? since : "");
+
+        try {
+            StickerChangesResponse changes = stickerRepository.getChanges(since, limit);
+            return Response.ok(changes).build();
+        } catch (IllegalArgumentException e) {
+            return ProblemDetailsResponseBuilder.badRequest(e.getMessage());
+        } catch (UnsupportedOperationException e) {
+            return ProblemDetailsResponseBuilder.notImplemented(e.getMessage());
+        }
+    }
+
+    /**
+     * Streams catalogue changes as they are committed, as server-sent events. Only changes made
+     * after connecting are sent; use the change feed to catch up on anything missed.
+     *
+     * @return the stream of change notifications
+     */
+    @GET
+    @Path("/stream")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Stream catalogue changes as server-sent events")
+    public Multi<StickerChangeNotification> streamChanges() {
+        LOG.info("StreamChanges");
+        try {
+            return changeBroadcaster.subscribe();
+        } catch (IllegalStateException e) {
+            throw new ServiceUnavailableException(e.getMessage());
+        }
+    }
+
     /**
      * Creates a new sticker.
      *
@@ -77,8 +145,12 @@ public class StickerResource {
         Span span = Span.current();
         span.setAttribute("sticker.name", data.getStickerName());
 
-        CreateStickerResponse createdSticker = stickerRepository.createSticker(data);
-        return Response.status(Response.Status.CREATED).entity(createdSticker).build();
+        try {
+            CreateStickerResponse createdSticker = stickerRepository.createSticker(data);
+            return Response.status(Response.Status.CREATED).entity(createdSticker).build();
+        } catch (IllegalArgumentException e) {
+            return ProblemDetailsResponseBuilder.badRequest(e.getMessage());
+        }
     }
 
     /**
@@ -101,11 +173,12 @@ public class StickerResource {
             return ProblemDetailsResponseBuilder.notFound(
                     "Sticker with ID " + stickerId + " not found");
         }
-        return Response.ok(metadata).build();
+        return Response.ok(metadata).tag(entityTag(metadata)).build();
     }
 
     /**
-     * Updates an existing sticker.
+     * Updates an existing sticker. If somebody else changes the sticker while the update is in
+     * flight, the update is rejected with a 409 rather than overwriting their change.
      *
      * @param stickerId the ID of the sticker to update
      * @param data the update request
@@ -124,12 +197,73 @@ public class StickerResource {
         Span span = Span.current();
         span.setAttribute("sticker.id", stickerId);
 
-        StickerDTO updated = stickerRepository.updateStickerMetadata(stickerId, data);
-        if (updated == null) {
-            return ProblemDetailsResponseBuilder.notFound(
-                    "Sticker with ID " + stickerId + " not found");
+        try {
+            StickerDTO updated = stickerRepository.updateStickerMetadata(stickerId, data);
+            if (updated == null) {
+                return ProblemDetailsResponseBuilder.notFound(
+                        "Sticker with ID " + stickerId + " not found");
+            }
+            return Response.ok(updated).build();
+        } catch (OptimisticLockException e) {
+            return concurrentlyModified(stickerId);
+        } catch (IllegalArgumentException e) {
+            return ProblemDetailsResponseBuilder.badRequest(e.getMessage());
+        } catch (RuntimeException e) {
+            // A conflict only found at commit arrives wrapped in the transaction's
+            // RollbackException
+            if (causedByOptimisticLock(e)) {
+                return concurrentlyModified(stickerId);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Partially updates a sticker. Only the fields present in the request are changed. When an
+     * {@code If-Match} header carrying the sticker's ETag is sent, the update only applies if
+     * nobody else has modified the sticker since.
+     *
+     * @param stickerId the ID of the sticker to update
+     * @param ifMatch the ETag the client last saw, {@code *}, or null
+     * @param data the fields to change
+     * @return response containing the updated sticker details and its new ETag
+     */
+    @PATCH
+    @Authenticated
+    @Path("/{stickerId}")
+    @Produces("application/json")
+    @Consumes("application/json")
+    @Operation(summary = "Partially update a sticker")
+    public Response patchSticker(
+            @PathParam("stickerId") String stickerId,
+            @HeaderParam(HttpHeaders.IF_MATCH) String ifMatch,
+            @NotNull UpdateStickerRequest data) {
+        LOG.info("Patch sticker");
+        Span span = Span.current();
+        span.setAttribute("sticker.id", stickerId);
+
+        Long expectedVersion = null;
+        if (ifMatch != null && !ifMatch.isBlank() && !"*".equals(ifMatch.trim())) {
+            expectedVersion = parseVersion(ifMatch);
+            if (expectedVersion == null) {
+                return ProblemDetailsResponseBuilder.preconditionFailed(
+                        "If-Match does not match the current version of sticker " + stickerId);
+            }
+        }
+
+        try {
+            StickerDTO patched = stickerRepository.patchSticker(stickerId, data, expectedVersion);
+            if (patched == null) {
+                return ProblemDetailsResponseBuilder.notFound(
+                        "Sticker with ID " + stickerId + " not found");
+            }
+            return Response.ok(patched).tag(entityTag(patched)).build();
+        } catch (OptimisticLockException e) {
+            return ProblemDetailsResponseBuilder.preconditionFailed(
+                    "Sticker with ID " + stickerId + " has been modified");
+        } catch (IllegalArgumentException e) {
+            return ProblemDetailsResponseBuilder.badRequest(e.getMessage());
         }
-        return Response.ok(updated).build();
     }
 
     /**
@@ -160,6 +294,168 @@ public class StickerResource {
         }
     }
 
+    /**
+     * Claims one unit of a sticker's stock.
+     *
+     * @param stickerId the ID of the sticker to claim
+     * @return response containing the remaining stock
+     */
+    @POST
+    @Authenticated
+    @Path("/{stickerId}/claim")
+    @Produces("application/json")
+    @Operation(summary = "Claim one unit of a sticker's stock")
+    public Response claimSticker(@PathParam("stickerId") String stickerId) {
+        LOG.info("Claim sticker");
+        Span span = Span.current();
+        span.setAttribute("sticker.id", stickerId);
+
+        try {
+            StickerStockResponse stock = stickerRepository.claimSticker(stickerId);
+            if (stock == null) {
+                return ProblemDetailsResponseBuilder.notFound(
+                        "Sticker with ID " + stickerId + " not found");
+            }
+            return Response.ok(stock).build();
+        } catch (IllegalStateException e) {
+            return ProblemDetailsResponseBuilder.conflict(
+                    "Sticker with ID " + stickerId + " is out of stock");
+        } catch (UnsupportedOperationException e) {
+            return ProblemDetailsResponseBuilder.notImplemented(e.getMessage());
+        }
+    }
+
+    /**
+     * Releases one unit of a sticker's stock back to the catalogue.
+     *
+     * @param stickerId the ID of the sticker to release
+     * @return response containing the remaining stock
+     */
+    @POST
+    @Authenticated
+    @Path("/{stickerId}/release")
+    @Produces("application/json")
+    @Operation(summary = "Release one unit of a sticker's stock")
+    public Response releaseSticker(@PathParam("stickerId") String stickerId) {
+        LOG.info("Release sticker");
+        Span span = Span.current();
+        span.setAttribute("sticker.id", stickerId);
+
+        StickerStockResponse stock = stickerRepository.releaseSticker(stickerId);
+        if (stock == null) {
+            return ProblemDetailsResponseBuilder.notFound(
+                    "Sticker with ID " + stickerId + " not found");
+        }
+        return Response.ok(stock).build();
+    }
+
+    /**
+     * Reserves one unit of a sticker's stock for a limited time.
+     *
+     * @param stickerId the ID of the sticker to reserve
+     * @param ttlSeconds how long to hold the stock for, or null for the default
+     * @return response containing the new hold
+     */
+    @POST
+    @Authenticated
+    @Path("/{stickerId}/reservations")
+    @Produces("application/json")
+    @Operation(summary = "Reserve one unit of a sticker's stock")
+    public Response reserveSticker(
+            @PathParam("stickerId") String stickerId, @QueryParam("ttlSeconds") Long ttlSeconds) {
+        LOG.info("Reserve sticker");
+        Span span = Span.current();
+        span.setAttribute("sticker.id", stickerId);
+
+        try {
+            StickerReservationResponse reservation =
+                    reservationRepository.reserve(
+                            stickerId, ttlSeconds != null ? Duration.ofSeconds(ttlSeconds) : null);
+            if (reservation == null) {
+                return ProblemDetailsResponseBuilder.notFound(
+                        "Sticker with ID " + stickerId + " not found");
+            }
+            span.setAttribute("reservation.id", reservation.getReservationId());
+            return Response.status(Response.Status.CREATED).entity(reservation).build();
+        } catch (IllegalArgumentException e) {
+            return ProblemDetailsResponseBuilder.badRequest(e.getMessage());
+        } catch (IllegalStateException e) {
+            return ProblemDetailsResponseBuilder.conflict(
+                    "Sticker with ID " + stickerId + " is out of stock");
+        } catch (UnsupportedOperationException e) {
+            return ProblemDetailsResponseBuilder.notImplemented(e.getMessage());
+        }
+    }
+
+    /**
+     * Confirms a reservation, making its stock claim permanent.
+     *
+     * @param stickerId the ID of the reserved sticker
+     * @param reservationId the ID of the reservation
+     * @return response containing the confirmed reservation
+     */
+    @POST
+    @Authenticated
+    @Path("/{stickerId}/reservations/{reservationId}/confirm")
+    @Produces("application/json")
+    @Operation(summary = "Confirm a stock reservation")
+    public Response confirmReservation(
+            @PathParam("stickerId") String stickerId,
+            @PathParam("reservationId") String reservationId) {
+        LOG.info("Confirm reservation");
+        Span span = Span.current();
+        span.setAttribute("sticker.id", stickerId);
+        span.setAttribute("reservation.id", reservationId);
+
+        try {
+            StickerReservationResponse reservation =
+                    reservationRepository.confirm(stickerId, reservationId);
+            if (reservation == null) {
+                return ProblemDetailsResponseBuilder.notFound(
+                        "Reservation with ID " + reservationId + " not found");
+            }
+            return Response.ok(reservation).build();
+        } catch (IllegalStateException e) {
+            return ProblemDetailsResponseBuilder.gone(
+                    "Reservation with ID " + reservationId + " has expired");
+        } catch (UnsupportedOperationException e) {
+            return ProblemDetailsResponseBuilder.notImplemented(e.getMessage());
+        }
+    }
+
+    /**
+     * Cancels a reservation, returning its stock to the catalogue.
+     *
+     * @param stickerId the ID of the reserved sticker
+     * @param reservationId the ID of the reservation
+     * @return response containing the cancelled reservation and remaining stock
+     */
+    @DELETE
+    @Authenticated
+    @Path("/{stickerId}/reservations/{reservationId}")
+    @Produces("application/json")
+    @Operation(summary = "Cancel a stock reservation")
+    public Response cancelReservation(
+            @PathParam("stickerId") String stickerId,
+            @PathParam("reservationId") String reservationId) {
+        LOG.info("Cancel reservation");
+        Span span = Span.current();
+        span.setAttribute("sticker.id", stickerId);
+        span.setAttribute("reservation.id", reservationId);
+
+        try {
+            StickerReservationResponse reservation =
+                    reservationRepository.cancel(stickerId, reservationId);
+            if (reservation == null) {
+                return ProblemDetailsResponseBuilder.notFound(
+                        "Reservation with ID " + reservationId + " not found");
+            }
+            return Response.ok(reservation).build();
+        } catch (UnsupportedOperationException e) {
+            return ProblemDetailsResponseBuilder.notImplemented(e.getMessage());
+        }
+    }
+
     /**
      * Gets the image for a specific sticker.
      *
@@ -246,4 +542,38 @@ public class StickerResource {
                     "Failed to upload image for sticker " + stickerId);
         }
     }
+
+    private static Response concurrentlyModified(String stickerId) {
+        return ProblemDetailsResponseBuilder.conflict(
+                "Sticker with ID " + stickerId + " has been modified concurrently");
+    }
+
+    private static boolean causedByOptimisticLock(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof OptimisticLockException || cause instanceof StaleStateException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static EntityTag entityTag(StickerDTO sticker) {
+        return new EntityTag(String.valueOf(sticker.getVersion()));
+    }
+
+    /**
+     * Reads the version out of a strong ETag such as {@code "3"}. Weak or malformed tags can never
+     * match, so they yield null.
+     */
+    private static Long parseVersion(String ifMatch) {
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            return null;
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 }
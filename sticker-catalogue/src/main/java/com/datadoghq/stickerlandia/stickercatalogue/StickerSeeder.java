@@ -6,183 +6,386 @@
 
 package com.datadoghq.stickerlandia.stickercatalogue;
 
-import com.datadoghq.stickerlandia.stickercatalogue.entity.Sticker;
-import com.datadoghq.stickerlandia.stickercatalogue.messaging.StickerEventPublisher;
+import com.datadoghq.stickerlandia.stickercatalogue.entity.SeedVersion;
+import com.datadoghq.stickerlandia.stickercatalogue.messaging.StickerEventOutbox;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
 import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.ShutdownEvent;
 import io.quarkus.runtime.StartupEvent;
+import io.quarkus.vertx.http.HttpServerStart;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.ObservesAsync;
 import jakarta.inject.Inject;
-import jakarta.transaction.Transactional;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.query.NativeQuery;
 import org.jboss.logging.Logger;
 
+/**
+ * Seeds the catalogue with the sample stickers on startup.
+ *
+ * <p>The rows go in first, in one short transaction: a single multi-row {@code INSERT ... ON
+ * CONFLICT DO NOTHING} adds whichever samples are missing, so restarts and replicas starting
+ * together never clash. Images are only uploaded once the HTTP server is listening, so they never
+ * hold up startup or readiness, in parallel on virtual threads and outside any transaction. Each
+ * upload records its image key in its own transaction. Upload progress is reported by the {@code
+ * sticker.seed.images} gauge.
+ *
+ * <p>Only one replica seeds. The seeding transaction takes a Postgres advisory lock and checks the
+ * {@code seed_versions} marker; replicas that miss the lock, or find {@link #SEED_VERSION} already
+ * applied, skip straight to serving. The marker is completed once every image is uploaded. A seed
+ * left incomplete, for instance by a replica that died mid-upload, is taken over by the next
+ * replica to start after {@code sticker.seed.lease} has passed.
+ */
 @ApplicationScoped
 public class StickerSeeder {
 
     private static final Logger LOG = Logger.getLogger(StickerSeeder.class);
 
-    @Inject StickerEventPublisher eventPublisher;
+    private static final AttributeKey<String> STATE = AttributeKey.stringKey("state");
+
+    /**
+     * Bump when samples are added, so running clusters seed again. A new seed only inserts the
+     * samples that are missing and uploads images for rows without one; existing rows keep their
+     * columns, so changing an existing sample needs a migration.
+     */
+    static final int SEED_VERSION = 1;
+
+    static final String SEED_NAME = "sample-stickers";
+
+    /** Key of the advisory lock held while seeding; any value unique within the database. */
+    static final long SEED_LOCK_KEY = 0x5354_4943_4B53_4544L;
+
+    @Inject EntityManager entityManager;
+
+    @Inject StickerEventOutbox eventOutbox;
 
     @Inject StickerImageService stickerImageService;
 
     @Inject StickerRepository stickerRepository;
 
-    @Inject Tracer tracer;
+    // Quarkus tracing is off, so the tracer comes from the SDK rather than being injected
+    @Inject OpenTelemetry openTelemetry;
 
-    @Transactional
-    public void onStartup(@Observes StartupEvent ev) {
+    @Inject Meter meter;
 
-        // Tracer tracer = GlobalOpenTelemetry.getTracer("startup");
+    @ConfigProperty(name = "sticker.seed.enabled", defaultValue = "true")
+    boolean enabled;
 
-        Span rootSpan = tracer.spanBuilder("SeedStickers").setNoParent().startSpan();
+    @ConfigProperty(name = "sticker.seed.lease", defaultValue = "10m")
+    Duration seedLease;
 
+    private final AtomicInteger imagesPending = new AtomicInteger();
+    private final AtomicInteger imagesUploaded = new AtomicInteger();
+    private final AtomicInteger imagesFailed = new AtomicInteger();
+    private final CompletableFuture<Void> imagesSeeded = new CompletableFuture<>();
+    private volatile List<SampleSticker> pendingUploads = List.of();
+    private ExecutorService imageUploader;
+    private Tracer tracer;
+
+    void onStartup(@Observes StartupEvent ev) {
+        if (!enabled) {
+            imagesSeeded.complete(null);
+            return;
+        }
+        tracer = openTelemetry.getTracer(StickerSeeder.class.getName());
+        imageUploader = Executors.newVirtualThreadPerTaskExecutor();
+        meter.gaugeBuilder("sticker.seed.images")
+                .setDescription("Sample sticker images by upload state")
+                .setUnit("{image}")
+                .ofLongs()
+                .buildWithCallback(
+                        measurement -> {
+                            measurement.record(
+                                    imagesPending.get(), Attributes.of(STATE, "pending"));
+                            measurement.record(
+                                    imagesUploaded.get(), Attributes.of(STATE, "uploaded"));
+                            measurement.record(imagesFailed.get(), Attributes.of(STATE, "failed"));
+                        });
+
+        List<SampleSticker> samples = getSampleStickers();
+        List<SampleSticker> uploads;
+        Span rootSpan = tracer.spanBuilder("SeedStickers").setNoParent().startSpan();
         try (Scope scope = rootSpan.makeCurrent()) {
             LOG.info("Starting sticker seeding...");
-
-            seedStickers(tracer);
-
-            LOG.info("Sticker seeding completed successfully");
-
+            uploads = QuarkusTransaction.requiringNew().call(() -> claimAndSeed(samples));
         } catch (Exception e) {
             rootSpan.recordException(e);
-            rootSpan.setStatus(io.opentelemetry.api.trace.StatusCode.ERROR, "Critical failure");
+            rootSpan.setStatus(StatusCode.ERROR, "Critical failure");
             LOG.error("Failed to seed stickers", e);
             throw new RuntimeException("Critical failure during sticker seeding", e);
         } finally {
             rootSpan.end();
         }
+
+        if (uploads.isEmpty()) {
+            imagesSeeded.complete(null);
+            return;
+        }
+        pendingUploads = uploads;
+        LOG.infof("Uploading %d sample sticker images once serving", uploads.size());
     }
 
-    private void seedStickers(Tracer tracer) {
-        List<SampleSticker> sampleStickers = getSampleStickers();
-        int created = 0;
-        int skipped = 0;
-
-        for (SampleSticker sample : sampleStickers) {
-            Span childSpan =
-                    tracer.spanBuilder("SeedSticker")
-                            .setParent(Context.current())
-                            .setAttribute("sticker.id", sample.id)
-                            .setAttribute("sticker.name", sample.name)
-                            .setAttribute("sticker.image_path", sample.imagePath)
-                            .startSpan();
-
-            try (Scope childScope = childSpan.makeCurrent()) {
-                if (seedSticker(tracer, sample)) {
-                    created++;
-                } else {
-                    skipped++;
-                }
-            } catch (Exception e) {
-                childSpan.recordException(e);
-                childSpan.setStatus(
-                        io.opentelemetry.api.trace.StatusCode.ERROR, "Failed seeding sticker");
-                throw e;
-            } finally {
-                childSpan.end();
-            }
+    /** Starts the image uploads left by seeding, now that the replica can report ready. */
+    void onHttpServerStart(@ObservesAsync HttpServerStart event) {
+        List<SampleSticker> uploads = pendingUploads;
+        pendingUploads = List.of();
+        if (!uploads.isEmpty()) {
+            uploadImages(uploads).whenComplete((ignored, failure) -> imagesSeeded.complete(null));
         }
+    }
 
-        LOG.infof(
-                "Sticker seeding completed: %d created, %d skipped, %d total",
-                created, skipped, sampleStickers.size());
+    /** Completes once the images found missing at startup have been uploaded, or have failed to. */
+    CompletableFuture<Void> imagesSeeded() {
+        return imagesSeeded;
     }
 
-    private boolean seedSticker(Tracer tracer, SampleSticker sample) {
-        Sticker existingSticker = stickerRepository.findById(sample.id);
-        if (existingSticker != null) {
-            LOG.debugf("Sticker %s already exists, checking image", sample.id);
+    /**
+     * Uploads the images of the given samples in the background, then marks the seed complete if
+     * none of them failed.
+     *
+     * @return a future completing once every upload has finished
+     */
+    CompletableFuture<Void> uploadImages(List<SampleSticker> uploads) {
+        imagesPending.addAndGet(uploads.size());
+        Span imagesSpan =
+                tracer.spanBuilder("SeedStickerImages")
+                        .setNoParent()
+                        .setAttribute("sticker.seed.images", uploads.size())
+                        .startSpan();
+        Context imagesContext = Context.root().with(imagesSpan);
+        AtomicInteger failed = new AtomicInteger();
+        CompletableFuture<?>[] done =
+                uploads.stream()
+                        .map(
+                                sample ->
+                                        CompletableFuture.runAsync(
+                                                () -> {
+                                                    if (!seedStickerImage(imagesContext, sample)) {
+                                                        failed.incrementAndGet();
+                                                    }
+                                                },
+                                                imageUploader))
+                        .toArray(CompletableFuture[]::new);
+        LOG.infof("Uploading %d sample sticker images in the background", uploads.size());
+        return CompletableFuture.allOf(done)
+                .whenComplete(
+                        (ignored, failure) -> {
+                            imagesSpan.end();
+                            LOG.infof(
+                                    "Sticker image seeding completed: %d uploaded, %d failed",
+                                    uploads.size() - failed.get(), failed.get());
+                            if (failed.get() == 0) {
+                                completeSeed();
+                            }
+                        });
+    }
 
-            // Seed image if sticker exists but doesn't have an image
-            if (sample.imagePath != null) {
-                seedStickerImage(tracer, sample.id, sample.imagePath, sample.imageDescription);
-            }
+    void onShutdown(@Observes ShutdownEvent ev) {
+        if (imageUploader != null) {
+            imageUploader.shutdownNow();
+        }
+    }
 
-            return false;
+    /**
+     * Seeds the samples if this replica wins the advisory lock and the current version has not been
+     * seeded yet. The lock is released when the caller's transaction ends.
+     *
+     * @return the samples whose images this replica should upload; empty if it skipped seeding
+     */
+    List<SampleSticker> claimAndSeed(List<SampleSticker> samples) {
+        Boolean locked =
+                (Boolean)
+                        entityManager
+                                .createNativeQuery("SELECT pg_try_advisory_xact_lock(:key)")
+                                .setParameter("key", SEED_LOCK_KEY)
+                                .getSingleResult();
+        if (!Boolean.TRUE.equals(locked)) {
+            LOG.info("Another replica is seeding sample stickers, skipping");
+            return List.of();
         }
 
-        Sticker sticker =
-                new Sticker(sample.id, sample.name, sample.description, sample.quantityRemaining);
+        SeedVersion marker = SeedVersion.findById(SEED_NAME);
+        if (marker != null
+                && marker.getVersion() >= SEED_VERSION
+                && (marker.getCompletedAt() != null
+                        || marker.getStartedAt().isAfter(Instant.now().minus(seedLease)))) {
+            LOG.infof(
+                    "Sample stickers at seed version %d already %s, skipping",
+                    marker.getVersion(),
+                    marker.getCompletedAt() != null ? "seeded" : "being seeded");
+            return List.of();
+        }
 
-        sticker.persist();
+        List<SampleSticker> uploads = seedStickers(samples).uploads();
 
-        eventPublisher.publishStickerAdded(
-                sticker.getStickerId(), sticker.getName(), sticker.getDescription());
+        if (marker == null) {
+            marker = new SeedVersion(SEED_NAME, SEED_VERSION);
+            marker.persist();
+        } else {
+            marker.setVersion(SEED_VERSION);
+            marker.setStartedAt(Instant.now());
+        }
+        marker.setCompletedAt(uploads.isEmpty() ? marker.getStartedAt() : null);
+        return uploads;
+    }
 
-        LOG.infof("Created sample sticker: %s (%s)", sample.id, sample.name);
+    /** Marks the current seed version as complete, once its images are all uploaded. */
+    private void completeSeed() {
+        try {
+            QuarkusTransaction.requiringNew()
+                    .run(
+                            () -> {
+                                SeedVersion marker = SeedVersion.findById(SEED_NAME);
+                                if (marker != null && marker.getVersion() == SEED_VERSION) {
+                                    marker.setCompletedAt(Instant.now());
+                                }
+                            });
+        } catch (RuntimeException e) {
+            LOG.errorf(e, "Failed to mark seed version %d complete", SEED_VERSION);
+        }
+    }
 
-        // Seed image if available
-        if (sample.imagePath != null) {
-            seedStickerImage(tracer, sample.id, sample.imagePath, sample.imageDescription);
+    /**
+     * Inserts the missing samples and records their events, within the caller's transaction.
+     *
+     * @return the samples created, and those that have an image to upload but no image key yet
+     */
+    Seeded seedStickers(List<SampleSticker> samples) {
+        StringBuilder sql =
+                new StringBuilder(
+                        "INSERT INTO stickers (sticker_id, name, description,"
+                                + " sticker_quantity_remaining, created_at) VALUES ");
+        for (int i = 0; i < samples.size(); i++) {
+            sql.append(i == 0 ? "" : ", ")
+                    .append("(:id")
+                    .append(i)
+                    .append(", :name")
+                    .append(i)
+                    .append(", :description")
+                    .append(i)
+                    .append(", :quantity")
+                    .append(i)
+                    .append(", :now)");
+        }
+        sql.append(" ON CONFLICT (sticker_id) DO NOTHING RETURNING sticker_id");
+
+        NativeQuery<String> insert =
+                entityManager
+                        .createNativeQuery(sql.toString())
+                        .unwrap(NativeQuery.class)
+                        .addScalar("sticker_id", String.class)
+                        .setParameter("now", Instant.now());
+        for (int i = 0; i < samples.size(); i++) {
+            SampleSticker sample = samples.get(i);
+            insert.setParameter("id" + i, sample.id)
+                    .setParameter("name" + i, sample.name)
+                    .setParameter("description" + i, sample.description)
+                    .setParameter("quantity" + i, sample.quantityRemaining);
+        }
+        Set<String> created = new HashSet<>(insert.getResultList());
+
+        Map<String, SampleSticker> byId =
+                samples.stream().collect(Collectors.toMap(s -> s.id, Function.identity()));
+        for (String stickerId : created) {
+            SampleSticker sample = byId.get(stickerId);
+            eventOutbox.publishStickerAdded(sample.id, sample.name, sample.description);
+            LOG.infof("Created sample sticker: %s (%s)", sample.id, sample.name);
         }
 
-        return true;
+        @SuppressWarnings("unchecked")
+        List<String> withoutImage =
+                entityManager
+                        .createNativeQuery(
+                                "SELECT sticker_id FROM stickers WHERE sticker_id IN (:ids)"
+                                        + " AND (image_key IS NULL OR image_key = '')")
+                        .setParameter("ids", byId.keySet())
+                        .getResultList();
+
+        LOG.infof(
+                "Sticker seeding completed: %d created, %d skipped, %d total",
+                created.size(), samples.size() - created.size(), samples.size());
+        return new Seeded(
+                created,
+                samples.stream()
+                        .filter(s -> s.imagePath != null && withoutImage.contains(s.id))
+                        .toList());
     }
 
-    private void seedStickerImage(
-            Tracer tracer, String stickerId, String resourcePath, String description) {
+    /** Uploads one sample's image and records its key; returns false if that failed. */
+    private boolean seedStickerImage(Context parent, SampleSticker sample) {
         Span imageSpan =
                 tracer.spanBuilder("SeedStickerImage")
-                        .setParent(Context.current())
-                        .setAttribute("sticker.id", stickerId)
-                        .setAttribute("resource.path", resourcePath)
+                        .setParent(parent)
+                        .setAttribute("sticker.id", sample.id)
+                        .setAttribute("resource.path", sample.imagePath)
                         .startSpan();
 
         try (Scope scope = imageSpan.makeCurrent()) {
-            // Check if sticker exists and doesn't already have an image
-            Sticker sticker = stickerRepository.findById(stickerId);
-            if (sticker == null) {
-                LOG.warnf("Sticker %s not found, skipping image seeding", stickerId);
-                return;
-            }
-
-            if (sticker.getImageKey() != null && !sticker.getImageKey().isEmpty()) {
-                LOG.infof(
-                        "Sticker %s already has image key %s, skipping",
-                        stickerId, sticker.getImageKey());
-                return;
-            }
-
-            // Load image from resources
-            InputStream imageStream = getClass().getResourceAsStream(resourcePath);
-            if (imageStream == null) {
-                LOG.errorf("Could not find image resource: %s", resourcePath);
-                return;
+            byte[] imageData;
+            try (InputStream imageStream = getClass().getResourceAsStream(sample.imagePath)) {
+                if (imageStream == null) {
+                    throw new IOException("Could not find image resource: " + sample.imagePath);
+                }
+                imageData = imageStream.readAllBytes();
             }
 
-            // Get file size for upload
-            byte[] imageData = imageStream.readAllBytes();
-            imageStream.close();
-
-            // Upload image to our storage service
-            InputStream uploadStream = getClass().getResourceAsStream(resourcePath);
             String imageKey =
-                    stickerImageService.uploadImage(uploadStream, "image/png", imageData.length);
-            uploadStream.close();
-
-            // Update sticker with image key
-            stickerRepository.updateStickerImageKey(stickerId, imageKey);
+                    stickerImageService.uploadImage(
+                            new ByteArrayInputStream(imageData),
+                            contentTypeOf(sample.imagePath),
+                            imageData.length);
+            stickerRepository.updateStickerImageKey(sample.id, imageKey);
+            imagesUploaded.incrementAndGet();
 
             LOG.infof(
                     "Successfully seeded image for sticker %s with key %s (%s)",
-                    stickerId, imageKey, description);
-
+                    sample.id, imageKey, sample.imageDescription);
+            return true;
         } catch (Exception e) {
+            imagesFailed.incrementAndGet();
             imageSpan.recordException(e);
-            imageSpan.setStatus(
-                    io.opentelemetry.api.trace.StatusCode.ERROR, "Failed seeding sticker image");
-            LOG.errorf(e, "Failed to seed image for sticker %s from %s", stickerId, resourcePath);
+            imageSpan.setStatus(StatusCode.ERROR, "Failed seeding sticker image");
+            LOG.errorf(
+                    e, "Failed to seed image for sticker %s from %s", sample.id, sample.imagePath);
+            return false;
         } finally {
+            imagesPending.decrementAndGet();
             imageSpan.end();
         }
     }
 
-    private List<SampleSticker> getSampleStickers() {
+    private static String contentTypeOf(String resourcePath) {
+        return resourcePath.endsWith(".jpeg") || resourcePath.endsWith(".jpg")
+                ? "image/jpeg"
+                : "image/png";
+    }
+
+    static List<SampleSticker> getSampleStickers() {
         return List.of(
                 new SampleSticker(
                         "sticker-001",
@@ -368,7 +571,9 @@ public class StickerSeeder {
                         "Bits mascot in hoodie with laptop showing CI/CD logo"));
     }
 
-    private record SampleSticker(
+    record Seeded(Set<String> created, List<SampleSticker> uploads) {}
+
+    record SampleSticker(
             String id,
             String name,
             String description,
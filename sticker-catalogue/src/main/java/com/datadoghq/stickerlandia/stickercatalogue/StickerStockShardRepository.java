@@ -0,0 +1,232 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue;
+
+import com.datadoghq.stickerlandia.stickercatalogue.entity.Sticker;
+import com.datadoghq.stickerlandia.stickercatalogue.entity.StickerStockShard;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.query.NativeQuery;
+import org.jboss.logging.Logger;
+
+/**
+ * Repository for sharded sticker stock counters.
+ *
+ * <p>A sharded sticker spreads its stock across N rows so that a burst of claims for the same
+ * sticker does not serialise on a single row lock. Each claim starts at a random shard and takes
+ * the first shard with stock that no other transaction currently holds ({@code FOR UPDATE SKIP
+ * LOCKED}), so concurrent claims spread across shards instead of queueing. Only when every shard
+ * with stock is held does a claim lock them all and wait, so it is never turned away while some
+ * shard still has stock. The sticker row keeps a cached sum of the shards, refreshed in the
+ * background by one replica at a time.
+ */
+@ApplicationScoped
+public class StickerStockShardRepository {
+
+    private static final Logger LOG = Logger.getLogger(StickerStockShardRepository.class);
+
+    private static final String CLAIM_UNLOCKED_SHARD_SQL =
+            "UPDATE sticker_stock_shards SET quantity_remaining = quantity_remaining - 1"
+                    + " WHERE sticker_id = :stickerId AND shard_id = ("
+                    + " SELECT shard_id FROM sticker_stock_shards"
+                    + " WHERE sticker_id = :stickerId AND quantity_remaining > 0"
+                    + " ORDER BY mod(shard_id + :offset, :shardCount)"
+                    + " LIMIT 1 FOR UPDATE SKIP LOCKED)"
+                    + " RETURNING shard_id";
+
+    /**
+     * Locks every shard of the sticker, in shard order so that concurrent callers cannot deadlock,
+     * and then takes a unit from one that still has stock once the locks are held.
+     */
+    private static final String CLAIM_ANY_SHARD_SQL =
+            "WITH locked AS (SELECT shard_id, quantity_remaining FROM sticker_stock_shards"
+                    + " WHERE sticker_id = :stickerId ORDER BY shard_id FOR UPDATE)"
+                    + " UPDATE sticker_stock_shards SET quantity_remaining = quantity_remaining - 1"
+                    + " WHERE sticker_id = :stickerId AND quantity_remaining > 0 AND shard_id = ("
+                    + " SELECT shard_id FROM locked WHERE quantity_remaining > 0"
+                    + " ORDER BY mod(shard_id + :offset, :shardCount) LIMIT 1)"
+                    + " RETURNING shard_id";
+
+    private static final String RELEASE_SHARD_SQL =
+            "UPDATE sticker_stock_shards SET quantity_remaining = quantity_remaining + :amount"
+                    + " WHERE sticker_id = :stickerId AND shard_id = :shardId";
+
+    private static final String SUM_SQL =
+            "SELECT COALESCE(SUM(quantity_remaining), 0) AS total"
+                    + " FROM sticker_stock_shards WHERE sticker_id = :stickerId";
+
+    /** Key of the advisory lock held while refreshing; any value unique within the database. */
+    static final long REFRESH_LOCK_KEY = 0x5354_4B53_4841_5244L;
+
+    /**
+     * Copies each sharded sticker's shard total onto its row. Like a claim on an unsharded sticker,
+     * this leaves the version alone, so the refresh never invalidates an in-flight metadata edit.
+     */
+    private static final String REFRESH_CACHED_SUMS_SQL =
+            "UPDATE stickers s SET sticker_quantity_remaining = t.total, updated_at = :now, "
+                    + Sticker.STAMP_CHANGE
+                    + " FROM (SELECT sticker_id, SUM(quantity_remaining) AS total"
+                    + " FROM sticker_stock_shards GROUP BY sticker_id) t"
+                    + " WHERE s.sticker_id = t.sticker_id AND s.stock_shard_count > 0"
+                    + " AND s.sticker_quantity_remaining <> t.total";
+
+    @Inject EntityManager entityManager;
+
+    @ConfigProperty(name = "sticker.stock.shards.max", defaultValue = "64")
+    int maxShardCount;
+
+    /**
+     * Normalises a requested shard count. Counts of 0 or 1 mean "not sharded".
+     *
+     * @param requested the requested shard count
+     * @return the shard count to store on the sticker
+     * @throws IllegalArgumentException if the count is negative or above the configured maximum
+     */
+    public int normalizeShardCount(int requested) {
+        if (requested < 0 || requested > maxShardCount) {
+            throw new IllegalArgumentException(
+                    "Stock shard count must be between 0 and " + maxShardCount);
+        }
+        return requested <= 1 ? 0 : requested;
+    }
+
+    /**
+     * Claims one unit of stock from any shard that still has some.
+     *
+     * @param stickerId the ID of the sharded sticker
+     * @param shardCount the number of shards the sticker has
+     * @return the total remaining stock after the claim, or null if every shard is empty
+     */
+    public Integer claim(String stickerId, int shardCount) {
+        int offset = ThreadLocalRandom.current().nextInt(shardCount);
+
+        // First pass skips shards other claims are holding. Only if that finds nothing do we wait
+        // on all of them, since waiting on a single shard can end with that shard emptied while
+        // others still have stock, which would be reported as sold out.
+        if (claimShard(CLAIM_UNLOCKED_SHARD_SQL, stickerId, shardCount, offset)
+                || claimShard(CLAIM_ANY_SHARD_SQL, stickerId, shardCount, offset)) {
+            return sum(stickerId);
+        }
+        return null;
+    }
+
+    /**
+     * Returns stock to a random shard.
+     *
+     * @param stickerId the ID of the sharded sticker
+     * @param shardCount the number of shards the sticker has
+     * @param amount the number of units to return
+     * @return the total remaining stock after the release
+     */
+    public int release(String stickerId, int shardCount, int amount) {
+        int shardId = ThreadLocalRandom.current().nextInt(shardCount);
+        entityManager
+                .createNativeQuery(RELEASE_SHARD_SQL)
+                .setParameter("stickerId", stickerId)
+                .setParameter("shardId", shardId)
+                .setParameter("amount", amount)
+                .executeUpdate();
+        return sum(stickerId);
+    }
+
+    /**
+     * Locks every shard of a sticker and returns their exact total, so that the stock can be
+     * redistributed without racing concurrent claims.
+     *
+     * @param stickerId the ID of the sharded sticker
+     * @return the exact total stock across all shards
+     */
+    public int lockAndSum(String stickerId) {
+        List<Integer> quantities =
+                entityManager
+                        .createNativeQuery(
+                                "SELECT quantity_remaining FROM sticker_stock_shards"
+                                        + " WHERE sticker_id = :stickerId FOR UPDATE")
+                        .unwrap(NativeQuery.class)
+                        .addScalar("quantity_remaining", Integer.class)
+                        .setParameter("stickerId", stickerId)
+                        .getResultList();
+        return quantities.stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * Replaces a sticker's shards with {@code shardCount} new shards holding {@code quantity}
+     * between them. A shard count of 0 just removes the shards.
+     *
+     * @param stickerId the ID of the sticker
+     * @param quantity the total quantity to distribute
+     * @param shardCount the number of shards to create
+     */
+    public void distribute(String stickerId, int quantity, int shardCount) {
+        StickerStockShard.delete("stickerId", stickerId);
+        for (int shardId = 0; shardId < shardCount; shardId++) {
+            // Spread the remainder over the first shards so the totals add up exactly
+            int share = quantity / shardCount + (shardId < quantity % shardCount ? 1 : 0);
+            new StickerStockShard(stickerId, shardId, share).persist();
+        }
+    }
+
+    /**
+     * Refreshes the cached quantity on every sharded sticker whose shards have changed. Every
+     * replica schedules this, but only the one that gets the advisory lock runs it, so the sums are
+     * computed once per interval rather than once per replica.
+     */
+    @Scheduled(
+            every = "${sticker.stock.shards.refresh-interval:5s}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    @Transactional
+    void refreshCachedQuantities() {
+        Boolean locked =
+                (Boolean)
+                        entityManager
+                                .createNativeQuery("SELECT pg_try_advisory_xact_lock(:key)")
+                                .setParameter("key", REFRESH_LOCK_KEY)
+                                .getSingleResult();
+        if (!Boolean.TRUE.equals(locked)) {
+            LOG.debug("Another replica is refreshing cached stock, skipping");
+            return;
+        }
+
+        int updated =
+                entityManager
+                        .createNativeQuery(REFRESH_CACHED_SUMS_SQL)
+                        .setParameter("now", Instant.now())
+                        .executeUpdate();
+        if (updated > 0) {
+            LOG.debugf("Refreshed cached stock for %d sharded stickers", updated);
+        }
+    }
+
+    private boolean claimShard(String sql, String stickerId, int shardCount, int offset) {
+        return !entityManager
+                .createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addScalar("shard_id", Integer.class)
+                .setParameter("stickerId", stickerId)
+                .setParameter("shardCount", shardCount)
+                .setParameter("offset", offset)
+                .getResultList()
+                .isEmpty();
+    }
+
+    private int sum(String stickerId) {
+        Number total =
+                (Number)
+                        entityManager
+                                .createNativeQuery(SUM_SQL)
+                                .setParameter("stickerId", stickerId)
+                                .getSingleResult();
+        return total.intValue();
+    }
+}
@@ -13,7 +13,12 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 
 /** Request DTO for creating a new sticker. */
 @JsonInclude(JsonInclude.Include.NON_NULL)
-@JsonPropertyOrder({"stickerName", "stickerDescription", "stickerQuantityRemaining"})
+@JsonPropertyOrder({
+    "stickerName",
+    "stickerDescription",
+    "stickerQuantityRemaining",
+    "stockShardCount"
+})
 public class CreateStickerRequest {
 
     @JsonProperty("stickerName")
@@ -26,6 +31,11 @@ public class CreateStickerRequest {
     @JsonPropertyDescription("Quantity remaining (-1 for infinite)")
     private Integer stickerQuantityRemaining;
 
+    @JsonProperty("stockShardCount")
+    @JsonPropertyDescription(
+            "Number of stock counter shards for hot limited stickers (0 or 1 for none)")
+    private Integer stockShardCount;
+
     @JsonProperty("stickerName")
     public String getStickerName() {
         return stickerName;
@@ -55,4 +65,14 @@ public class CreateStickerRequest {
     public void setStickerQuantityRemaining(Integer stickerQuantityRemaining) {
         this.stickerQuantityRemaining = stickerQuantityRemaining;
     }
+
+    @JsonProperty("stockShardCount")
+    public Integer getStockShardCount() {
+        return stockShardCount;
+    }
+
+    @JsonProperty("stockShardCount")
+    public void setStockShardCount(Integer stockShardCount) {
+        this.stockShardCount = stockShardCount;
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/** One entry of the catalogue change feed. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"changeToken", "changeType", "stickerId", "sticker"})
+public class StickerChange {
+
+    /** Whether the sticker now exists with the given state, or has been deleted. */
+    public enum ChangeType {
+        @JsonProperty("upsert")
+        UPSERT,
+        @JsonProperty("delete")
+        DELETE
+    }
+
+    @JsonProperty("changeToken")
+    @JsonPropertyDescription("Position of this change in the feed")
+    private String changeToken;
+
+    @JsonProperty("changeType")
+    private ChangeType changeType;
+
+    @JsonProperty("stickerId")
+    private String stickerId;
+
+    /** The sticker's current state. Absent for deletions. */
+    @JsonProperty("sticker")
+    @JsonPropertyDescription("The sticker's current state; absent for deletions")
+    private StickerDTO sticker;
+
+    @JsonProperty("changeToken")
+    public String getChangeToken() {
+        return changeToken;
+    }
+
+    @JsonProperty("changeToken")
+    public void setChangeToken(String changeToken) {
+        this.changeToken = changeToken;
+    }
+
+    @JsonProperty("changeType")
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    @JsonProperty("changeType")
+    public void setChangeType(ChangeType changeType) {
+        this.changeType = changeType;
+    }
+
+    @JsonProperty("stickerId")
+    public String getStickerId() {
+        return stickerId;
+    }
+
+    @JsonProperty("stickerId")
+    public void setStickerId(String stickerId) {
+        this.stickerId = stickerId;
+    }
+
+    /** The sticker's current state. Absent for deletions. */
+    @JsonProperty("sticker")
+    public StickerDTO getSticker() {
+        return sticker;
+    }
+
+    /** The sticker's current state. Absent for deletions. */
+    @JsonProperty("sticker")
+    public void setSticker(StickerDTO sticker) {
+        this.sticker = sticker;
+    }
+}
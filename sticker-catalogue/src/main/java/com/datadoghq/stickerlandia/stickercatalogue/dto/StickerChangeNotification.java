@@ -0,0 +1,130 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import java.util.Date;
+
+/** A live notification sent on the catalogue change stream. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"type", "stickerId", "stickerName", "stickerQuantityRemaining", "occurredAt"})
+public class StickerChangeNotification {
+
+    /** What happened to the sticker. */
+    public enum Type {
+        @JsonProperty("created")
+        CREATED,
+        @JsonProperty("updated")
+        UPDATED,
+        @JsonProperty("deleted")
+        DELETED,
+        @JsonProperty("quantity-changed")
+        QUANTITY_CHANGED
+    }
+
+    @JsonProperty("type")
+    private Type type;
+
+    @JsonProperty("stickerId")
+    private String stickerId;
+
+    /** The sticker's name. Absent for quantity changes. */
+    @JsonProperty("stickerName")
+    @JsonPropertyDescription("The sticker's name; absent for quantity changes")
+    private String stickerName;
+
+    /** Quantity remaining after the change (-1 for infinite). Absent for deletions. */
+    @JsonProperty("stickerQuantityRemaining")
+    @JsonPropertyDescription(
+            "Quantity remaining after the change (-1 for infinite); absent for deletions")
+    private Integer stickerQuantityRemaining;
+
+    @JsonFormat(
+            shape = JsonFormat.Shape.STRING,
+            pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'",
+            timezone = "UTC")
+    @JsonProperty("occurredAt")
+    private Date occurredAt;
+
+    /** Creates an empty notification, for deserialization. */
+    public StickerChangeNotification() {}
+
+    /**
+     * Creates a notification that happened now.
+     *
+     * @param type what happened to the sticker
+     * @param stickerId the ID of the sticker
+     * @param stickerName the sticker's name, or null
+     * @param stickerQuantityRemaining the quantity remaining, or null
+     */
+    public StickerChangeNotification(
+            Type type, String stickerId, String stickerName, Integer stickerQuantityRemaining) {
+        this.type = type;
+        this.stickerId = stickerId;
+        this.stickerName = stickerName;
+        this.stickerQuantityRemaining = stickerQuantityRemaining;
+        this.occurredAt = new Date();
+    }
+
+    @JsonProperty("type")
+    public Type getType() {
+        return type;
+    }
+
+    @JsonProperty("type")
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    @JsonProperty("stickerId")
+    public String getStickerId() {
+        return stickerId;
+    }
+
+    @JsonProperty("stickerId")
+    public void setStickerId(String stickerId) {
+        this.stickerId = stickerId;
+    }
+
+    /** The sticker's name. Absent for quantity changes. */
+    @JsonProperty("stickerName")
+    public String getStickerName() {
+        return stickerName;
+    }
+
+    /** The sticker's name. Absent for quantity changes. */
+    @JsonProperty("stickerName")
+    public void setStickerName(String stickerName) {
+        this.stickerName = stickerName;
+    }
+
+    /** Quantity remaining after the change (-1 for infinite). Absent for deletions. */
+    @JsonProperty("stickerQuantityRemaining")
+    public Integer getStickerQuantityRemaining() {
+        return stickerQuantityRemaining;
+    }
+
+    /** Quantity remaining after the change (-1 for infinite). Absent for deletions. */
+    @JsonProperty("stickerQuantityRemaining")
+    public void setStickerQuantityRemaining(Integer stickerQuantityRemaining) {
+        this.stickerQuantityRemaining = stickerQuantityRemaining;
+    }
+
+    @JsonProperty("occurredAt")
+    public Date getOccurredAt() {
+        return occurredAt;
+    }
+
+    @JsonProperty("occurredAt")
+    public void setOccurredAt(Date occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Response DTO for the catalogue change feed. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"changes", "nextToken", "hasMore"})
+public class StickerChangesResponse {
+
+    @JsonProperty("changes")
+    private List<StickerChange> changes = new ArrayList<>();
+
+    /** Token to pass as {@code since} on the next call. */
+    @JsonProperty("nextToken")
+    @JsonPropertyDescription("Token to pass as since on the next call")
+    private String nextToken;
+
+    /** Whether more changes are ready and can be fetched straight away. */
+    @JsonProperty("hasMore")
+    @JsonPropertyDescription("Whether more changes can be fetched straight away")
+    private boolean hasMore;
+
+    @JsonProperty("changes")
+    public List<StickerChange> getChanges() {
+        return changes;
+    }
+
+    @JsonProperty("changes")
+    public void setChanges(List<StickerChange> changes) {
+        this.changes = changes;
+    }
+
+    /** Token to pass as {@code since} on the next call. */
+    @JsonProperty("nextToken")
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    /** Token to pass as {@code since} on the next call. */
+    @JsonProperty("nextToken")
+    public void setNextToken(String nextToken) {
+        this.nextToken = nextToken;
+    }
+
+    /** Whether more changes are ready and can be fetched straight away. */
+    @JsonProperty("hasMore")
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    /** Whether more changes are ready and can be fetched straight away. */
+    @JsonProperty("hasMore")
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -21,6 +21,7 @@ import java.util.Date;
     "stickerName",
     "stickerDescription",
     "stickerQuantityRemaining",
+    "stockShardCount",
     "imagePath",
     "createdAt",
     "updatedAt"
@@ -41,6 +42,12 @@ public class StickerDTO {
     @JsonPropertyDescription("Quantity remaining (-1 for infinite)")
     private Integer stickerQuantityRemaining;
 
+    /** Number of stock counter shards, omitted when stock is held on a single row. */
+    @JsonProperty("stockShardCount")
+    @JsonPropertyDescription(
+            "Number of stock counter shards; when present, the quantity remaining is a cached sum")
+    private Integer stockShardCount;
+
     /** Path to the sticker image resource. */
     @JsonProperty("imagePath")
     @JsonPropertyDescription("Path to the sticker image resource")
@@ -62,6 +69,9 @@ public class StickerDTO {
 
     @JsonIgnore private String imageKey;
 
+    /** Optimistic locking version, sent to clients as the ETag rather than in the body. */
+    @JsonIgnore private Long version;
+
     /** The unique identifier for the sticker. */
     @JsonProperty("stickerId")
     public String getStickerId() {
@@ -110,6 +120,18 @@ public class StickerDTO {
         this.stickerQuantityRemaining = stickerQuantityRemaining;
     }
 
+    /** Number of stock counter shards, omitted when stock is held on a single row. */
+    @JsonProperty("stockShardCount")
+    public Integer getStockShardCount() {
+        return stockShardCount;
+    }
+
+    /** Number of stock counter shards, omitted when stock is held on a single row. */
+    @JsonProperty("stockShardCount")
+    public void setStockShardCount(Integer stockShardCount) {
+        this.stockShardCount = stockShardCount;
+    }
+
     /** Path to the sticker image resource. */
     @JsonProperty("imagePath")
     public String getImagePath() {
@@ -149,4 +171,12 @@ public class StickerDTO {
     public void setImageKey(String imageKey) {
         this.imageKey = imageKey;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
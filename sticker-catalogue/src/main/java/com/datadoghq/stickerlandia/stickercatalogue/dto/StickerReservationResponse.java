@@ -0,0 +1,81 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import java.time.Instant;
+
+/** Response DTO for sticker stock reservation operations. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"reservationId", "stickerId", "stickerQuantityRemaining", "expiresAt"})
+public class StickerReservationResponse {
+
+    @JsonProperty("reservationId")
+    private String reservationId;
+
+    @JsonProperty("stickerId")
+    private String stickerId;
+
+    /** Quantity remaining after the operation (-1 for infinite). */
+    @JsonProperty("stickerQuantityRemaining")
+    @JsonPropertyDescription("Quantity remaining after the operation (-1 for infinite)")
+    private Integer stickerQuantityRemaining;
+
+    /** When an unconfirmed hold lapses. Absent once the hold has been confirmed or cancelled. */
+    @JsonFormat(
+            shape = JsonFormat.Shape.STRING,
+            pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'",
+            timezone = "UTC")
+    @JsonProperty("expiresAt")
+    @JsonPropertyDescription("When the hold lapses and its stock is returned")
+    private Instant expiresAt;
+
+    @JsonProperty("reservationId")
+    public String getReservationId() {
+        return reservationId;
+    }
+
+    @JsonProperty("reservationId")
+    public void setReservationId(String reservationId) {
+        this.reservationId = reservationId;
+    }
+
+    @JsonProperty("stickerId")
+    public String getStickerId() {
+        return stickerId;
+    }
+
+    @JsonProperty("stickerId")
+    public void setStickerId(String stickerId) {
+        this.stickerId = stickerId;
+    }
+
+    /** Quantity remaining after the operation (-1 for infinite). */
+    @JsonProperty("stickerQuantityRemaining")
+    public Integer getStickerQuantityRemaining() {
+        return stickerQuantityRemaining;
+    }
+
+    @JsonProperty("stickerQuantityRemaining")
+    public void setStickerQuantityRemaining(Integer stickerQuantityRemaining) {
+        this.stickerQuantityRemaining = stickerQuantityRemaining;
+    }
+
+    @JsonProperty("expiresAt")
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    @JsonProperty("expiresAt")
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
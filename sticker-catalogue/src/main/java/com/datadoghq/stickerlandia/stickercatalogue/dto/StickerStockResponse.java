@@ -0,0 +1,47 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/** Response DTO for sticker stock claim and release operations. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"stickerId", "stickerQuantityRemaining"})
+public class StickerStockResponse {
+
+    @JsonProperty("stickerId")
+    private String stickerId;
+
+    /** Quantity remaining after the operation (-1 for infinite). */
+    @JsonProperty("stickerQuantityRemaining")
+    @JsonPropertyDescription("Quantity remaining after the operation (-1 for infinite)")
+    private Integer stickerQuantityRemaining;
+
+    @JsonProperty("stickerId")
+    public String getStickerId() {
+        return stickerId;
+    }
+
+    @JsonProperty("stickerId")
+    public void setStickerId(String stickerId) {
+        this.stickerId = stickerId;
+    }
+
+    /** Quantity remaining after the operation (-1 for infinite). */
+    @JsonProperty("stickerQuantityRemaining")
+    public Integer getStickerQuantityRemaining() {
+        return stickerQuantityRemaining;
+    }
+
+    @JsonProperty("stickerQuantityRemaining")
+    public void setStickerQuantityRemaining(Integer stickerQuantityRemaining) {
+        this.stickerQuantityRemaining = stickerQuantityRemaining;
+    }
+}
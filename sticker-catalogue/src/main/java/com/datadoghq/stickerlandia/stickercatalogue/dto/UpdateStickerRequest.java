@@ -13,7 +13,12 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 
 /** Request DTO for updating an existing sticker. */
 @JsonInclude(JsonInclude.Include.NON_NULL)
-@JsonPropertyOrder({"stickerName", "stickerDescription", "stickerQuantityRemaining"})
+@JsonPropertyOrder({
+    "stickerName",
+    "stickerDescription",
+    "stickerQuantityRemaining",
+    "stockShardCount"
+})
 public class UpdateStickerRequest {
 
     @JsonProperty("stickerName")
@@ -27,6 +32,12 @@ public class UpdateStickerRequest {
     @JsonPropertyDescription("Quantity remaining (-1 for infinite)")
     private Integer stickerQuantityRemaining;
 
+    /** Number of stock counter shards (0 or 1 to keep stock on a single row). */
+    @JsonProperty("stockShardCount")
+    @JsonPropertyDescription(
+            "Number of stock counter shards for hot limited stickers (0 or 1 for none)")
+    private Integer stockShardCount;
+
     /** The name of the sticker. */
     @JsonProperty("stickerName")
     public String getStickerName() {
@@ -60,4 +71,15 @@ public class UpdateStickerRequest {
     public void setStickerQuantityRemaining(Integer stickerQuantityRemaining) {
         this.stickerQuantityRemaining = stickerQuantityRemaining;
     }
+
+    /** Number of stock counter shards (0 or 1 to keep stock on a single row). */
+    @JsonProperty("stockShardCount")
+    public Integer getStockShardCount() {
+        return stockShardCount;
+    }
+
+    @JsonProperty("stockShardCount")
+    public void setStockShardCount(Integer stockShardCount) {
+        this.stockShardCount = stockShardCount;
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+
+/**
+ * Entity recording which version of a set of seed data has been applied. The seed is finished once
+ * {@code completedAt} is set; until then, {@code startedAt} tells other replicas how long ago a
+ * replica took it on.
+ */
+@Entity
+@Table(name = "seed_versions")
+public class SeedVersion extends PanacheEntityBase {
+
+    @Id
+    @Column(name = "seed_name", length = 50)
+    private String seedName;
+
+    @Column(name = "version", nullable = false)
+    private int version;
+
+    @Column(name = "started_at", nullable = false)
+    private Instant startedAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    /** Default constructor for JPA. */
+    public SeedVersion() {}
+
+    /**
+     * Constructor for a seed being started now.
+     *
+     * @param seedName the name of the seed data
+     * @param version the version being applied
+     */
+    public SeedVersion(String seedName, int version) {
+        this.seedName = seedName;
+        this.version = version;
+        this.startedAt = Instant.now();
+    }
+
+    // Getters and setters
+    public String getSeedName() {
+        return seedName;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(Instant completedAt) {
+        this.completedAt = completedAt;
+    }
+}
@@ -10,14 +10,51 @@ import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.time.Instant;
-
-/** Entity representing a sticker in the system. */
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Generated;
+import org.hibernate.generator.EventType;
+
+/**
+ * Entity representing a sticker in the system.
+ *
+ * <p>Updates only write the columns that changed, so saving a rename never writes back a quantity
+ * that a concurrent claim has since moved.
+ */
 @Entity
-@Table(name = "stickers")
+@DynamicUpdate
+@Table(
+        name = "stickers",
+        indexes =
+                @Index(
+                        name = "idx_stickers_change_position",
+                        columnList = "change_xid, change_seq"))
 public class Sticker extends PanacheEntityBase {
 
+    /** Sequence that numbers every change to the catalogue, for the change feed. */
+    public static final String CHANGE_SEQUENCE = "sticker_change_seq";
+
+    /** SQL expression that takes the next change number. */
+    public static final String NEXT_CHANGE_SEQ = "nextval('" + CHANGE_SEQUENCE + "')";
+
+    /** SQL expression for the ID of the writing transaction, as a number. */
+    public static final String CURRENT_XID = "pg_current_xact_id()::text::bigint";
+
+    /**
+     * SQL expression for the oldest transaction still running. Every transaction below it has
+     * either committed or rolled back, and any that commits later will be at or above it.
+     */
+    public static final String SNAPSHOT_XMIN =
+            "pg_snapshot_xmin(pg_current_snapshot())::text::bigint";
+
+    /** SQL assignments that stamp a row with its change, for native UPDATEs. */
+    public static final String STAMP_CHANGE =
+            "change_seq = " + NEXT_CHANGE_SEQ + ", change_xid = " + CURRENT_XID;
+
     @Id
     @Column(name = "sticker_id")
     private String stickerId;
@@ -34,12 +71,37 @@ public class Sticker extends PanacheEntityBase {
     @Column(name = "sticker_quantity_remaining", nullable = false)
     private Integer stickerQuantityRemaining;
 
+    @Column(name = "stock_shard_count", nullable = false)
+    @ColumnDefault("0")
+    private int stockShardCount;
+
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
     @Column(name = "updated_at")
     private Instant updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    @ColumnDefault("0")
+    private long version;
+
+    // Taken from the sequence on every insert and update; native UPDATEs set it themselves
+    @Generated(
+            event = {EventType.INSERT, EventType.UPDATE},
+            sql = NEXT_CHANGE_SEQ)
+    @Column(name = "change_seq", nullable = false)
+    @ColumnDefault(NEXT_CHANGE_SEQ)
+    private long changeSeq;
+
+    // The transaction that made the change; the feed only returns changes once it has committed
+    @Generated(
+            event = {EventType.INSERT, EventType.UPDATE},
+            sql = CURRENT_XID)
+    @Column(name = "change_xid", nullable = false)
+    @ColumnDefault(CURRENT_XID)
+    private long changeXid;
+
     /** Default constructor for JPA. */
     public Sticker() {}
 
@@ -101,6 +163,14 @@ public class Sticker extends PanacheEntityBase {
         this.stickerQuantityRemaining = stickerQuantityRemaining;
     }
 
+    public int getStockShardCount() {
+        return stockShardCount;
+    }
+
+    public void setStockShardCount(int stockShardCount) {
+        this.stockShardCount = stockShardCount;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -117,6 +187,30 @@ public class Sticker extends PanacheEntityBase {
         this.updatedAt = updatedAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public void setChangeSeq(long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
+    public long getChangeXid() {
+        return changeXid;
+    }
+
+    public void setChangeXid(long changeXid) {
+        this.changeXid = changeXid;
+    }
+
     /**
      * Checks if this sticker is available for assignment.
      *
@@ -128,6 +222,16 @@ public class Sticker extends PanacheEntityBase {
                 || stickerQuantityRemaining > 0;
     }
 
+    /**
+     * Checks if this sticker's stock is split across {@link StickerStockShard} rows. When it is,
+     * {@link #getStickerQuantityRemaining()} is a cached sum of the shards.
+     *
+     * @return true if the sticker's stock is sharded, false otherwise
+     */
+    public boolean hasShardedStock() {
+        return stockShardCount > 0;
+    }
+
     /**
      * Checks if this sticker has unlimited quantity.
      *
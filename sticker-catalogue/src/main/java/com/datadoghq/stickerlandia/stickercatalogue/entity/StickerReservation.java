@@ -0,0 +1,93 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Instant;
+
+/** Entity representing an unconfirmed, time-limited hold on one unit of a sticker's stock. */
+@Entity
+@Table(
+        name = "sticker_reservations",
+        indexes = {
+            @Index(name = "idx_sticker_reservations_expires_at", columnList = "expires_at"),
+            @Index(name = "idx_sticker_reservations_sticker_id", columnList = "sticker_id")
+        })
+public class StickerReservation extends PanacheEntityBase {
+
+    @Id
+    @Column(name = "reservation_id")
+    private String reservationId;
+
+    @Column(name = "sticker_id", nullable = false)
+    private String stickerId;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    /** Default constructor for JPA. */
+    public StickerReservation() {}
+
+    /**
+     * Constructor with fields for creating a new reservation.
+     *
+     * @param reservationId the unique identifier for the reservation
+     * @param stickerId the sticker being held
+     * @param expiresAt when the hold lapses and its stock is returned
+     */
+    public StickerReservation(String reservationId, String stickerId, Instant expiresAt) {
+        this.reservationId = reservationId;
+        this.stickerId = stickerId;
+        this.expiresAt = expiresAt;
+        this.createdAt = Instant.now();
+    }
+
+    // Getters and setters
+    public String getReservationId() {
+        return reservationId;
+    }
+
+    public void setReservationId(String reservationId) {
+        this.reservationId = reservationId;
+    }
+
+    public String getStickerId() {
+        return stickerId;
+    }
+
+    public void setStickerId(String stickerId) {
+        this.stickerId = stickerId;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
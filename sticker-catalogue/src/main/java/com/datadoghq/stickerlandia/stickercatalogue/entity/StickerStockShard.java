@@ -0,0 +1,107 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.util.Objects;
+
+/** Entity representing one stock counter shard of a sharded, limited-quantity sticker. */
+@Entity
+@Table(name = "sticker_stock_shards")
+@IdClass(StickerStockShard.ShardKey.class)
+public class StickerStockShard extends PanacheEntityBase {
+
+    @Id
+    @Column(name = "sticker_id")
+    private String stickerId;
+
+    @Id
+    @Column(name = "shard_id")
+    private Integer shardId;
+
+    @Column(name = "quantity_remaining", nullable = false)
+    private Integer quantityRemaining;
+
+    /** Default constructor for JPA. */
+    public StickerStockShard() {}
+
+    /**
+     * Constructor with fields for creating a new shard.
+     *
+     * @param stickerId the sticker this shard belongs to
+     * @param shardId the index of the shard
+     * @param quantityRemaining the quantity held by this shard
+     */
+    public StickerStockShard(String stickerId, Integer shardId, Integer quantityRemaining) {
+        this.stickerId = stickerId;
+        this.shardId = shardId;
+        this.quantityRemaining = quantityRemaining;
+    }
+
+    // Getters and setters
+    public String getStickerId() {
+        return stickerId;
+    }
+
+    public void setStickerId(String stickerId) {
+        this.stickerId = stickerId;
+    }
+
+    public Integer getShardId() {
+        return shardId;
+    }
+
+    public void setShardId(Integer shardId) {
+        this.shardId = shardId;
+    }
+
+    public Integer getQuantityRemaining() {
+        return quantityRemaining;
+    }
+
+    public void setQuantityRemaining(Integer quantityRemaining) {
+        this.quantityRemaining = quantityRemaining;
+    }
+
+    /** Composite primary key of a stock shard. */
+    public static class ShardKey implements Serializable {
+
+        private String stickerId;
+        private Integer shardId;
+
+        /** Default constructor for JPA. */
+        public ShardKey() {}
+
+        public ShardKey(String stickerId, Integer shardId) {
+            this.stickerId = stickerId;
+            this.shardId = shardId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ShardKey other)) {
+                return false;
+            }
+            return Objects.equals(stickerId, other.stickerId)
+                    && Objects.equals(shardId, other.shardId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(stickerId, shardId);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Generated;
+import org.hibernate.generator.EventType;
+
+/**
+ * Entity recording that a sticker was deleted, so the change feed can report it. It is numbered
+ * from the same sequence as {@link Sticker#getChangeSeq()}, and stamped with the deleting
+ * transaction like {@link Sticker#getChangeXid()}.
+ */
+@Entity
+@Table(
+        name = "sticker_tombstones",
+        indexes =
+                @Index(
+                        name = "idx_sticker_tombstones_change_position",
+                        columnList = "change_xid, change_seq"))
+public class StickerTombstone extends PanacheEntityBase {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sticker_change_seq")
+    @SequenceGenerator(
+            name = "sticker_change_seq",
+            sequenceName = Sticker.CHANGE_SEQUENCE,
+            allocationSize = 1)
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
+    @Generated(event = EventType.INSERT)
+    @Column(name = "change_xid", nullable = false)
+    @ColumnDefault(Sticker.CURRENT_XID)
+    private long changeXid;
+
+    @Column(name = "sticker_id", nullable = false, length = 50)
+    private String stickerId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+
+    /** Default constructor for JPA. */
+    public StickerTombstone() {}
+
+    /**
+     * Constructor for recording a deletion now.
+     *
+     * @param stickerId the ID of the deleted sticker
+     */
+    public StickerTombstone(String stickerId) {
+        this.stickerId = stickerId;
+        this.deletedAt = Instant.now();
+    }
+
+    // Getters and setters
+    public Long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public long getChangeXid() {
+        return changeXid;
+    }
+
+    public String getStickerId() {
+        return stickerId;
+    }
+
+    public void setStickerId(String stickerId) {
+        this.stickerId = stickerId;
+    }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(Instant deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.health;
+
+import com.datadoghq.stickerlandia.common.health.DependencyCheck;
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.arc.lookup.LookupIfProperty;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Checks that the connection pool can hand out a valid Postgres connection. Not registered when
+ * stickers are kept in memory, since nothing connects to the database then.
+ */
+@ApplicationScoped
+@LookupIfProperty(name = "sticker.store", stringValue = "postgres", lookupIfMissing = true)
+public class DatabaseCheck implements DependencyCheck {
+
+    @Inject AgroalDataSource dataSource;
+
+    @Override
+    public String name() {
+        return "database";
+    }
+
+    @Override
+    public void check() throws Exception {
+        // Validates a pooled connection rather than opening a new one
+        if (!dataSource.isHealthy(false)) {
+            throw new IllegalStateException("Pooled connection failed validation");
+        }
+    }
+}
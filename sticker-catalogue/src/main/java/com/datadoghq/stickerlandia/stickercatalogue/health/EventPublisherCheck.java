@@ -0,0 +1,29 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.health;
+
+import com.datadoghq.stickerlandia.common.health.DependencyCheck;
+import com.datadoghq.stickerlandia.stickercatalogue.messaging.StickerEventPublisher;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/** Checks that the configured {@link StickerEventPublisher} can reach its broker. */
+@ApplicationScoped
+public class EventPublisherCheck implements DependencyCheck {
+
+    @Inject StickerEventPublisher publisher;
+
+    @Override
+    public String name() {
+        return "event-publisher";
+    }
+
+    @Override
+    public void check() throws Exception {
+        publisher.checkHealth();
+    }
+}
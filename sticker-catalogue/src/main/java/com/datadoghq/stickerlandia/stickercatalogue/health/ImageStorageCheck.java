@@ -0,0 +1,29 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.health;
+
+import com.datadoghq.stickerlandia.common.health.DependencyCheck;
+import com.datadoghq.stickerlandia.stickercatalogue.StickerImageService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/** Checks that the sticker image bucket is reachable. */
+@ApplicationScoped
+public class ImageStorageCheck implements DependencyCheck {
+
+    @Inject StickerImageService stickerImageService;
+
+    @Override
+    public String name() {
+        return "image-storage";
+    }
+
+    @Override
+    public void check() {
+        stickerImageService.checkBucket();
+    }
+}
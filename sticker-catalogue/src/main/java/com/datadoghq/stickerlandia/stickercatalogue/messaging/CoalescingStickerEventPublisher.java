@@ -0,0 +1,224 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.messaging;
+
+import com.datadoghq.stickerlandia.stickercatalogue.event.CloudEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.event.StickerUpdatedEvent;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import org.jboss.logging.Logger;
+
+/**
+ * StickerEventPublisher decorator that collapses rapid updates to the same sticker.
+ *
+ * <p>The first update for a sticker is held for the coalescing window; further updates to that
+ * sticker within the window replace it, and only the latest state is sent when the window closes.
+ * Every caller whose update was folded in gets the outcome of that one send. Added and deleted
+ * events are never held: any update pending for the same sticker is sent first, so the order seen
+ * by consumers stays added, updated, deleted.
+ *
+ * <p>The delegate is never called while an entry of the pending map is locked. Instead, each send
+ * takes a turn in its sticker's chain while the entry is locked, and calls the delegate once the
+ * previous turn for that sticker has made its call, so the delegate still sees each sticker's
+ * events in order.
+ */
+public class CoalescingStickerEventPublisher implements StickerEventPublisher, AutoCloseable {
+
+    private static final Logger LOG = Logger.getLogger(CoalescingStickerEventPublisher.class);
+
+    private final StickerEventPublisher delegate;
+    private final long windowNanos;
+    private final ScheduledExecutorService timer;
+
+    private final ConcurrentHashMap<String, PendingUpdate> pending = new ConcurrentHashMap<>();
+
+    // The last turn taken for each sticker, removed once it is over and no later one was taken
+    private final Map<String, CompletableFuture<Void>> turns = new HashMap<>();
+
+    /**
+     * Creates a coalescing publisher.
+     *
+     * @param delegate the publisher that sends events to the broker
+     * @param window how long to hold an update for later ones to replace it
+     */
+    public CoalescingStickerEventPublisher(StickerEventPublisher delegate, Duration window) {
+        this.delegate = delegate;
+        this.windowNanos = window.toNanos();
+        this.timer =
+                Executors.newSingleThreadScheduledExecutor(
+                        Thread.ofPlatform().name("event-coalescer").daemon().factory());
+    }
+
+    @Override
+    public CompletionStage<Void> publishStickerAdded(
+            String stickerId, String name, String description) {
+        return publishEvent(StickerCloudEvents.stickerAdded(stickerId, name, description));
+    }
+
+    @Override
+    public CompletionStage<Void> publishStickerUpdated(
+            String stickerId, String name, String description) {
+        return publishEvent(StickerCloudEvents.stickerUpdated(stickerId, name, description));
+    }
+
+    @Override
+    public CompletionStage<Void> publishStickerDeleted(String stickerId, String name) {
+        return publishEvent(StickerCloudEvents.stickerDeleted(stickerId, name));
+    }
+
+    @Override
+    public CompletionStage<Void> publishEvent(CloudEvent<?> cloudEvent) {
+        String stickerId = StickerCloudEvents.stickerId(cloudEvent);
+        if (StickerUpdatedEvent.EVENT_TYPE.equals(cloudEvent.getType())) {
+            return hold(stickerId, cloudEvent);
+        }
+
+        CompletableFuture<Void> sent = new CompletableFuture<>();
+        PendingUpdate[] held = {null};
+        Turn[] turn = {null};
+        pending.compute(
+                stickerId,
+                (id, update) -> {
+                    if (update != null) {
+                        update.flushTimer().cancel(false);
+                    }
+                    held[0] = update;
+                    turn[0] = takeTurn(id);
+                    return null;
+                });
+        send(
+                turn[0],
+                () -> {
+                    if (held[0] != null) {
+                        send(held[0].latest(), held[0].sent());
+                    }
+                    send(cloudEvent, sent);
+                });
+        return sent;
+    }
+
+    @Override
+    public void checkHealth() throws Exception {
+        delegate.checkHealth();
+    }
+
+    /** Sends every held update straight away and stops the timer. */
+    @Override
+    public void close() {
+        List.copyOf(pending.keySet()).forEach(this::flush);
+        timer.shutdown();
+    }
+
+    private CompletionStage<Void> hold(String stickerId, CloudEvent<?> update) {
+        PendingUpdate held =
+                pending.compute(
+                        stickerId,
+                        (id, existing) -> {
+                            if (existing != null) {
+                                LOG.debugf("Coalesced update to sticker %s", id);
+                                return existing.replacedBy(update);
+                            }
+                            return new PendingUpdate(
+                                    update,
+                                    new CompletableFuture<>(),
+                                    timer.schedule(
+                                            () -> flush(id), windowNanos, TimeUnit.NANOSECONDS));
+                        });
+        return held.sent();
+    }
+
+    private void flush(String stickerId) {
+        PendingUpdate[] held = {null};
+        Turn[] turn = {null};
+        pending.computeIfPresent(
+                stickerId,
+                (id, update) -> {
+                    held[0] = update;
+                    turn[0] = takeTurn(id);
+                    return null;
+                });
+        if (held[0] != null) {
+            send(turn[0], () -> send(held[0].latest(), held[0].sent()));
+        }
+    }
+
+    /**
+     * Takes the next turn in a sticker's chain. Called while the sticker's pending entry is locked,
+     * so turns are taken in the order the entry changed.
+     */
+    private Turn takeTurn(String stickerId) {
+        CompletableFuture<Void> over = new CompletableFuture<>();
+        CompletableFuture<Void> previous;
+        synchronized (turns) {
+            previous = turns.put(stickerId, over);
+        }
+        return new Turn(stickerId, previous, over);
+    }
+
+    /**
+     * Runs {@code sends} once the previous turn is over: straight away on this thread if it already
+     * is, otherwise on the thread that ends it.
+     */
+    private void send(Turn turn, Runnable sends) {
+        Runnable inTurn =
+                () -> {
+                    try {
+                        sends.run();
+                    } finally {
+                        synchronized (turns) {
+                            turns.remove(turn.stickerId(), turn.over());
+                        }
+                        turn.over().complete(null);
+                    }
+                };
+        if (turn.previous() == null) {
+            inTurn.run();
+        } else {
+            turn.previous().thenRun(inTurn);
+        }
+    }
+
+    private void send(CloudEvent<?> cloudEvent, CompletableFuture<Void> sent) {
+        try {
+            delegate.publishEvent(cloudEvent).whenComplete(complete(sent));
+        } catch (RuntimeException e) {
+            sent.completeExceptionally(e);
+        }
+    }
+
+    private static BiConsumer<Void, Throwable> complete(CompletableFuture<Void> future) {
+        return (ignored, failure) -> {
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else {
+                future.complete(null);
+            }
+        };
+    }
+
+    /** A place in a sticker's chain, over once its sends have been handed to the delegate. */
+    private record Turn(
+            String stickerId, CompletableFuture<Void> previous, CompletableFuture<Void> over) {}
+
+    private record PendingUpdate(
+            CloudEvent<?> latest, CompletableFuture<Void> sent, ScheduledFuture<?> flushTimer) {
+
+        PendingUpdate replacedBy(CloudEvent<?> update) {
+            return new PendingUpdate(update, sent, flushTimer);
+        }
+    }
+}
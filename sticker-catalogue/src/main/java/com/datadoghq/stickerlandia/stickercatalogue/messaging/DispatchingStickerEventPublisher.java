@@ -0,0 +1,112 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.messaging;
+
+import com.datadoghq.stickerlandia.stickercatalogue.event.CloudEvent;
+import io.opentelemetry.api.metrics.Meter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * StickerEventPublisher decorator that takes sends off the calling thread.
+ *
+ * <p>Publishing only puts the event in a slot of a preallocated {@link EventRingBuffer} and
+ * returns; a single dispatcher thread then passes the events to the delegate in publish order, so
+ * the delegate's own batching (the Kafka producer's linger, EventBridge's PutEvents batches) sees
+ * them in bursts. The returned stage completes with the outcome of the delegate's send.
+ *
+ * <p>The CloudEvent itself is still created on the calling thread, because that is where the
+ * current span lives.
+ */
+public class DispatchingStickerEventPublisher implements StickerEventPublisher, AutoCloseable {
+
+    /** How the dispatcher thread waits when the ring is empty. */
+    public enum WaitStrategy {
+        /** Spins on the CPU; lowest hand-off latency, but keeps a core busy. */
+        BUSY_SPIN,
+        /** Spins briefly, then yields the CPU between checks. */
+        YIELDING,
+        /** Spins, yields, then sleeps 100µs between checks. */
+        SLEEPING,
+        /** Parks until a publisher signals it; cheapest when idle. */
+        BLOCKING
+    }
+
+    private final StickerEventPublisher delegate;
+    private final EventRingBuffer ring;
+
+    /**
+     * Creates a dispatching publisher and starts its dispatcher thread.
+     *
+     * @param delegate the publisher that sends events to the broker
+     * @param ringSize the number of slots in the ring, a power of two
+     * @param waitStrategy how the dispatcher thread waits for events
+     * @param maxBatch the most events taken from the ring at once
+     * @param meter the meter to register metrics with
+     */
+    public DispatchingStickerEventPublisher(
+            StickerEventPublisher delegate,
+            int ringSize,
+            WaitStrategy waitStrategy,
+            int maxBatch,
+            Meter meter) {
+        this.delegate = delegate;
+        this.ring = new EventRingBuffer(ringSize, waitStrategy, maxBatch, this::send);
+        meter.gaugeBuilder("sticker.events.dispatcher.backlog")
+                .setDescription("Events waiting in the dispatcher ring")
+                .setUnit("{event}")
+                .ofLongs()
+                .buildWithCallback(measurement -> measurement.record(ring.backlog()));
+    }
+
+    @Override
+    public CompletionStage<Void> publishStickerAdded(
+            String stickerId, String name, String description) {
+        return publishEvent(StickerCloudEvents.stickerAdded(stickerId, name, description));
+    }
+
+    @Override
+    public CompletionStage<Void> publishStickerUpdated(
+            String stickerId, String name, String description) {
+        return publishEvent(StickerCloudEvents.stickerUpdated(stickerId, name, description));
+    }
+
+    @Override
+    public CompletionStage<Void> publishStickerDeleted(String stickerId, String name) {
+        return publishEvent(StickerCloudEvents.stickerDeleted(stickerId, name));
+    }
+
+    @Override
+    public CompletionStage<Void> publishEvent(CloudEvent<?> cloudEvent) {
+        CompletableFuture<Void> sent = new CompletableFuture<>();
+        ring.publish(cloudEvent, sent);
+        return sent;
+    }
+
+    @Override
+    public void checkHealth() throws Exception {
+        delegate.checkHealth();
+    }
+
+    /** Stops accepting events and waits for those already published to be handed on. */
+    @Override
+    public void close() {
+        ring.close();
+    }
+
+    private void send(CloudEvent<?> cloudEvent, CompletableFuture<Void> sent) {
+        delegate.publishEvent(cloudEvent)
+                .whenComplete(
+                        (ignored, failure) -> {
+                            if (failure != null) {
+                                sent.completeExceptionally(failure);
+                            } else {
+                                sent.complete(null);
+                            }
+                        });
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.messaging;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequest;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequestEntry;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResponse;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResultEntry;
+
+/**
+ * Collects EventBridge entries into multi-entry {@code PutEvents} calls.
+ *
+ * <p>An entry waits at most {@code linger} for others to join it. A batch is sent as soon as it
+ * holds {@code maxEntries} entries (at most 10, the PutEvents limit), or earlier if the next entry
+ * would push it past the 256 KB request limit. PutEvents reports success per entry, so each
+ * caller's future completes with the outcome of its own entry rather than of the whole call.
+ *
+ * <p>Batches filled by a caller go to {@code sendExecutor}, which may make that caller send the
+ * batch itself when the pool is saturated. Batches flushed by the linger timer go to {@code
+ * lingerSendExecutor} instead, which must never run them on the timer's own thread: the timer is
+ * shared by every batch, and a PutEvents call on it would hold up every other linger flush.
+ */
+final class EventBridgeBatcher implements AutoCloseable {
+
+    static final int MAX_ENTRIES = 10;
+    static final int MAX_REQUEST_BYTES = 256 * 1024;
+
+    private final Function<PutEventsRequest, PutEventsResponse> sender;
+    private final Executor sendExecutor;
+    private final Executor lingerSendExecutor;
+    private final ScheduledExecutorService lingerTimer;
+    private final long lingerNanos;
+    private final int maxEntries;
+
+    private final Object lock = new Object();
+    private List<Pending> pending = new ArrayList<>();
+    private int pendingBytes;
+    private ScheduledFuture<?> lingerFlush;
+
+    /**
+     * Creates a batcher.
+     *
+     * @param sender performs the PutEvents call
+     * @param sendExecutor runs the PutEvents calls for batches filled by a caller
+     * @param lingerSendExecutor runs the PutEvents calls for batches flushed by the linger timer,
+     *     and must reject rather than run them on the calling thread
+     * @param linger how long the first entry of a batch waits for others
+     * @param maxEntries the most entries to send in one call, capped at {@value #MAX_ENTRIES}
+     */
+    EventBridgeBatcher(
+            Function<PutEventsRequest, PutEventsResponse> sender,
+            Executor sendExecutor,
+            Executor lingerSendExecutor,
+            Duration linger,
+            int maxEntries) {
+        this.sender = sender;
+        this.sendExecutor = sendExecutor;
+        this.lingerSendExecutor = lingerSendExecutor;
+        this.lingerNanos = linger.toNanos();
+        this.maxEntries = Math.max(1, Math.min(maxEntries, MAX_ENTRIES));
+        this.lingerTimer =
+                Executors.newSingleThreadScheduledExecutor(
+                        Thread.ofPlatform().name("eventbridge-batcher").daemon().factory());
+    }
+
+    /**
+     * Queues an entry for the next batch.
+     *
+     * @param entry the entry to send
+     * @return a future completed once EventBridge accepts the entry, or failed if it rejects it
+     */
+    CompletableFuture<Void> submit(PutEventsRequestEntry entry) {
+        int size = entrySize(entry);
+        if (size > MAX_REQUEST_BYTES) {
+            return CompletableFuture.failedFuture(
+                    new IllegalArgumentException(
+                            "Event of "
+                                    + size
+                                    + " bytes exceeds the PutEvents limit of "
+                                    + MAX_REQUEST_BYTES));
+        }
+
+        Pending entryPending = new Pending(entry, new CompletableFuture<>());
+        List<List<Pending>> ready = new ArrayList<>(2);
+        synchronized (lock) {
+            if (pendingBytes + size > MAX_REQUEST_BYTES) {
+                ready.add(drain());
+            }
+            pending.add(entryPending);
+            pendingBytes += size;
+            if (pending.size() >= maxEntries) {
+                ready.add(drain());
+            } else if (lingerFlush == null) {
+                lingerFlush =
+                        lingerTimer.schedule(
+                                () -> flush(lingerSendExecutor), lingerNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        ready.forEach(batch -> send(batch, sendExecutor));
+        return entryPending.future();
+    }
+
+    /** Sends whatever is currently waiting. */
+    void flush() {
+        flush(sendExecutor);
+    }
+
+    @Override
+    public void close() {
+        flush();
+        lingerTimer.shutdown();
+    }
+
+    private void flush(Executor executor) {
+        List<Pending> batch;
+        synchronized (lock) {
+            batch = drain();
+        }
+        send(batch, executor);
+    }
+
+    private List<Pending> drain() {
+        List<Pending> batch = pending;
+        pending = new ArrayList<>(maxEntries);
+        pendingBytes = 0;
+        if (lingerFlush != null) {
+            lingerFlush.cancel(false);
+            lingerFlush = null;
+        }
+        return batch;
+    }
+
+    private void send(List<Pending> batch, Executor executor) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            executor.execute(() -> sendNow(batch));
+        } catch (RejectedExecutionException e) {
+            batch.forEach(p -> p.future().completeExceptionally(e));
+        }
+    }
+
+    private void sendNow(List<Pending> batch) {
+        PutEventsResponse response;
+        try {
+            response =
+                    sender.apply(
+                            PutEventsRequest.builder()
+                                    .entries(batch.stream().map(Pending::entry).toList())
+                                    .build());
+        } catch (RuntimeException e) {
+            batch.forEach(p -> p.future().completeExceptionally(e));
+            return;
+        }
+
+        // Result entries are in the same order as the request entries
+        List<PutEventsResultEntry> results = response.entries();
+        for (int i = 0; i < batch.size(); i++) {
+            PutEventsResultEntry result = i < results.size() ? results.get(i) : null;
+            CompletableFuture<Void> future = batch.get(i).future();
+            if (result == null) {
+                future.completeExceptionally(
+                        new IllegalStateException("EventBridge returned no result for the event"));
+            } else if (result.errorCode() != null) {
+                future.completeExceptionally(
+                        new IllegalStateException(
+                                "EventBridge rejected the event: "
+                                        + result.errorCode()
+                                        + " - "
+                                        + result.errorMessage()));
+            } else {
+                future.complete(null);
+            }
+        }
+    }
+
+    /** Computes an entry's size the way EventBridge counts it against the request limit. */
+    static int entrySize(PutEventsRequestEntry entry) {
+        int size = 0;
+        if (entry.time() != null) {
+            size += 14;
+        }
+        size += utf8Length(entry.source());
+        size += utf8Length(entry.detailType());
+        size += utf8Length(entry.detail());
+        if (entry.hasResources()) {
+            for (String resource : entry.resources()) {
+                size += utf8Length(resource);
+            }
+        }
+        return size;
+    }
+
+    private static int utf8Length(String value) {
+        return value == null ? 0 : value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private record Pending(PutEventsRequestEntry entry, CompletableFuture<Void> future) {}
+}
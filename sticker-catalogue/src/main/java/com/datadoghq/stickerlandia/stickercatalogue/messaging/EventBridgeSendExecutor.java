@@ -0,0 +1,173 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.messaging;
+
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the blocking EventBridge calls on a small pool of their own.
+ *
+ * <p>The pool has a fixed number of threads and a bounded queue, so a slow EventBridge cannot tie
+ * up the JVM-wide common pool or let sends pile up without limit. When the queue is full the {@link
+ * RejectionPolicy} decides what happens: {@code ABORT} fails the send straight away, and {@code
+ * CALLER_RUNS} makes the submitting thread send the batch itself, which slows producers down to the
+ * rate EventBridge accepts. Threads that must never block, such as the batcher's linger timer,
+ * submit through {@link #offCaller()} instead, which fails the send when the queue is full whatever
+ * the policy.
+ */
+final class EventBridgeSendExecutor implements Executor, AutoCloseable {
+
+    /** What to do with a send when every thread is busy and the queue is full. */
+    enum RejectionPolicy {
+        ABORT,
+        CALLER_RUNS
+    }
+
+    private final ThreadPoolExecutor pool;
+    private final DoubleHistogram queueWait;
+    private final DoubleHistogram sendDuration;
+    private final LongCounter rejected;
+
+    /**
+     * Creates the pool and registers its metrics.
+     *
+     * @param threads the number of sending threads
+     * @param queueCapacity how many sends may wait for a thread
+     * @param rejectionPolicy what to do when the queue is full
+     * @param meter the meter to register metrics with
+     */
+    EventBridgeSendExecutor(
+            int threads, int queueCapacity, RejectionPolicy rejectionPolicy, Meter meter) {
+        queueWait =
+                meter.histogramBuilder("sticker.events.eventbridge.queue.wait")
+                        .setDescription("Time a PutEvents call waited for a sending thread")
+                        .setUnit("ms")
+                        .build();
+        sendDuration =
+                meter.histogramBuilder("sticker.events.eventbridge.send.duration")
+                        .setDescription("Duration of PutEvents calls")
+                        .setUnit("ms")
+                        .build();
+        rejected =
+                meter.counterBuilder("sticker.events.eventbridge.rejected")
+                        .setDescription("PutEvents calls that found the send queue full")
+                        .setUnit("{call}")
+                        .build();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        pool =
+                new ThreadPoolExecutor(
+                        threads,
+                        threads,
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(queueCapacity),
+                        task ->
+                                Thread.ofPlatform()
+                                        .name("eventbridge-send-" + threadNumber.incrementAndGet())
+                                        .daemon()
+                                        .unstarted(task),
+                        rejectionHandler(rejectionPolicy));
+
+        meter.gaugeBuilder("sticker.events.eventbridge.queue.depth")
+                .setDescription("PutEvents calls waiting for a sending thread")
+                .setUnit("{call}")
+                .ofLongs()
+                .buildWithCallback(measurement -> measurement.record(pool.getQueue().size()));
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        pool.execute(timed(command));
+    }
+
+    /**
+     * Returns an executor for the same pool that never runs a send on the submitting thread. When
+     * the queue is full it throws {@link RejectedExecutionException}, even under {@code
+     * CALLER_RUNS}.
+     */
+    Executor offCaller() {
+        return command -> pool.execute(new OffCallerTask(timed(command)));
+    }
+
+    /** Returns the number of sends waiting for a thread. */
+    int queueDepth() {
+        return pool.getQueue().size();
+    }
+
+    /** Lets queued sends finish, waiting up to the given time for them. */
+    void shutdown(long timeout, TimeUnit unit) {
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(timeout, unit)) {
+                pool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        shutdown(10, TimeUnit.SECONDS);
+    }
+
+    private RejectedExecutionHandler rejectionHandler(RejectionPolicy policy) {
+        RejectedExecutionHandler delegate =
+                switch (policy) {
+                    case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+                    case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+                };
+        return (task, executor) -> {
+            if (executor.isShutdown()) {
+                // CallerRunsPolicy would silently drop it, leaving the caller's future pending
+                throw new RejectedExecutionException("EventBridge publisher is shutting down");
+            }
+            rejected.add(1);
+            if (task instanceof OffCallerTask) {
+                throw new RejectedExecutionException("EventBridge send queue is full");
+            }
+            delegate.rejectedExecution(task, executor);
+        };
+    }
+
+    /** Wraps a send with the time it waited in the queue and the time it took. */
+    private Runnable timed(Runnable command) {
+        long queuedAt = System.nanoTime();
+        return () -> {
+            long startedAt = System.nanoTime();
+            queueWait.record(toMillis(startedAt - queuedAt));
+            try {
+                command.run();
+            } finally {
+                sendDuration.record(toMillis(System.nanoTime() - startedAt));
+            }
+        };
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /** Marks a send that the rejection handler must fail rather than run on the caller. */
+    private record OffCallerTask(Runnable task) implements Runnable {
+        @Override
+        public void run() {
+            task.run();
+        }
+    }
+}
@@ -12,24 +12,28 @@ import com.datadoghq.stickerlandia.stickercatalogue.event.StickerDeletedEvent;
 import com.datadoghq.stickerlandia.stickercatalogue.event.StickerUpdatedEvent;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import io.opentelemetry.api.trace.Span;
-import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.metrics.Meter;
 import io.quarkus.arc.lookup.LookupIfProperty;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Typed;
 import jakarta.inject.Inject;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 import software.amazon.awssdk.services.eventbridge.EventBridgeClient;
-import software.amazon.awssdk.services.eventbridge.model.PutEventsRequest;
 import software.amazon.awssdk.services.eventbridge.model.PutEventsRequestEntry;
-import software.amazon.awssdk.services.eventbridge.model.PutEventsResponse;
 
 /**
  * AWS EventBridge implementation of StickerEventPublisher. Publishes sticker catalogue events to
  * EventBridge following CloudEvents specification. Only activated when MESSAGING_PROVIDER=aws.
+ *
+ * <p>Events are sent in multi-entry PutEvents calls by an {@link EventBridgeBatcher}, so bursts
+ * such as seeding or an outbox backlog cost one API call per ten events rather than one each. The
+ * calls run on a dedicated, bounded {@link EventBridgeSendExecutor} rather than the common pool.
  */
 @ApplicationScoped
 @Typed(EventBridgeStickerEventPublisher.class)
@@ -37,120 +41,137 @@ import software.amazon.awssdk.services.eventbridge.model.PutEventsResponse;
 public class EventBridgeStickerEventPublisher implements StickerEventPublisher {
 
     private static final Logger LOG = Logger.getLogger(EventBridgeStickerEventPublisher.class);
-    private static final String SOURCE = "sticker-catalogue";
+    private static final String SOURCE = StickerCloudEvents.SOURCE;
 
     @Inject EventBridgeClient eventBridgeClient;
 
     @Inject ObjectMapper objectMapper;
 
+    @Inject Meter meter;
+
     @ConfigProperty(name = "EVENT_BUS_NAME", defaultValue = "default")
     String eventBusName;
 
+    @ConfigProperty(name = "sticker.events.eventbridge.batch.linger", defaultValue = "20ms")
+    Duration batchLinger;
+
+    @ConfigProperty(name = "sticker.events.eventbridge.batch.max-entries", defaultValue = "10")
+    int batchMaxEntries;
+
+    @ConfigProperty(name = "sticker.events.eventbridge.executor.threads", defaultValue = "4")
+    int executorThreads;
+
+    @ConfigProperty(
+            name = "sticker.events.eventbridge.executor.queue-capacity",
+            defaultValue = "100")
+    int executorQueueCapacity;
+
+    @ConfigProperty(
+            name = "sticker.events.eventbridge.executor.rejection-policy",
+            defaultValue = "caller-runs")
+    EventBridgeSendExecutor.RejectionPolicy executorRejectionPolicy;
+
+    private EventBridgeSendExecutor sendExecutor;
+    private EventBridgeBatcher batcher;
+
+    @PostConstruct
+    void startBatcher() {
+        sendExecutor =
+                new EventBridgeSendExecutor(
+                        executorThreads, executorQueueCapacity, executorRejectionPolicy, meter);
+        batcher =
+                new EventBridgeBatcher(
+                        eventBridgeClient::putEvents,
+                        sendExecutor,
+                        sendExecutor.offCaller(),
+                        batchLinger,
+                        batchMaxEntries);
+    }
+
+    @PreDestroy
+    void stopBatcher() {
+        batcher.close();
+        sendExecutor.close();
+    }
+
     @Override
     public CompletionStage<Void> publishStickerAdded(
             String stickerId, String name, String description) {
-        StickerAddedEvent eventData = new StickerAddedEvent(stickerId, name, description, null);
-        CloudEvent<StickerAddedEvent> cloudEvent =
-                createCloudEvent(StickerAddedEvent.EVENT_TYPE, eventData);
-
         LOG.infof("Publishing sticker added event to EventBridge for sticker ID: %s", stickerId);
-        return publishEvent("stickers.stickerAdded", cloudEvent);
+        return publishEvent(StickerCloudEvents.stickerAdded(stickerId, name, description));
     }
 
     @Override
     public CompletionStage<Void> publishStickerUpdated(
             String stickerId, String name, String description) {
-        StickerUpdatedEvent eventData = new StickerUpdatedEvent(stickerId, name, description, null);
-        CloudEvent<StickerUpdatedEvent> cloudEvent =
-                createCloudEvent(StickerUpdatedEvent.EVENT_TYPE, eventData);
-
         LOG.infof("Publishing sticker updated event to EventBridge for sticker ID: %s", stickerId);
-        return publishEvent("stickers.stickerUpdated", cloudEvent);
+        return publishEvent(StickerCloudEvents.stickerUpdated(stickerId, name, description));
     }
 
     @Override
     public CompletionStage<Void> publishStickerDeleted(String stickerId, String name) {
-        StickerDeletedEvent eventData = new StickerDeletedEvent(stickerId, name);
-        CloudEvent<StickerDeletedEvent> cloudEvent =
-                createCloudEvent(StickerDeletedEvent.EVENT_TYPE, eventData);
-
         LOG.infof("Publishing sticker deleted event to EventBridge for sticker ID: %s", stickerId);
-        return publishEvent("stickers.stickerDeleted", cloudEvent);
+        return publishEvent(StickerCloudEvents.stickerDeleted(stickerId, name));
+    }
+
+    @Override
+    public CompletionStage<Void> publishEvent(CloudEvent<?> cloudEvent) {
+        return publishEvent(detailType(cloudEvent.getType()), cloudEvent);
+    }
+
+    /** Checks that the event bus exists and is reachable with our credentials. */
+    @Override
+    public void checkHealth() {
+        eventBridgeClient.describeEventBus(request -> request.name(eventBusName));
+    }
+
+    /** Maps a CloudEvent type to the EventBridge detail-type used for routing. */
+    private static String detailType(String eventType) {
+        return switch (eventType) {
+            case StickerAddedEvent.EVENT_TYPE -> "stickers.stickerAdded";
+            case StickerUpdatedEvent.EVENT_TYPE -> "stickers.stickerUpdated";
+            case StickerDeletedEvent.EVENT_TYPE -> "stickers.stickerDeleted";
+            default -> throw new IllegalArgumentException("Unknown event type: " + eventType);
+        };
     }
 
     /**
-     * Publishes a CloudEvent to EventBridge.
+     * Queues a CloudEvent for the next PutEvents batch.
      *
      * @param detailType the EventBridge detail-type for routing
      * @param cloudEvent the CloudEvent to publish
      * @return completion stage for async processing
      */
     private <T> CompletionStage<Void> publishEvent(String detailType, CloudEvent<T> cloudEvent) {
-        return CompletableFuture.runAsync(
-                () -> {
-                    try {
-                        String detail = objectMapper.writeValueAsString(cloudEvent);
-
-                        PutEventsRequestEntry entry =
-                                PutEventsRequestEntry.builder()
-                                        .source(SOURCE)
-                                        .detailType(detailType)
-                                        .detail(detail)
-                                        .eventBusName(eventBusName)
-                                        .build();
-
-                        PutEventsRequest request =
-                                PutEventsRequest.builder().entries(entry).build();
-
-                        PutEventsResponse response = eventBridgeClient.putEvents(request);
-
-                        if (response.failedEntryCount() > 0) {
-                            response.entries().stream()
-                                    .filter(e -> e.errorCode() != null)
-                                    .forEach(
-                                            e ->
-                                                    LOG.errorf(
-                                                            "EventBridge error: %s - %s",
-                                                            e.errorCode(), e.errorMessage()));
-                            throw new RuntimeException("Failed to publish event to EventBridge");
-                        }
-
-                        LOG.debugf(
-                                "Event published successfully to EventBridge: %s, eventId: %s",
-                                detailType, response.entries().get(0).eventId());
-
-                    } catch (JsonProcessingException e) {
-                        LOG.errorf("Failed to serialize CloudEvent: %s", e.getMessage());
-                        throw new RuntimeException("Failed to serialize CloudEvent", e);
-                    }
-                });
-    }
-
-    /**
-     * Creates a CloudEvent with trace context extracted from the current OpenTelemetry span.
-     *
-     * @param eventType the event type for the CloudEvent
-     * @param data the event data payload
-     * @return CloudEvent with populated trace context
-     */
-    private <T> CloudEvent<T> createCloudEvent(String eventType, T data) {
-        CloudEvent<T> cloudEvent = new CloudEvent<>(eventType, SOURCE, data);
-
-        // Extract trace context from current OpenTelemetry span
-        Span currentSpan = Span.current();
-        if (currentSpan != null) {
-            SpanContext spanContext = currentSpan.getSpanContext();
-            if (spanContext.isValid()) {
-                // Create W3C traceparent header: version-traceId-spanId-flags
-                String traceparent =
-                        String.format(
-                                "00-%s-%s-01", spanContext.getTraceId(), spanContext.getSpanId());
-                cloudEvent.setTraceParent(traceparent);
-
-                LOG.debugf("Set traceparent for CloudEvent: %s", traceparent);
-            }
+        String detail;
+        try {
+            detail = objectMapper.writeValueAsString(cloudEvent);
+        } catch (JsonProcessingException e) {
+            LOG.errorf("Failed to serialize CloudEvent: %s", e.getMessage());
+            return CompletableFuture.failedFuture(
+                    new RuntimeException("Failed to serialize CloudEvent", e));
         }
 
-        return cloudEvent;
+        PutEventsRequestEntry entry =
+                PutEventsRequestEntry.builder()
+                        .source(SOURCE)
+                        .detailType(detailType)
+                        .detail(detail)
+                        .eventBusName(eventBusName)
+                        .build();
+
+        return batcher.submit(entry)
+                .whenComplete(
+                        (ignored, failure) -> {
+                            if (failure != null) {
+                                LOG.errorf(
+                                        "Failed to publish %s event %s to EventBridge: %s",
+                                        detailType, cloudEvent.getId(), failure.getMessage());
+                            } else {
+                                LOG.debugf(
+                                        "Event published successfully to EventBridge: %s, id: %s",
+                                        detailType, cloudEvent.getId());
+                            }
+                        });
     }
 }
@@ -0,0 +1,217 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.messaging;
+
+import com.datadoghq.stickerlandia.stickercatalogue.event.CloudEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.messaging.DispatchingStickerEventPublisher.WaitStrategy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Preallocated multi-producer, single-consumer ring of events waiting to be sent.
+ *
+ * <p>Producers claim a sequence number with one atomic increment, fill the slot it maps to and
+ * publish it by writing the sequence into the slot. They only wait if the ring is full, in which
+ * case they park until the consumer frees the slot. The consumer thread takes every published slot
+ * in order, up to the batch limit, frees them in one step and then hands the batch to the {@link
+ * Handler}. How the consumer waits for work is set by the {@link WaitStrategy}.
+ */
+final class EventRingBuffer implements AutoCloseable {
+
+    /** Receives events in the order they were published, on the consumer thread. */
+    @FunctionalInterface
+    interface Handler {
+        void onEvent(CloudEvent<?> event, CompletableFuture<Void> sent);
+    }
+
+    private static final int SPIN_TRIES = 100;
+    private static final long SLEEP_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final Slot[] slots;
+    private final int mask;
+    private final WaitStrategy waitStrategy;
+    private final Handler handler;
+    private final CloudEvent<?>[] batchEvents;
+    private final CompletableFuture<?>[] batchFutures;
+    private final Thread consumer;
+
+    private final AtomicLong claimed = new AtomicLong(-1);
+    // Written only by the consumer; producers read it to know when a slot is free again
+    private volatile long consumed = -1;
+    private volatile boolean running = true;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition published = lock.newCondition();
+    private volatile boolean consumerWaiting;
+
+    /**
+     * Creates the ring and starts its consumer thread.
+     *
+     * @param size the number of slots, a power of two
+     * @param waitStrategy how the consumer waits for events
+     * @param maxBatch the most events handed over before slots are freed again
+     * @param handler what to do with each event
+     * @throws IllegalArgumentException if the size is not a power of two
+     */
+    EventRingBuffer(int size, WaitStrategy waitStrategy, int maxBatch, Handler handler) {
+        if (size < 1 || Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("Ring size must be a power of two: " + size);
+        }
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+        }
+        this.mask = size - 1;
+        this.waitStrategy = waitStrategy;
+        this.handler = handler;
+        this.batchEvents = new CloudEvent<?>[maxBatch];
+        this.batchFutures = new CompletableFuture<?>[maxBatch];
+        this.consumer = Thread.ofPlatform().name("event-dispatcher").daemon().start(this::run);
+    }
+
+    /**
+     * Puts an event in the next slot, waiting only if the ring is full.
+     *
+     * @param event the event to send
+     * @param sent completed by the handler with the outcome of the send
+     * @throws IllegalStateException if the ring has been closed
+     */
+    void publish(CloudEvent<?> event, CompletableFuture<Void> sent) {
+        if (!running) {
+            throw new IllegalStateException("Event dispatcher is closed");
+        }
+        long sequence = claimed.incrementAndGet();
+        long wrapPoint = sequence - slots.length;
+        while (wrapPoint > consumed) {
+            LockSupport.parkNanos(1_000);
+        }
+
+        Slot slot = slots[(int) (sequence & mask)];
+        slot.event = event;
+        slot.sent = sent;
+        slot.sequence = sequence;
+        if (consumerWaiting) {
+            lock.lock();
+            try {
+                published.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /** Returns how many events have been claimed but not yet taken by the consumer. */
+    long backlog() {
+        return claimed.get() - consumed;
+    }
+
+    /** Stops accepting events and waits for the consumer to send the ones already published. */
+    @Override
+    public void close() {
+        running = false;
+        lock.lock();
+        try {
+            published.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            consumer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void run() {
+        long next = 0;
+        int idle = 0;
+        while (running || claimed.get() >= next) {
+            long available = next - 1;
+            while (available - next + 1 < batchEvents.length
+                    && slots[(int) ((available + 1) & mask)].sequence == available + 1) {
+                available++;
+            }
+            if (available < next) {
+                idle = waitForEvent(next, idle);
+                continue;
+            }
+            idle = 0;
+
+            int count = (int) (available - next + 1);
+            for (int i = 0; i < count; i++) {
+                Slot slot = slots[(int) ((next + i) & mask)];
+                batchEvents[i] = slot.event;
+                batchFutures[i] = slot.sent;
+                slot.event = null;
+                slot.sent = null;
+            }
+            consumed = available;
+
+            for (int i = 0; i < count; i++) {
+                CompletableFuture<Void> sent = (CompletableFuture<Void>) batchFutures[i];
+                try {
+                    handler.onEvent(batchEvents[i], sent);
+                } catch (RuntimeException e) {
+                    sent.completeExceptionally(e);
+                }
+                batchEvents[i] = null;
+                batchFutures[i] = null;
+            }
+            next = available + 1;
+        }
+    }
+
+    private int waitForEvent(long sequence, int idle) {
+        switch (waitStrategy) {
+            case BUSY_SPIN -> Thread.onSpinWait();
+            case YIELDING -> {
+                if (idle < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            }
+            case SLEEPING -> {
+                if (idle < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else if (idle < 2 * SPIN_TRIES) {
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(SLEEP_NANOS);
+                }
+            }
+            case BLOCKING -> {
+                lock.lock();
+                try {
+                    consumerWaiting = true;
+                    // Checked after raising the flag, so a publish in between is not missed
+                    if (running && slots[(int) (sequence & mask)].sequence != sequence) {
+                        published.await(1, TimeUnit.MILLISECONDS);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    running = false;
+                } finally {
+                    consumerWaiting = false;
+                    lock.unlock();
+                }
+            }
+        }
+        return idle == Integer.MAX_VALUE ? idle : idle + 1;
+    }
+
+    private static final class Slot {
+        CloudEvent<?> event;
+        CompletableFuture<Void> sent;
+        volatile long sequence = -1;
+    }
+}
@@ -0,0 +1,317 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.messaging;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Durable, append-only FIFO of serialized CloudEvents, kept in memory-mapped segment files.
+ *
+ * <p>Each segment is a preallocated file of records laid out as {@code [int length][int crc32][long
+ * spooledAtMillis][byte consumed][short typeLength][type][json]}, where the length and checksum
+ * cover everything after the header. Records are only ever appended; taking one off the head just
+ * sets its {@code consumed} flag in place. A segment is deleted once every record in it has been
+ * consumed and a newer segment exists. On open, each segment is scanned up to the first zero length
+ * or checksum mismatch, so a record torn by a crash mid-write is discarded.
+ *
+ * <p>Every append and removal is forced to disk before returning. The spool is only written when
+ * the broker is failing, so durability matters more than throughput here.
+ */
+final class EventSpool implements AutoCloseable {
+
+    static final int HEADER_BYTES = 4 + 4 + 8 + 1;
+
+    private static final int CONSUMED_OFFSET = 16;
+    private static final String PREFIX = "spool-";
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private long depth;
+
+    /**
+     * Opens the spool in a directory, recovering any records left by a previous run.
+     *
+     * @param directory where segment files live; created if missing
+     * @param segmentBytes the size of each segment file, which also bounds a single record
+     * @throws UncheckedIOException if the directory or segments cannot be opened
+     */
+    EventSpool(Path directory, int segmentBytes) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        try {
+            Files.createDirectories(directory);
+            for (Path file : existingSegments()) {
+                Segment segment = Segment.open(file, sequenceOf(file), segmentBytes);
+                depth += segment.recover();
+                segments.addLast(segment);
+            }
+            dropConsumedSegments();
+            if (segments.isEmpty()) {
+                segments.addLast(newSegment(1));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open event spool in " + directory, e);
+        }
+    }
+
+    /**
+     * Appends an event to the tail of the spool.
+     *
+     * @param eventType the CloudEvent type
+     * @param json the serialized CloudEvent
+     * @throws IllegalArgumentException if the record does not fit in a segment
+     * @throws IllegalStateException if the spool has been closed
+     */
+    synchronized void append(String eventType, String json) {
+        if (segments.isEmpty()) {
+            throw new IllegalStateException("Event spool is closed");
+        }
+        byte[] type = eventType.getBytes(StandardCharsets.UTF_8);
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        int length = 2 + type.length + body.length;
+        if (HEADER_BYTES + length > segmentBytes) {
+            throw new IllegalArgumentException(
+                    "Event of " + length + " bytes does not fit in a spool segment");
+        }
+
+        Segment tail = segments.peekLast();
+        if (!tail.fits(length)) {
+            tail = newSegment(tail.sequence + 1);
+            segments.addLast(tail);
+        }
+        tail.append(type, body, Instant.now().toEpochMilli());
+        depth++;
+    }
+
+    /** Returns the oldest event still in the spool, or null if it is empty. */
+    synchronized SpooledEvent peek() {
+        Segment head = advanceHead();
+        return head == null ? null : head.readHead();
+    }
+
+    /** Takes the oldest event off the spool, once it has been delivered. */
+    synchronized void remove() {
+        Segment head = advanceHead();
+        if (head != null) {
+            head.consumeHead();
+            depth--;
+        }
+    }
+
+    /** Returns the number of events waiting in the spool. */
+    synchronized long depth() {
+        return depth;
+    }
+
+    @Override
+    public synchronized void close() {
+        for (Segment segment : segments) {
+            segment.close();
+        }
+        segments.clear();
+    }
+
+    /** Moves past exhausted segments and returns the one holding the oldest pending record. */
+    private Segment advanceHead() {
+        while (!segments.isEmpty()) {
+            Segment head = segments.peekFirst();
+            if (head.hasPending()) {
+                return head;
+            }
+            if (segments.size() == 1) {
+                return null;
+            }
+            segments.removeFirst().delete();
+        }
+        return null;
+    }
+
+    private void dropConsumedSegments() {
+        while (segments.size() > 1 && !segments.peekFirst().hasPending()) {
+            segments.removeFirst().delete();
+        }
+    }
+
+    private Segment newSegment(long sequence) {
+        try {
+            Segment segment =
+                    Segment.open(
+                            directory.resolve(PREFIX + "%020d".formatted(sequence) + SUFFIX),
+                            sequence,
+                            segmentBytes);
+            segment.recover();
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create spool segment", e);
+        }
+    }
+
+    private List<Path> existingSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            // Sequence numbers are zero-padded, so name order is append order
+            return files.filter(
+                            f -> {
+                                String name = f.getFileName().toString();
+                                return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                            })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long sequenceOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    /** An event read back from the spool. */
+    record SpooledEvent(String eventType, String json, Instant spooledAt) {}
+
+    private static final class Segment {
+
+        final long sequence;
+        private final Path file;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int readPosition;
+        private int writePosition;
+
+        private Segment(Path file, long sequence, FileChannel channel, MappedByteBuffer buffer) {
+            this.file = file;
+            this.sequence = sequence;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment open(Path file, long sequence, int size) throws IOException {
+            FileChannel channel =
+                    FileChannel.open(
+                            file,
+                            StandardOpenOption.CREATE,
+                            StandardOpenOption.READ,
+                            StandardOpenOption.WRITE);
+            // Mapping past the end grows the file with zeros, which read as "no more records"
+            MappedByteBuffer buffer =
+                    channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, channel.size()));
+            return new Segment(file, sequence, channel, buffer);
+        }
+
+        /**
+         * Finds the first pending record and the end of the valid records.
+         *
+         * @return the number of pending records
+         */
+        int recover() {
+            int pending = 0;
+            int position = 0;
+            readPosition = -1;
+            while (position + HEADER_BYTES <= buffer.capacity()) {
+                int length = buffer.getInt(position);
+                if (length <= 0
+                        || position + HEADER_BYTES + length > buffer.capacity()
+                        || buffer.getInt(position + 4) != checksum(position, length)) {
+                    break;
+                }
+                if (buffer.get(position + CONSUMED_OFFSET) == 0) {
+                    pending++;
+                    if (readPosition < 0) {
+                        readPosition = position;
+                    }
+                }
+                position += HEADER_BYTES + length;
+            }
+            writePosition = position;
+            if (readPosition < 0) {
+                readPosition = writePosition;
+            }
+            return pending;
+        }
+
+        boolean fits(int length) {
+            return writePosition + HEADER_BYTES + length <= buffer.capacity();
+        }
+
+        boolean hasPending() {
+            return readPosition < writePosition;
+        }
+
+        void append(byte[] type, byte[] body, long spooledAtMillis) {
+            int position = writePosition;
+            int length = 2 + type.length + body.length;
+            ByteBuffer record = buffer.duplicate().position(position + HEADER_BYTES);
+            record.putShort((short) type.length).put(type).put(body);
+            buffer.putInt(position + 4, checksum(position, length));
+            buffer.putLong(position + 8, spooledAtMillis);
+            buffer.put(position + CONSUMED_OFFSET, (byte) 0);
+            // Length goes last: a record is only visible once everything else is in place
+            buffer.putInt(position, length);
+            buffer.force(position, HEADER_BYTES + length);
+            writePosition = position + HEADER_BYTES + length;
+        }
+
+        SpooledEvent readHead() {
+            int position = readPosition;
+            int length = buffer.getInt(position);
+            long spooledAt = buffer.getLong(position + 8);
+            ByteBuffer record = buffer.duplicate().position(position + HEADER_BYTES);
+            byte[] type = new byte[record.getShort()];
+            record.get(type);
+            byte[] body = new byte[length - 2 - type.length];
+            record.get(body);
+            return new SpooledEvent(
+                    new String(type, StandardCharsets.UTF_8),
+                    new String(body, StandardCharsets.UTF_8),
+                    Instant.ofEpochMilli(spooledAt));
+        }
+
+        void consumeHead() {
+            int position = readPosition;
+            buffer.put(position + CONSUMED_OFFSET, (byte) 1);
+            buffer.force(position + CONSUMED_OFFSET, 1);
+            readPosition = position + HEADER_BYTES + buffer.getInt(position);
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // Nothing left to flush: every write was forced when it was made
+            }
+        }
+
+        void delete() {
+            close();
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to delete spool segment " + file, e);
+            }
+        }
+
+        private int checksum(int position, int length) {
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(position + HEADER_BYTES, length));
+            return (int) crc.getValue();
+        }
+    }
+}
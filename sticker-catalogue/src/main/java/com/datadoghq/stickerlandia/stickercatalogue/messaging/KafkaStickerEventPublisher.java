@@ -10,21 +10,29 @@ import com.datadoghq.stickerlandia.stickercatalogue.event.CloudEvent;
 import com.datadoghq.stickerlandia.stickercatalogue.event.StickerAddedEvent;
 import com.datadoghq.stickerlandia.stickercatalogue.event.StickerDeletedEvent;
 import com.datadoghq.stickerlandia.stickercatalogue.event.StickerUpdatedEvent;
-import io.opentelemetry.api.trace.Span;
-import io.opentelemetry.api.trace.SpanContext;
 import io.quarkus.arc.lookup.LookupIfProperty;
+import io.smallrye.reactive.messaging.health.HealthReport;
+import io.smallrye.reactive.messaging.kafka.api.OutgoingKafkaRecordMetadata;
+import io.smallrye.reactive.messaging.providers.extension.HealthCenter;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Typed;
 import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import org.eclipse.microprofile.reactive.messaging.Channel;
 import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Message;
 import org.jboss.logging.Logger;
 
 /**
  * Kafka implementation of StickerEventPublisher using SmallRye Reactive Messaging. Publishes
  * sticker catalogue events to Kafka channels following CloudEvents specification. Only activated
  * when MESSAGING_PROVIDER=kafka.
+ *
+ * <p>Records are keyed by sticker ID, so all events for one sticker share a partition and keep
+ * their order for consumers.
  */
 @ApplicationScoped
 @Typed(KafkaStickerEventPublisher.class)
@@ -32,7 +40,6 @@ import org.jboss.logging.Logger;
 public class KafkaStickerEventPublisher implements StickerEventPublisher {
 
     private static final Logger LOG = Logger.getLogger(KafkaStickerEventPublisher.class);
-    private static final String SOURCE = "sticker-catalogue";
 
     @Inject
     @Channel("stickers_added")
@@ -46,66 +53,117 @@ public class KafkaStickerEventPublisher implements StickerEventPublisher {
     @Channel("stickers_deleted")
     Emitter<CloudEvent<StickerDeletedEvent>> stickerDeletedEmitter;
 
+    @Inject HealthCenter healthCenter;
+
     @Override
     public CompletionStage<Void> publishStickerAdded(
             String stickerId, String name, String description) {
-        StickerAddedEvent eventData = new StickerAddedEvent(stickerId, name, description, null);
-
-        CloudEvent<StickerAddedEvent> cloudEvent =
-                createCloudEvent(StickerAddedEvent.EVENT_TYPE, eventData);
-
         LOG.infof("Publishing sticker added event to Kafka for sticker ID: %s", stickerId);
-        return stickerAddedEmitter.send(cloudEvent);
+        return send(
+                stickerAddedEmitter,
+                stickerId,
+                StickerCloudEvents.stickerAdded(stickerId, name, description));
     }
 
     @Override
     public CompletionStage<Void> publishStickerUpdated(
             String stickerId, String name, String description) {
-        StickerUpdatedEvent eventData = new StickerUpdatedEvent(stickerId, name, description, null);
-
-        CloudEvent<StickerUpdatedEvent> cloudEvent =
-                createCloudEvent(StickerUpdatedEvent.EVENT_TYPE, eventData);
-
         LOG.infof("Publishing sticker updated event to Kafka for sticker ID: %s", stickerId);
-        return stickerUpdatedEmitter.send(cloudEvent);
+        return send(
+                stickerUpdatedEmitter,
+                stickerId,
+                StickerCloudEvents.stickerUpdated(stickerId, name, description));
     }
 
     @Override
     public CompletionStage<Void> publishStickerDeleted(String stickerId, String name) {
-        StickerDeletedEvent eventData = new StickerDeletedEvent(stickerId, name);
-
-        CloudEvent<StickerDeletedEvent> cloudEvent =
-                createCloudEvent(StickerDeletedEvent.EVENT_TYPE, eventData);
-
         LOG.infof("Publishing sticker deleted event to Kafka for sticker ID: %s", stickerId);
-        return stickerDeletedEmitter.send(cloudEvent);
+        return send(
+                stickerDeletedEmitter,
+                stickerId,
+                StickerCloudEvents.stickerDeleted(stickerId, name));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public CompletionStage<Void> publishEvent(CloudEvent<?> cloudEvent) {
+        LOG.debugf("Publishing %s event %s to Kafka", cloudEvent.getType(), cloudEvent.getId());
+        String stickerId = StickerCloudEvents.stickerId(cloudEvent);
+        return switch (cloudEvent.getType()) {
+            case StickerAddedEvent.EVENT_TYPE ->
+                    send(
+                            stickerAddedEmitter,
+                            stickerId,
+                            (CloudEvent<StickerAddedEvent>) cloudEvent);
+            case StickerUpdatedEvent.EVENT_TYPE ->
+                    send(
+                            stickerUpdatedEmitter,
+                            stickerId,
+                            (CloudEvent<StickerUpdatedEvent>) cloudEvent);
+            case StickerDeletedEvent.EVENT_TYPE ->
+                    send(
+                            stickerDeletedEmitter,
+                            stickerId,
+                            (CloudEvent<StickerDeletedEvent>) cloudEvent);
+            default ->
+                    throw new IllegalArgumentException(
+                            "Unknown event type: " + cloudEvent.getType());
+        };
     }
 
     /**
-     * Creates a CloudEvent with trace context extracted from the current OpenTelemetry span.
-     *
-     * @param eventType the event type for the CloudEvent
-     * @param data the event data payload
-     * @return CloudEvent with populated trace context
+     * Checks the Kafka channels' own health reports, which reflect the producer's connection to the
+     * brokers, without making a call of our own.
      */
-    private <T> CloudEvent<T> createCloudEvent(String eventType, T data) {
-        CloudEvent<T> cloudEvent = new CloudEvent<>(eventType, SOURCE, data);
-
-        // Extract trace context from current OpenTelemetry span
-        Span currentSpan = Span.current();
-        if (currentSpan != null) {
-            SpanContext spanContext = currentSpan.getSpanContext();
-            if (spanContext.isValid()) {
-                // Create W3C traceparent header: version-traceId-spanId-flags
-                String traceparent =
-                        String.format(
-                                "00-%s-%s-01", spanContext.getTraceId(), spanContext.getSpanId());
-                cloudEvent.setTraceParent(traceparent);
-
-                LOG.debugf("Set traceparent for CloudEvent: %s", traceparent);
+    @Override
+    public void checkHealth() {
+        List<String> failing = new ArrayList<>();
+        for (HealthReport report :
+                List.of(healthCenter.getLiveness(), healthCenter.getReadiness())) {
+            for (HealthReport.ChannelInfo channel : report.getChannels()) {
+                if (!channel.isOk()) {
+                    failing.add(
+                            channel.getChannel()
+                                    + (channel.getMessage() != null
+                                            ? " (" + channel.getMessage() + ")"
+                                            : ""));
+                }
             }
         }
+        if (!failing.isEmpty()) {
+            throw new IllegalStateException("Kafka channels not healthy: " + failing);
+        }
+    }
 
-        return cloudEvent;
+    /**
+     * Sends a CloudEvent keyed by its sticker ID, so that every event for a sticker lands on the
+     * same partition and is consumed in the order it was published.
+     *
+     * @param emitter the channel to send on
+     * @param stickerId the record key
+     * @param cloudEvent the CloudEvent to send
+     * @return completion stage that completes when the broker acknowledges the record
+     */
+    static <T> CompletionStage<Void> send(
+            Emitter<CloudEvent<T>> emitter, String stickerId, CloudEvent<T> cloudEvent) {
+        CompletableFuture<Void> acknowledged = new CompletableFuture<>();
+        Message<CloudEvent<T>> message =
+                Message.of(cloudEvent)
+                        .addMetadata(
+                                OutgoingKafkaRecordMetadata.<String>builder()
+                                        .withKey(stickerId)
+                                        .build())
+                        .withAck(
+                                () -> {
+                                    acknowledged.complete(null);
+                                    return CompletableFuture.completedFuture(null);
+                                })
+                        .withNack(
+                                failure -> {
+                                    acknowledged.completeExceptionally(failure);
+                                    return CompletableFuture.completedFuture(null);
+                                });
+        emitter.send(message);
+        return acknowledged;
     }
 }
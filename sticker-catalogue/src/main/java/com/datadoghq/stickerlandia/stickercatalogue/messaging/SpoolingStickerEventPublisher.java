@@ -0,0 +1,264 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.messaging;
+
+import com.datadoghq.stickerlandia.stickercatalogue.event.CloudEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.jboss.logging.Logger;
+
+/**
+ * StickerEventPublisher decorator that falls back to a local {@link EventSpool} while the broker is
+ * unavailable.
+ *
+ * <p>A send that fails or does not complete within the send timeout is written to the spool, and
+ * the caller's future completes once it is on disk. While anything is spooled, new events go
+ * straight to the back of the spool so they are not sent ahead of older ones. A background task
+ * replays the spool in order through the delegate, stopping at the first failure until its next
+ * run. Events are delivered at least once: a send that timed out may still have reached the broker.
+ *
+ * <p>An event is not sent while an earlier one for the same sticker is still outstanding: it waits
+ * until that send is acknowledged, or follows it into the spool, so each sticker's events keep
+ * their order. Events for different stickers may overtake one another. Spool writes after a failed
+ * send and the sends waiting on them run on a dedicated thread.
+ *
+ * <p>This needs no database, so it suits running with the outbox disabled. Behind the outbox it
+ * only adds a second copy of what the outbox already keeps.
+ */
+public class SpoolingStickerEventPublisher implements StickerEventPublisher, AutoCloseable {
+
+    private static final Logger LOG = Logger.getLogger(SpoolingStickerEventPublisher.class);
+
+    private final StickerEventPublisher delegate;
+    private final EventSpool spool;
+    private final ObjectMapper objectMapper;
+    private final Duration sendTimeout;
+    private final ScheduledExecutorService replayer;
+    private final ExecutorService spoolWriter;
+    private final Map<String, CompletableFuture<Void>> outstanding = new HashMap<>();
+    private final LongCounter spooled;
+    private final LongCounter replayed;
+
+    /**
+     * Creates a spooling publisher and starts replaying anything left in the spool.
+     *
+     * @param delegate the publisher that sends events to the broker
+     * @param spool where to keep events that could not be sent
+     * @param objectMapper the mapper to serialize spooled events with
+     * @param sendTimeout how long a send may take before the event is spooled instead
+     * @param replayInterval how often to retry spooled events
+     * @param meter the meter to register metrics with
+     */
+    SpoolingStickerEventPublisher(
+            StickerEventPublisher delegate,
+            EventSpool spool,
+            ObjectMapper objectMapper,
+            Duration sendTimeout,
+            Duration replayInterval,
+            Meter meter) {
+        this.delegate = delegate;
+        this.spool = spool;
+        this.objectMapper = objectMapper;
+        this.sendTimeout = sendTimeout;
+        this.spooled =
+                meter.counterBuilder("sticker.events.spool.spooled")
+                        .setDescription("Events written to the local spool")
+                        .setUnit("{event}")
+                        .build();
+        this.replayed =
+                meter.counterBuilder("sticker.events.spool.replayed")
+                        .setDescription("Spooled events sent to the broker")
+                        .setUnit("{event}")
+                        .build();
+        meter.gaugeBuilder("sticker.events.spool.depth")
+                .setDescription("Events waiting in the local spool")
+                .setUnit("{event}")
+                .ofLongs()
+                .buildWithCallback(measurement -> measurement.record(spool.depth()));
+        meter.gaugeBuilder("sticker.events.spool.age")
+                .setDescription("Time the oldest spooled event has been waiting")
+                .setUnit("s")
+                .buildWithCallback(measurement -> measurement.record(oldestAgeSeconds()));
+
+        this.replayer =
+                Executors.newSingleThreadScheduledExecutor(
+                        Thread.ofPlatform().name("event-spool-replay").daemon().factory());
+        this.spoolWriter =
+                Executors.newSingleThreadExecutor(
+                        Thread.ofPlatform().name("event-spool-writer").daemon().factory());
+        long intervalMillis = replayInterval.toMillis();
+        replayer.scheduleWithFixedDelay(
+                this::replay, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public CompletionStage<Void> publishStickerAdded(
+            String stickerId, String name, String description) {
+        return publishEvent(StickerCloudEvents.stickerAdded(stickerId, name, description));
+    }
+
+    @Override
+    public CompletionStage<Void> publishStickerUpdated(
+            String stickerId, String name, String description) {
+        return publishEvent(StickerCloudEvents.stickerUpdated(stickerId, name, description));
+    }
+
+    @Override
+    public CompletionStage<Void> publishStickerDeleted(String stickerId, String name) {
+        return publishEvent(StickerCloudEvents.stickerDeleted(stickerId, name));
+    }
+
+    @Override
+    public CompletionStage<Void> publishEvent(CloudEvent<?> cloudEvent) {
+        String key = orderingKey(cloudEvent);
+        CompletableFuture<Void> published = new CompletableFuture<>();
+        CompletableFuture<Void> previous;
+        synchronized (outstanding) {
+            previous = outstanding.put(key, published);
+        }
+
+        CompletionStage<Void> outcome =
+                previous == null
+                        ? sendOrSpool(cloudEvent)
+                        : previous.exceptionally(failure -> null)
+                                .thenComposeAsync(ignored -> sendOrSpool(cloudEvent), spoolWriter);
+        outcome.whenComplete(
+                (ignored, failure) -> {
+                    synchronized (outstanding) {
+                        outstanding.remove(key, published);
+                    }
+                    if (failure != null) {
+                        published.completeExceptionally(failure);
+                    } else {
+                        published.complete(null);
+                    }
+                });
+        return published;
+    }
+
+    /**
+     * Sends spooled events in order until the spool is empty or a send fails.
+     *
+     * @return the number of events sent
+     */
+    int replay() {
+        int sent = 0;
+        try {
+            EventSpool.SpooledEvent head;
+            while ((head = spool.peek()) != null) {
+                CloudEvent<?> cloudEvent;
+                try {
+                    cloudEvent =
+                            StickerCloudEvents.read(objectMapper, head.eventType(), head.json());
+                } catch (IllegalArgumentException e) {
+                    LOG.errorf(e, "Dropping unreadable spooled %s event", head.eventType());
+                    spool.remove();
+                    continue;
+                }
+                delegate.publishEvent(cloudEvent)
+                        .toCompletableFuture()
+                        .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                spool.remove();
+                replayed.add(1);
+                sent++;
+            }
+            if (sent > 0) {
+                LOG.infof("Replayed %d spooled events", sent);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            LOG.warnf(
+                    "Spool replay stopped after %d events, %d still waiting: %s",
+                    sent, spool.depth(), e.getMessage());
+        }
+        return sent;
+    }
+
+    @Override
+    public void checkHealth() throws Exception {
+        delegate.checkHealth();
+    }
+
+    /** Stops replaying and closes the spool; anything still in it is replayed on next start. */
+    @Override
+    public void close() {
+        replayer.shutdownNow();
+        spoolWriter.shutdown();
+        try {
+            replayer.awaitTermination(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            spoolWriter.awaitTermination(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        spool.close();
+    }
+
+    private CompletionStage<Void> sendOrSpool(CloudEvent<?> cloudEvent) {
+        if (spool.depth() > 0) {
+            return spool(cloudEvent, null);
+        }
+
+        CompletableFuture<Void> sent;
+        try {
+            sent = delegate.publishEvent(cloudEvent).toCompletableFuture();
+        } catch (RuntimeException e) {
+            return spool(cloudEvent, e);
+        }
+        // Off the timer thread that fires the timeout, which the spool's fsync would hold up
+        return sent.orTimeout(sendTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionallyComposeAsync(failure -> spool(cloudEvent, failure), spoolWriter);
+    }
+
+    private static String orderingKey(CloudEvent<?> cloudEvent) {
+        try {
+            return StickerCloudEvents.stickerId(cloudEvent);
+        } catch (IllegalArgumentException e) {
+            // Not about a sticker, so ordered with the other such events
+            return "";
+        }
+    }
+
+    private CompletionStage<Void> spool(CloudEvent<?> cloudEvent, Throwable cause) {
+        try {
+            spool.append(cloudEvent.getType(), objectMapper.writeValueAsString(cloudEvent));
+        } catch (JsonProcessingException | RuntimeException e) {
+            if (cause != null) {
+                e.addSuppressed(cause);
+            }
+            return CompletableFuture.failedFuture(new CompletionException(e));
+        }
+        spooled.add(1);
+        if (cause != null) {
+            LOG.warnf(
+                    "Spooled %s event %s after failed send: %s",
+                    cloudEvent.getType(), cloudEvent.getId(), cause.toString());
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private double oldestAgeSeconds() {
+        EventSpool.SpooledEvent head = spool.peek();
+        if (head == null) {
+            return 0;
+        }
+        return Duration.between(head.spooledAt(), Instant.now()).toMillis() / 1000.0;
+    }
+}
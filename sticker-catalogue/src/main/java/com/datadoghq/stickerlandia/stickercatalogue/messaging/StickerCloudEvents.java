@@ -0,0 +1,123 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.messaging;
+
+import com.datadoghq.stickerlandia.stickercatalogue.event.CloudEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.event.StickerAddedEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.event.StickerDeletedEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.event.StickerUpdatedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import org.jboss.logging.Logger;
+
+/**
+ * Builds the CloudEvents published for sticker catalogue changes, so that every publisher (and the
+ * outbox, which stores them for later) produces identical envelopes.
+ */
+public final class StickerCloudEvents {
+
+    private static final Logger LOG = Logger.getLogger(StickerCloudEvents.class);
+
+    static final String SOURCE = "sticker-catalogue";
+
+    private static final TypeReference<CloudEvent<StickerAddedEvent>> ADDED =
+            new TypeReference<>() {};
+    private static final TypeReference<CloudEvent<StickerUpdatedEvent>> UPDATED =
+            new TypeReference<>() {};
+    private static final TypeReference<CloudEvent<StickerDeletedEvent>> DELETED =
+            new TypeReference<>() {};
+
+    private StickerCloudEvents() {}
+
+    public static CloudEvent<StickerAddedEvent> stickerAdded(
+            String stickerId, String name, String description) {
+        return create(
+                StickerAddedEvent.EVENT_TYPE,
+                new StickerAddedEvent(stickerId, name, description, null));
+    }
+
+    public static CloudEvent<StickerUpdatedEvent> stickerUpdated(
+            String stickerId, String name, String description) {
+        return create(
+                StickerUpdatedEvent.EVENT_TYPE,
+                new StickerUpdatedEvent(stickerId, name, description, null));
+    }
+
+    public static CloudEvent<StickerDeletedEvent> stickerDeleted(String stickerId, String name) {
+        return create(StickerDeletedEvent.EVENT_TYPE, new StickerDeletedEvent(stickerId, name));
+    }
+
+    /**
+     * Returns the ID of the sticker a CloudEvent is about.
+     *
+     * @param cloudEvent a sticker catalogue event
+     * @return the sticker ID
+     * @throws IllegalArgumentException if the event is not a sticker catalogue event
+     */
+    public static String stickerId(CloudEvent<?> cloudEvent) {
+        return switch (cloudEvent.getData()) {
+            case StickerAddedEvent added -> added.getStickerId();
+            case StickerUpdatedEvent updated -> updated.getStickerId();
+            case StickerDeletedEvent deleted -> deleted.getStickerId();
+            case null, default ->
+                    throw new IllegalArgumentException(
+                            "Not a sticker event: " + cloudEvent.getType());
+        };
+    }
+
+    /**
+     * Reads back a CloudEvent previously serialized with its concrete data type.
+     *
+     * @param objectMapper the mapper to deserialize with
+     * @param eventType the CloudEvent type, which determines the data type
+     * @param json the serialized CloudEvent
+     * @return the CloudEvent
+     * @throws IllegalArgumentException if the type is unknown or the JSON cannot be read
+     */
+    public static CloudEvent<?> read(ObjectMapper objectMapper, String eventType, String json) {
+        try {
+            return switch (eventType) {
+                case StickerAddedEvent.EVENT_TYPE -> objectMapper.readValue(json, ADDED);
+                case StickerUpdatedEvent.EVENT_TYPE -> objectMapper.readValue(json, UPDATED);
+                case StickerDeletedEvent.EVENT_TYPE -> objectMapper.readValue(json, DELETED);
+                default -> throw new IllegalArgumentException("Unknown event type: " + eventType);
+            };
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to deserialize " + eventType, e);
+        }
+    }
+
+    /**
+     * Creates a CloudEvent with trace context extracted from the current OpenTelemetry span.
+     *
+     * @param eventType the event type for the CloudEvent
+     * @param data the event data payload
+     * @return CloudEvent with populated trace context
+     */
+    private static <T> CloudEvent<T> create(String eventType, T data) {
+        CloudEvent<T> cloudEvent = new CloudEvent<>(eventType, SOURCE, data);
+
+        // Extract trace context from current OpenTelemetry span
+        Span currentSpan = Span.current();
+        if (currentSpan != null) {
+            SpanContext spanContext = currentSpan.getSpanContext();
+            if (spanContext.isValid()) {
+                // Create W3C traceparent header: version-traceId-spanId-flags
+                String traceparent =
+                        "00-" + spanContext.getTraceId() + "-" + spanContext.getSpanId() + "-01";
+                cloudEvent.setTraceParent(traceparent);
+
+                LOG.debugf("Set traceparent for CloudEvent: %s", traceparent);
+            }
+        }
+
+        return cloudEvent;
+    }
+}
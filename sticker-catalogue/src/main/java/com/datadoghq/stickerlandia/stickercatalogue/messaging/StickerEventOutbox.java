@@ -0,0 +1,94 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.messaging;
+
+import com.datadoghq.stickerlandia.stickercatalogue.entity.OutboxEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.event.CloudEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Typed;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * StickerEventPublisher that records events in the {@code outbox} table as part of the caller's
+ * transaction instead of sending them to the broker directly. Events only become visible to {@link
+ * StickerEventOutboxRelay} once the sticker change commits, so a rolled back change never emits an
+ * event, and broker latency never holds a database transaction open.
+ *
+ * <p>The transaction also issues {@code NOTIFY sticker_events}, which Postgres delivers on commit,
+ * so {@link StickerEventOutboxListener} can wake the relay straight away.
+ *
+ * <p>The returned stages complete as soon as the event is recorded. With {@code
+ * sticker.events.outbox.enabled=false} events are handed straight to the configured publisher.
+ */
+@ApplicationScoped
+@Typed(StickerEventOutbox.class)
+public class StickerEventOutbox implements StickerEventPublisher {
+
+    @Inject StickerEventPublisher publisher;
+
+    @Inject ObjectMapper objectMapper;
+
+    @Inject EntityManager entityManager;
+
+    @ConfigProperty(name = "sticker.events.outbox.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "sticker.events.outbox.notify.enabled", defaultValue = "true")
+    boolean notifyEnabled;
+
+    @Override
+    @Transactional(Transactional.TxType.MANDATORY)
+    public CompletionStage<Void> publishStickerAdded(
+            String stickerId, String name, String description) {
+        return publishEvent(StickerCloudEvents.stickerAdded(stickerId, name, description));
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.MANDATORY)
+    public CompletionStage<Void> publishStickerUpdated(
+            String stickerId, String name, String description) {
+        return publishEvent(StickerCloudEvents.stickerUpdated(stickerId, name, description));
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.MANDATORY)
+    public CompletionStage<Void> publishStickerDeleted(String stickerId, String name) {
+        return publishEvent(StickerCloudEvents.stickerDeleted(stickerId, name));
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.MANDATORY)
+    public CompletionStage<Void> publishEvent(CloudEvent<?> cloudEvent) {
+        if (!enabled) {
+            return publisher.publishEvent(cloudEvent);
+        }
+
+        try {
+            new OutboxEvent(
+                            StickerCloudEvents.stickerId(cloudEvent),
+                            cloudEvent.getType(),
+                            objectMapper.writeValueAsString(cloudEvent))
+                    .persist();
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize CloudEvent", e);
+        }
+        if (notifyEnabled) {
+            // Delivered on commit, and only once however many events the transaction records
+            entityManager
+                    .createNativeQuery("NOTIFY " + StickerEventOutboxListener.CHANNEL)
+                    .executeUpdate();
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.messaging;
+
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Optional;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+/**
+ * Wakes the outbox relay as soon as an outbox write commits.
+ *
+ * <p>Holds one dedicated Postgres connection, outside the datasource pool, that {@code LISTEN}s on
+ * {@value #CHANNEL}. {@link StickerEventOutbox} issues a {@code NOTIFY} in every transaction that
+ * records events, and Postgres delivers it on commit, so events reach the broker within
+ * milliseconds without polling. Notifications that arrive while the relay is busy are buffered by
+ * the driver and handled by the next run. If the connection drops it is re-established with a
+ * backoff; the relay's slow scheduled poll covers anything missed in between.
+ */
+@ApplicationScoped
+public class StickerEventOutboxListener {
+
+    private static final Logger LOG = Logger.getLogger(StickerEventOutboxListener.class);
+
+    static final String CHANNEL = "sticker_events";
+
+    @Inject StickerEventOutboxRelay relay;
+
+    @ConfigProperty(name = "sticker.events.outbox.enabled", defaultValue = "true")
+    boolean outboxEnabled;
+
+    @ConfigProperty(name = "sticker.events.outbox.notify.enabled", defaultValue = "true")
+    boolean notifyEnabled;
+
+    @ConfigProperty(name = "sticker.events.outbox.notify.reconnect-delay", defaultValue = "5s")
+    Duration reconnectDelay;
+
+    @ConfigProperty(name = "quarkus.datasource.jdbc.url")
+    Optional<String> jdbcUrl;
+
+    @ConfigProperty(name = "quarkus.datasource.username")
+    Optional<String> username;
+
+    @ConfigProperty(name = "quarkus.datasource.password")
+    Optional<String> password;
+
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread listenerThread;
+
+    void onStart(@Observes StartupEvent event) {
+        if (!outboxEnabled || !notifyEnabled) {
+            return;
+        }
+        if (jdbcUrl.isEmpty()) {
+            LOG.warn("No JDBC URL configured, outbox relay will only poll");
+            return;
+        }
+        running = true;
+        listenerThread = Thread.ofPlatform().name("outbox-listener").daemon().start(this::listen);
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        running = false;
+        closeConnection();
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try {
+                connection = openConnection();
+                LOG.infof("Listening for outbox notifications on %s", CHANNEL);
+
+                // Catch up on anything committed before LISTEN took effect
+                relay.relayPendingEvents();
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    // Blocks until a notification arrives; the timeout just lets us notice shutdown
+                    PGNotification[] notifications = pgConnection.getNotifications(10_000);
+                    if (notifications != null && notifications.length > 0) {
+                        relay.relayPendingEvents();
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    break;
+                }
+                LOG.warnf(
+                        e, "Outbox listener connection failed, reconnecting in %s", reconnectDelay);
+                closeConnection();
+                try {
+                    Thread.sleep(reconnectDelay.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        closeConnection();
+    }
+
+    private Connection openConnection() throws SQLException {
+        Connection conn =
+                DriverManager.getConnection(
+                        jdbcUrl.get(), username.orElse(null), password.orElse(null));
+        try (Statement statement = conn.createStatement()) {
+            statement.execute("LISTEN " + CHANNEL);
+        }
+        return conn;
+    }
+
+    private void closeConnection() {
+        Connection conn = connection;
+        connection = null;
+        if (conn != null) {
+            try {
+                conn.close();
+            } catch (SQLException e) {
+                LOG.debug("Failed to close outbox listener connection", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.messaging;
+
+import com.datadoghq.stickerlandia.stickercatalogue.entity.OutboxEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.event.StickerUpdatedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.query.NativeQuery;
+import org.jboss.logging.Logger;
+
+/**
+ * Drains the sticker event outbox to the configured broker.
+ *
+ * <p>Each batch takes the oldest pending event of each sticker, locking it with {@code FOR UPDATE
+ * SKIP LOCKED}, so several replicas can relay at once without sending the same event twice. An
+ * event is only eligible once every older event for the same sticker has been sent and deleted, so
+ * per-sticker order is preserved even when a send fails: the failed event stays at the head and is
+ * retried on the next run. Delivery is at-least-once; consumers should de-duplicate on the
+ * CloudEvent ID.
+ *
+ * <p>A batch waits at most {@code sticker.events.outbox.relay.send-timeout} for the broker, however
+ * many events it holds, and its transaction is given that long plus some headroom, so the row locks
+ * are always released by a commit rather than a transaction timeout.
+ *
+ * <p>With {@code sticker.events.coalesce.window} set, consecutive updates to a sticker are taken
+ * together and handed to the {@link CoalescingStickerEventPublisher}, which sends only the latest.
+ *
+ * <p>Runs are normally triggered by {@link StickerEventOutboxListener} as soon as a write commits;
+ * the schedule is only a fallback for missed notifications.
+ */
+@ApplicationScoped
+public class StickerEventOutboxRelay {
+
+    private static final Logger LOG = Logger.getLogger(StickerEventOutboxRelay.class);
+
+    private static final String PENDING_HEADS_SQL =
+            "SELECT o.id, o.event_type, o.payload FROM outbox o"
+                    + " WHERE NOT EXISTS (SELECT 1 FROM outbox p"
+                    + " WHERE p.sticker_id = o.sticker_id AND p.id < o.id)"
+                    + " ORDER BY o.id LIMIT :batchSize FOR UPDATE SKIP LOCKED";
+
+    // When coalescing, a run of updates behind the head can go too: the publisher folds them into
+    // one send whose outcome they share, so they can never be delivered out of order
+    private static final String PENDING_HEADS_COALESCING_SQL =
+            "SELECT o.id, o.event_type, o.payload FROM outbox o"
+                    + " WHERE NOT EXISTS (SELECT 1 FROM outbox p"
+                    + " WHERE p.sticker_id = o.sticker_id AND p.id < o.id"
+                    + " AND (p.event_type <> :updated OR o.event_type <> :updated))"
+                    + " ORDER BY o.id LIMIT :batchSize FOR UPDATE SKIP LOCKED";
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private static final Duration TRANSACTION_HEADROOM = Duration.ofSeconds(30);
+
+    @Inject EntityManager entityManager;
+
+    @Inject StickerEventPublisher publisher;
+
+    @Inject ObjectMapper objectMapper;
+
+    @ConfigProperty(name = "sticker.events.outbox.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "sticker.events.outbox.relay.batch-size", defaultValue = "100")
+    int batchSize;
+
+    @ConfigProperty(name = "sticker.events.outbox.relay.send-timeout", defaultValue = "10s")
+    Duration sendTimeout;
+
+    @ConfigProperty(name = "sticker.events.coalesce.window", defaultValue = "0s")
+    Duration coalesceWindow;
+
+    private final ReentrantLock relayLock = new ReentrantLock();
+    private final AtomicBoolean runRequested = new AtomicBoolean();
+
+    /** Fallback poll in case a notification was missed, e.g. while the listener reconnected. */
+    @Scheduled(
+            every = "${sticker.events.outbox.relay.interval:30s}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void pollPendingEvents() {
+        relayPendingEvents();
+    }
+
+    /**
+     * Relays pending events until the outbox is drained or a send fails. If a run is already in
+     * progress, it is asked to go round once more instead, so no request is lost and runs never
+     * overlap.
+     */
+    public void relayPendingEvents() {
+        if (!enabled) {
+            return;
+        }
+        runRequested.set(true);
+        while (runRequested.get() && relayLock.tryLock()) {
+            try {
+                runRequested.set(false);
+                int relayed;
+                do {
+                    relayed =
+                            QuarkusTransaction.requiringNew()
+                                    .timeout(transactionTimeoutSeconds())
+                                    .call(this::relayBatch);
+                } while (relayed == batchSize);
+            } finally {
+                relayLock.unlock();
+            }
+        }
+    }
+
+    /** Leaves room for the select and the deletes on top of the batch's send deadline. */
+    private int transactionTimeoutSeconds() {
+        return (int) sendTimeout.plus(TRANSACTION_HEADROOM).toSeconds();
+    }
+
+    /**
+     * Sends one batch of events concurrently and waits up to {@code send-timeout} for all of them,
+     * then deletes the ones the broker acknowledged. The rest stay at the head of their sticker's
+     * queue for the next run.
+     *
+     * @return the number of events relayed
+     */
+    private int relayBatch() {
+        boolean coalescing = coalesceWindow.isPositive();
+        NativeQuery<Object[]> query =
+                entityManager
+                        .createNativeQuery(
+                                coalescing ? PENDING_HEADS_COALESCING_SQL : PENDING_HEADS_SQL)
+                        .unwrap(NativeQuery.class)
+                        .addScalar("id", Long.class)
+                        .addScalar("event_type", String.class)
+                        .addScalar("payload", String.class)
+                        .setParameter("batchSize", batchSize);
+        if (coalescing) {
+            query.setParameter("updated", StickerUpdatedEvent.EVENT_TYPE);
+        }
+        List<Object[]> rows = query.getResultList();
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, CompletableFuture<Void>> sends = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            Long id = (Long) row[0];
+            try {
+                var cloudEvent =
+                        StickerCloudEvents.read(objectMapper, (String) row[1], (String) row[2]);
+                sends.put(id, publisher.publishEvent(cloudEvent).toCompletableFuture());
+            } catch (RuntimeException e) {
+                sends.put(id, CompletableFuture.failedFuture(e));
+            }
+        }
+
+        // One deadline for the whole batch, so a slow broker cannot hold the row locks for longer
+        // than the transaction is allowed to run
+        boolean interrupted = false;
+        try {
+            CompletableFuture.allOf(sends.values().toArray(CompletableFuture[]::new))
+                    .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            // Each send's own outcome is read below
+        } catch (InterruptedException e) {
+            // Leave unfinished sends for the next run; anything sent will be sent again
+            Thread.currentThread().interrupt();
+            interrupted = true;
+        }
+
+        List<Long> relayed = new ArrayList<>();
+        for (Map.Entry<Long, CompletableFuture<Void>> send : sends.entrySet()) {
+            CompletableFuture<Void> future = send.getValue();
+            switch (future.state()) {
+                case SUCCESS -> relayed.add(send.getKey());
+                case FAILED -> recordFailure(send.getKey(), future.exceptionNow());
+                default -> {
+                    if (!interrupted) {
+                        recordFailure(
+                                send.getKey(),
+                                new TimeoutException(
+                                        "Not acknowledged within "
+                                                + sendTimeout.toMillis()
+                                                + "ms"));
+                    }
+                }
+            }
+        }
+
+        if (!relayed.isEmpty()) {
+            OutboxEvent.delete("id in ?1", relayed);
+        }
+        LOG.debugf("Relayed %d of %d outbox events", relayed.size(), rows.size());
+        return relayed.size();
+    }
+
+    private void recordFailure(Long id, Throwable cause) {
+        LOG.warnf(cause, "Failed to relay outbox event %d, will retry", id);
+        String message = String.valueOf(cause.getMessage());
+        OutboxEvent.update(
+                "attempts = attempts + 1, lastError = ?1 where id = ?2",
+                message.length() > MAX_ERROR_LENGTH
+                        ? message.substring(0, MAX_ERROR_LENGTH)
+                        : message,
+                id);
+    }
+}
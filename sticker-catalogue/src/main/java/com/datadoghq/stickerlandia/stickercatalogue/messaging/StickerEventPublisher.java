@@ -6,6 +6,7 @@
 
 package com.datadoghq.stickerlandia.stickercatalogue.messaging;
 
+import com.datadoghq.stickerlandia.stickercatalogue.event.CloudEvent;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -43,4 +44,22 @@ public interface StickerEventPublisher {
      * @return completion stage for async processing
      */
     CompletionStage<Void> publishStickerDeleted(String stickerId, String name);
+
+    /**
+     * Publishes an already-built sticker CloudEvent, routed by its type. Used to relay events that
+     * were built earlier and stored, so they go out exactly as they were recorded.
+     *
+     * @param cloudEvent the event to publish
+     * @return completion stage for async processing
+     * @throws IllegalArgumentException if the event type is not a sticker catalogue event
+     */
+    CompletionStage<Void> publishEvent(CloudEvent<?> cloudEvent);
+
+    /**
+     * Checks that events can currently be delivered, for the health probe. Implementations should
+     * make at most one cheap call to the broker. The default assumes the publisher is healthy.
+     *
+     * @throws Exception if the broker cannot be reached
+     */
+    default void checkHealth() throws Exception {}
 }
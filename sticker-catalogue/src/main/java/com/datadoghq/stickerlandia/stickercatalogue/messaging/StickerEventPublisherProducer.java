@@ -6,10 +6,18 @@
 
 package com.datadoghq.stickerlandia.stickercatalogue.messaging;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.metrics.Meter;
+import io.quarkus.runtime.configuration.MemorySize;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Disposes;
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.Produces;
 import jakarta.inject.Inject;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 
@@ -22,6 +30,10 @@ import org.jboss.logging.Logger;
  *
  * <p>Supported providers: - "kafka" (default): Uses SmallRye Reactive Messaging with Kafka - "aws":
  * Uses AWS EventBridge
+ *
+ * <p>With {@code sticker.events.spool.enabled}, the selected publisher is wrapped in a {@link
+ * SpoolingStickerEventPublisher}. With a positive {@code sticker.events.coalesce.window}, the
+ * result is wrapped in a {@link CoalescingStickerEventPublisher}.
  */
 @ApplicationScoped
 public class StickerEventPublisherProducer {
@@ -35,9 +47,94 @@ public class StickerEventPublisherProducer {
 
     @Inject Instance<EventBridgeStickerEventPublisher> eventBridgePublisher;
 
+    @Inject ObjectMapper objectMapper;
+
+    @Inject Meter meter;
+
+    @ConfigProperty(name = "sticker.events.coalesce.window", defaultValue = "0s")
+    Duration coalesceWindow;
+
+    @ConfigProperty(name = "sticker.events.spool.enabled", defaultValue = "false")
+    boolean spoolEnabled;
+
+    @ConfigProperty(name = "sticker.events.spool.directory", defaultValue = "data/event-spool")
+    Path spoolDirectory;
+
+    @ConfigProperty(name = "sticker.events.spool.segment-size", defaultValue = "16M")
+    MemorySize spoolSegmentSize;
+
+    @ConfigProperty(name = "sticker.events.spool.send-timeout", defaultValue = "5s")
+    Duration spoolSendTimeout;
+
+    @ConfigProperty(name = "sticker.events.spool.replay-interval", defaultValue = "5s")
+    Duration spoolReplayInterval;
+
+    @ConfigProperty(name = "sticker.events.dispatcher.enabled", defaultValue = "false")
+    boolean dispatcherEnabled;
+
+    @ConfigProperty(name = "sticker.events.dispatcher.ring-size", defaultValue = "1024")
+    int dispatcherRingSize;
+
+    @ConfigProperty(name = "sticker.events.dispatcher.wait-strategy", defaultValue = "blocking")
+    DispatchingStickerEventPublisher.WaitStrategy dispatcherWaitStrategy;
+
+    @ConfigProperty(name = "sticker.events.dispatcher.max-batch", defaultValue = "256")
+    int dispatcherMaxBatch;
+
+    // Outermost first, so each is closed before the one it sends through
+    private final List<AutoCloseable> decorators = new ArrayList<>();
+
     @Produces
     @ApplicationScoped
     public StickerEventPublisher produce() {
+        StickerEventPublisher publisher = selectPublisher();
+        if (spoolEnabled) {
+            LOG.infof("Spooling unsent sticker events to %s", spoolDirectory.toAbsolutePath());
+            SpoolingStickerEventPublisher spooling =
+                    new SpoolingStickerEventPublisher(
+                            publisher,
+                            new EventSpool(
+                                    spoolDirectory,
+                                    Math.toIntExact(spoolSegmentSize.asLongValue())),
+                            objectMapper,
+                            spoolSendTimeout,
+                            spoolReplayInterval,
+                            meter);
+            decorators.addFirst(spooling);
+            publisher = spooling;
+        }
+        if (coalesceWindow.isPositive()) {
+            LOG.infof("Coalescing sticker updates within %s", coalesceWindow);
+            CoalescingStickerEventPublisher coalescing =
+                    new CoalescingStickerEventPublisher(publisher, coalesceWindow);
+            decorators.addFirst(coalescing);
+            publisher = coalescing;
+        }
+        if (dispatcherEnabled) {
+            LOG.infof(
+                    "Dispatching sticker events through a %d-slot ring (%s)",
+                    dispatcherRingSize, dispatcherWaitStrategy);
+            DispatchingStickerEventPublisher dispatching =
+                    new DispatchingStickerEventPublisher(
+                            publisher,
+                            dispatcherRingSize,
+                            dispatcherWaitStrategy,
+                            dispatcherMaxBatch,
+                            meter);
+            decorators.addFirst(dispatching);
+            publisher = dispatching;
+        }
+        return publisher;
+    }
+
+    void close(@Disposes StickerEventPublisher publisher) throws Exception {
+        for (AutoCloseable decorator : decorators) {
+            decorator.close();
+        }
+        decorators.clear();
+    }
+
+    private StickerEventPublisher selectPublisher() {
         LOG.infof("Selecting messaging provider: %s", messagingProvider);
 
         return switch (messagingProvider.toLowerCase()) {
@@ -101,7 +101,13 @@ public class IssuerValidationFilter implements ContainerRequestFilter {
         LOG.debugf("JWT issuer validated: %s", tokenIssuer);
     }
 
-    private String normalizeIssuer(String issuer) {
+    /**
+     * Normalizes an issuer for comparison.
+     *
+     * @param issuer the issuer, or null
+     * @return the issuer without a trailing slash, or an empty string for null
+     */
+    public static String normalizeIssuer(String issuer) {
         if (issuer == null) {
             return "";
         }
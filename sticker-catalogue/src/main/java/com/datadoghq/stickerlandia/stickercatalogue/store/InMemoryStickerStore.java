@@ -0,0 +1,227 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.store;
+
+import com.datadoghq.stickerlandia.stickercatalogue.entity.Sticker;
+import io.quarkus.arc.lookup.LookupIfProperty;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Typed;
+import jakarta.persistence.OptimisticLockException;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Keeps stickers in the heap of this replica, for benchmarks, tests and deployments without a
+ * database. Nothing survives a restart, and writes are not undone if the caller's transaction rolls
+ * back.
+ *
+ * <p>Stickers are held by ID in a {@link ConcurrentHashMap}; every write replaces the stored
+ * sticker inside {@link ConcurrentHashMap#compute}, which makes it atomic for that sticker. Paging
+ * walks a {@link ConcurrentSkipListSet} of (createdAt, ID) keys, newest first; creation times never
+ * change, so only inserts and deletes touch it. Callers always get copies, so changing one has no
+ * effect until it is saved. Like the Postgres store's dynamic updates, saving a copy only writes
+ * its quantity if the caller changed it, so a claim made since the copy was read is kept.
+ */
+@ApplicationScoped
+@Typed(InMemoryStickerStore.class)
+@LookupIfProperty(name = "sticker.store", stringValue = "memory")
+public class InMemoryStickerStore implements StickerStore {
+
+    private record OrderKey(Instant createdAt, String stickerId) {}
+
+    private static final Comparator<OrderKey> NEWEST_FIRST =
+            Comparator.comparing(OrderKey::createdAt).reversed().thenComparing(OrderKey::stickerId);
+
+    private final ConcurrentHashMap<String, Sticker> stickers = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<OrderKey> byCreatedAt =
+            new ConcurrentSkipListSet<>(NEWEST_FIRST);
+
+    /** The quantity each copy handed out was read with, keyed by the copy itself. */
+    private final Map<Sticker, Integer> loadedQuantities =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    @Override
+    public boolean isTransactional() {
+        return false;
+    }
+
+    @Override
+    public void insert(Sticker sticker) {
+        if (stickers.putIfAbsent(sticker.getStickerId(), copy(sticker)) != null) {
+            throw new IllegalStateException(
+                    "Sticker " + sticker.getStickerId() + " already exists");
+        }
+        byCreatedAt.add(orderKey(sticker));
+    }
+
+    @Override
+    public Sticker findById(String stickerId) {
+        Sticker stored = stickers.get(stickerId);
+        return stored != null ? handOut(stored) : null;
+    }
+
+    @Override
+    public List<Sticker> findPage(int page, int size) {
+        // A sticker deleted since its key was read is left out, as a concurrent delete would be
+        return byCreatedAt.stream()
+                .skip((long) page * size)
+                .limit(size)
+                .map(key -> stickers.get(key.stickerId()))
+                .filter(Objects::nonNull)
+                .map(this::handOut)
+                .toList();
+    }
+
+    @Override
+    public long count() {
+        return stickers.size();
+    }
+
+    /**
+     * Stores the sticker and bumps its version. The stored quantity is kept unless the caller
+     * changed it from the one the sticker was read with.
+     *
+     * @throws OptimisticLockException if the sticker was changed or deleted since it was read
+     */
+    @Override
+    public void save(Sticker sticker) {
+        Sticker[] saved = {null};
+        stickers.computeIfPresent(
+                sticker.getStickerId(),
+                (id, current) -> {
+                    if (current.getVersion() != sticker.getVersion()) {
+                        return current;
+                    }
+                    Sticker next = copy(sticker);
+                    if (Objects.equals(
+                            loadedQuantities.get(sticker), sticker.getStickerQuantityRemaining())) {
+                        next.setStickerQuantityRemaining(current.getStickerQuantityRemaining());
+                    }
+                    next.setVersion(current.getVersion() + 1);
+                    saved[0] = next;
+                    return next;
+                });
+        if (saved[0] == null) {
+            throw new OptimisticLockException(
+                    "Sticker " + sticker.getStickerId() + " has been modified concurrently");
+        }
+        sticker.setVersion(saved[0].getVersion());
+        sticker.setStickerQuantityRemaining(saved[0].getStickerQuantityRemaining());
+        loadedQuantities.put(sticker, sticker.getStickerQuantityRemaining());
+    }
+
+    @Override
+    public Sticker patch(
+            String stickerId,
+            String name,
+            String description,
+            Integer quantity,
+            Long expectedVersion) {
+        Sticker[] patched = {null};
+        stickers.computeIfPresent(
+                stickerId,
+                (id, current) -> {
+                    if (expectedVersion != null && current.getVersion() != expectedVersion) {
+                        return current;
+                    }
+                    if (quantity != null && current.hasShardedStock()) {
+                        return current;
+                    }
+                    Sticker next = copy(current);
+                    if (name != null) {
+                        next.setName(name);
+                    }
+                    if (description != null) {
+                        next.setDescription(description);
+                    }
+                    if (quantity != null) {
+                        next.setStickerQuantityRemaining(quantity);
+                    }
+                    next.setUpdatedAt(Instant.now());
+                    next.setVersion(current.getVersion() + 1);
+                    patched[0] = next;
+                    return next;
+                });
+        return patched[0] != null ? handOut(patched[0]) : null;
+    }
+
+    @Override
+    public Integer claim(String stickerId) {
+        return adjustQuantity(stickerId, -1);
+    }
+
+    @Override
+    public Integer release(String stickerId, int amount) {
+        return adjustQuantity(stickerId, amount);
+    }
+
+    @Override
+    public void delete(Sticker sticker) {
+        Sticker removed = stickers.remove(sticker.getStickerId());
+        if (removed != null) {
+            byCreatedAt.remove(orderKey(removed));
+        }
+    }
+
+    /**
+     * Adds {@code delta} to a limited sticker's quantity, as long as a claim leaves it at zero or
+     * more. Unlimited (-1) and sharded stickers are left alone, and so is the version.
+     */
+    private Integer adjustQuantity(String stickerId, int delta) {
+        Integer[] remaining = {null};
+        stickers.computeIfPresent(
+                stickerId,
+                (id, current) -> {
+                    Integer quantity = current.getStickerQuantityRemaining();
+                    if (quantity == null
+                            || quantity < 0
+                            || current.hasShardedStock()
+                            || quantity + delta < 0) {
+                        return current;
+                    }
+                    Sticker next = copy(current);
+                    next.setStickerQuantityRemaining(quantity + delta);
+                    next.setUpdatedAt(Instant.now());
+                    remaining[0] = quantity + delta;
+                    return next;
+                });
+        return remaining[0];
+    }
+
+    /** Copies a stored sticker for a caller, remembering the quantity it was read with. */
+    private Sticker handOut(Sticker stored) {
+        Sticker copy = copy(stored);
+        loadedQuantities.put(copy, copy.getStickerQuantityRemaining());
+        return copy;
+    }
+
+    private static OrderKey orderKey(Sticker sticker) {
+        return new OrderKey(sticker.getCreatedAt(), sticker.getStickerId());
+    }
+
+    private static Sticker copy(Sticker sticker) {
+        Sticker copy =
+                new Sticker(
+                        sticker.getStickerId(),
+                        sticker.getName(),
+                        sticker.getDescription(),
+                        sticker.getStickerQuantityRemaining());
+        copy.setImageKey(sticker.getImageKey());
+        copy.setStockShardCount(sticker.getStockShardCount());
+        copy.setCreatedAt(sticker.getCreatedAt());
+        copy.setUpdatedAt(sticker.getUpdatedAt());
+        copy.setVersion(sticker.getVersion());
+        return copy;
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.store;
+
+import com.datadoghq.stickerlandia.stickercatalogue.entity.Sticker;
+import com.datadoghq.stickerlandia.stickercatalogue.entity.StickerReservation;
+import com.datadoghq.stickerlandia.stickercatalogue.entity.StickerTombstone;
+import io.quarkus.arc.lookup.LookupIfProperty;
+import io.quarkus.panache.common.Sort;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Typed;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.hibernate.query.NativeQuery;
+
+/**
+ * The default store: stickers are Panache entities in Postgres, written in the caller's
+ * transaction. Conditional writes are single {@code UPDATE ... RETURNING} statements, so they hold
+ * no row lock beyond the statement itself.
+ */
+@ApplicationScoped
+@Typed(PostgresStickerStore.class)
+@LookupIfProperty(name = "sticker.store", stringValue = "postgres", lookupIfMissing = true)
+public class PostgresStickerStore implements StickerStore {
+
+    /**
+     * Takes one unit of stock in a single statement. The {@code > 0} guard means limited stickers
+     * can never go negative, and unlimited (-1) stickers never match, so they are not written. The
+     * version is left alone, so claims on a hot sticker do not invalidate in-flight metadata edits;
+     * {@link Sticker} only writes the columns an update changed, so those edits never write the old
+     * quantity back.
+     */
+    private static final String CLAIM_STOCK_SQL =
+            "UPDATE stickers SET sticker_quantity_remaining = sticker_quantity_remaining - 1,"
+                    + " updated_at = :now, "
+                    + Sticker.STAMP_CHANGE
+                    + " WHERE sticker_id = :stickerId AND sticker_quantity_remaining > 0"
+                    + " AND stock_shard_count = 0"
+                    + " RETURNING sticker_quantity_remaining";
+
+    /**
+     * Returns stock. Unlimited (-1) stickers never match, so they are not written. Leaves the
+     * version alone like {@link #CLAIM_STOCK_SQL}.
+     */
+    private static final String RELEASE_STOCK_SQL =
+            "UPDATE stickers SET sticker_quantity_remaining = sticker_quantity_remaining + :amount,"
+                    + " updated_at = :now, "
+                    + Sticker.STAMP_CHANGE
+                    + " WHERE sticker_id = :stickerId AND sticker_quantity_remaining >= 0"
+                    + " AND stock_shard_count = 0"
+                    + " RETURNING sticker_quantity_remaining";
+
+    /** Columns returned by a PATCH, in the order {@link #toSticker(Object[])} reads them. */
+    private static final String PATCH_RETURNING =
+            " RETURNING sticker_id, name, description, image_key, sticker_quantity_remaining,"
+                    + " stock_shard_count, created_at, updated_at, version";
+
+    @Inject EntityManager entityManager;
+
+    @Override
+    public boolean isTransactional() {
+        return true;
+    }
+
+    @Override
+    public void insert(Sticker sticker) {
+        sticker.persist();
+    }
+
+    @Override
+    public Sticker findById(String stickerId) {
+        return Sticker.findById(stickerId);
+    }
+
+    @Override
+    public List<Sticker> findPage(int page, int size) {
+        return Sticker.<Sticker>findAll(Sort.by("createdAt").descending()).page(page, size).list();
+    }
+
+    @Override
+    public long count() {
+        return Sticker.count();
+    }
+
+    @Override
+    public void save(Sticker sticker) {
+        // Flush now so a version conflict surfaces here rather than at commit
+        sticker.persistAndFlush();
+    }
+
+    /**
+     * Applies the patch in a single {@code UPDATE ... RETURNING} statement that only sets the
+     * fields given.
+     */
+    @Override
+    public Sticker patch(
+            String stickerId,
+            String name,
+            String description,
+            Integer quantity,
+            Long expectedVersion) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        if (name != null) {
+            changes.put("name", name);
+        }
+        if (description != null) {
+            changes.put("description", description);
+        }
+        if (quantity != null) {
+            changes.put("sticker_quantity_remaining", quantity);
+        }
+
+        StringBuilder sql = new StringBuilder("UPDATE stickers SET ");
+        changes.keySet()
+                .forEach(column -> sql.append(column).append(" = :").append(column).append(", "));
+        sql.append("updated_at = :now, version = version + 1, ")
+                .append(Sticker.STAMP_CHANGE)
+                .append(" WHERE sticker_id = :stickerId");
+        if (expectedVersion != null) {
+            sql.append(" AND version = :expectedVersion");
+        }
+        if (quantity != null) {
+            // Sharded stock has to be redistributed across its shards, which PUT does under lock
+            sql.append(" AND stock_shard_count = 0");
+        }
+        sql.append(PATCH_RETURNING);
+
+        NativeQuery<Object[]> query =
+                entityManager
+                        .createNativeQuery(sql.toString())
+                        .unwrap(NativeQuery.class)
+                        .addScalar("sticker_id", String.class)
+                        .addScalar("name", String.class)
+                        .addScalar("description", String.class)
+                        .addScalar("image_key", String.class)
+                        .addScalar("sticker_quantity_remaining", Integer.class)
+                        .addScalar("stock_shard_count", Integer.class)
+                        .addScalar("created_at", Instant.class)
+                        .addScalar("updated_at", Instant.class)
+                        .addScalar("version", Long.class)
+                        .setParameter("now", Instant.now())
+                        .setParameter("stickerId", stickerId);
+        changes.forEach(query::setParameter);
+        if (expectedVersion != null) {
+            query.setParameter("expectedVersion", expectedVersion);
+        }
+
+        List<Object[]> rows = query.getResultList();
+        return rows.isEmpty() ? null : toSticker(rows.get(0));
+    }
+
+    @Override
+    public Integer claim(String stickerId) {
+        return adjustQuantity(CLAIM_STOCK_SQL, stickerId, null);
+    }
+
+    @Override
+    public Integer release(String stickerId, int amount) {
+        return adjustQuantity(RELEASE_STOCK_SQL, stickerId, amount);
+    }
+
+    /** Deletes the sticker and its open holds, and leaves a tombstone for the change feed. */
+    @Override
+    public void delete(Sticker sticker) {
+        StickerReservation.delete("stickerId", sticker.getStickerId());
+        sticker.delete();
+        new StickerTombstone(sticker.getStickerId()).persist();
+    }
+
+    private Integer adjustQuantity(String sql, String stickerId, Integer amount) {
+        NativeQuery<Integer> query =
+                entityManager
+                        .createNativeQuery(sql)
+                        .unwrap(NativeQuery.class)
+                        .addScalar("sticker_quantity_remaining", Integer.class)
+                        .setParameter("now", Instant.now())
+                        .setParameter("stickerId", stickerId);
+        if (amount != null) {
+            query.setParameter("amount", amount);
+        }
+        List<Integer> result = query.getResultList();
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    /** Builds a detached sticker from a {@link #PATCH_RETURNING} row. */
+    private static Sticker toSticker(Object[] row) {
+        Sticker sticker =
+                new Sticker((String) row[0], (String) row[1], (String) row[2], (Integer) row[4]);
+        sticker.setImageKey((String) row[3]);
+        sticker.setStockShardCount((Integer) row[5]);
+        sticker.setCreatedAt((Instant) row[6]);
+        sticker.setUpdatedAt((Instant) row[7]);
+        sticker.setVersion((Long) row[8]);
+        return sticker;
+    }
+}
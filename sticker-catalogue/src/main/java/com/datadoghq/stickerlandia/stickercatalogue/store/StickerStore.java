@@ -0,0 +1,105 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.store;
+
+import com.datadoghq.stickerlandia.stickercatalogue.entity.Sticker;
+import java.util.List;
+
+/**
+ * Storage for stickers, underneath {@code StickerRepository}. The repository keeps the catalogue's
+ * rules and side effects (events, live notifications); a store only reads and writes sticker state.
+ * Selected with {@code sticker.store}, see {@link StickerStoreProducer}.
+ *
+ * <p>Every conditional write (patch, claim, release) is atomic for a single sticker.
+ */
+public interface StickerStore {
+
+    /**
+     * Returns whether stickers live in Postgres and take part in the caller's transaction. The
+     * change feed, reservations, sharded stock and the event outbox are built on that and are only
+     * available when it is true.
+     */
+    boolean isTransactional();
+
+    /**
+     * Stores a new sticker.
+     *
+     * @param sticker the sticker to store
+     */
+    void insert(Sticker sticker);
+
+    /**
+     * Finds a sticker by its ID. Changes made to the result are only stored by {@link
+     * #save(Sticker)}.
+     *
+     * @param stickerId the ID of the sticker
+     * @return the sticker, or null if not found
+     */
+    Sticker findById(String stickerId);
+
+    /**
+     * Returns one page of stickers, newest first.
+     *
+     * @param page the page number (0-based)
+     * @param size the page size
+     * @return the stickers on the page
+     */
+    List<Sticker> findPage(int page, int size);
+
+    /** Returns the number of stickers. */
+    long count();
+
+    /**
+     * Stores the changes made to a sticker previously returned by {@link #findById(String)}.
+     *
+     * @param sticker the changed sticker
+     * @throws jakarta.persistence.OptimisticLockException if the sticker changed since it was read
+     */
+    void save(Sticker sticker);
+
+    /**
+     * Sets the given fields and bumps the version, in one atomic step. A quantity is only changed
+     * on stickers without sharded stock.
+     *
+     * @param stickerId the ID of the sticker to update
+     * @param name the new name, or null to keep it
+     * @param description the new description, or null to keep it
+     * @param quantity the new quantity, or null to keep it
+     * @param expectedVersion the version the sticker must still be at, or null for any
+     * @return the updated sticker, or null if nothing matched
+     */
+    Sticker patch(
+            String stickerId,
+            String name,
+            String description,
+            Integer quantity,
+            Long expectedVersion);
+
+    /**
+     * Takes one unit of stock from a limited sticker without sharded stock.
+     *
+     * @param stickerId the ID of the sticker
+     * @return the quantity left, or null if the sticker is missing, unlimited, sharded or sold out
+     */
+    Integer claim(String stickerId);
+
+    /**
+     * Returns stock to a limited sticker without sharded stock.
+     *
+     * @param stickerId the ID of the sticker
+     * @param amount the number of units to return
+     * @return the quantity left, or null if the sticker is missing, unlimited or sharded
+     */
+    Integer release(String stickerId, int amount);
+
+    /**
+     * Deletes a sticker, along with anything stored against it.
+     *
+     * @param sticker the sticker to delete, as returned by {@link #findById(String)}
+     */
+    void delete(Sticker sticker);
+}
@@ -0,0 +1,66 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.store;
+
+import io.quarkus.runtime.Startup;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * CDI producer that selects the {@link StickerStore} named by {@code sticker.store}.
+ *
+ * <p>Supported stores: - "postgres" (default): Panache entities in Postgres - "memory": a
+ * concurrent in-memory store, see {@link InMemoryStickerStore}
+ *
+ * <p>Only the selected implementation is instantiated, through {@code @LookupIfProperty}.
+ */
+@ApplicationScoped
+public class StickerStoreProducer {
+
+    private static final Logger LOG = Logger.getLogger(StickerStoreProducer.class);
+
+    @ConfigProperty(name = "sticker.store", defaultValue = "postgres")
+    String store;
+
+    @ConfigProperty(name = "sticker.events.outbox.enabled", defaultValue = "true")
+    boolean outboxEnabled;
+
+    @Inject Instance<PostgresStickerStore> postgresStore;
+
+    @Inject Instance<InMemoryStickerStore> inMemoryStore;
+
+    // Created at startup, so a misconfigured store fails the replica rather than its first request
+    @Produces
+    @Startup
+    @ApplicationScoped
+    public StickerStore produce() {
+        return switch (store.toLowerCase()) {
+            case "postgres" -> {
+                LOG.info("Using the Postgres sticker store");
+                yield postgresStore.get();
+            }
+            case "memory" -> {
+                if (outboxEnabled) {
+                    // The outbox is a Postgres table written in the sticker's transaction
+                    throw new IllegalStateException(
+                            "sticker.store=memory needs sticker.events.outbox.enabled=false");
+                }
+                LOG.warn("Using the in-memory sticker store; stickers are lost on restart");
+                yield inMemoryStore.get();
+            }
+            default ->
+                    throw new IllegalArgumentException(
+                            "Unsupported sticker.store: "
+                                    + store
+                                    + " (supported: postgres, memory)");
+        };
+    }
+}
@@ -0,0 +1,20 @@
+-- Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+-- This product includes software developed at Datadog (https://www.datadoghq.com/).
+-- Copyright 2025-Present Datadog, Inc.
+
+-- Optional sharded stock counters for hot limited-quantity stickers.
+-- A sharded sticker keeps its stock split across N rows in sticker_stock_shards so that
+-- concurrent claims land on different rows. stickers.sticker_quantity_remaining then holds
+-- a periodically refreshed cached sum of the shards.
+
+ALTER TABLE stickers ADD COLUMN stock_shard_count INTEGER NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN stickers.stock_shard_count IS 'Number of stock counter shards (0 when stock is held on this row)';
+
+-- Shard rows are updated constantly; leave free space on each page so updates stay HOT
+CREATE TABLE sticker_stock_shards (
+    sticker_id VARCHAR(50) NOT NULL REFERENCES stickers(sticker_id) ON DELETE CASCADE,
+    shard_id INTEGER NOT NULL,
+    quantity_remaining INTEGER NOT NULL,
+    PRIMARY KEY (sticker_id, shard_id)
+) WITH (fillfactor = 70);
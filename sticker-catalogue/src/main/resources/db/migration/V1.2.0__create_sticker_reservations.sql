@@ -0,0 +1,20 @@
+-- Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+-- This product includes software developed at Datadog (https://www.datadoghq.com/).
+-- Copyright 2025-Present Datadog, Inc.
+
+-- Time-limited stock holds. Reserving a sticker takes one unit of stock and records a hold
+-- here; confirming the hold deletes the row and keeps the stock taken, while holds that pass
+-- expires_at are deleted by a background reaper and their stock is returned.
+
+CREATE TABLE sticker_reservations (
+    reservation_id VARCHAR(50) PRIMARY KEY,
+    sticker_id VARCHAR(50) NOT NULL REFERENCES stickers(sticker_id) ON DELETE CASCADE,
+    expires_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- The reaper scans for the oldest expired holds
+CREATE INDEX idx_sticker_reservations_expires_at ON sticker_reservations(expires_at);
+CREATE INDEX idx_sticker_reservations_sticker_id ON sticker_reservations(sticker_id);
+
+COMMENT ON TABLE sticker_reservations IS 'Unconfirmed, time-limited holds on sticker stock';
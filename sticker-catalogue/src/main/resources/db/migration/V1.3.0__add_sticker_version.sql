@@ -0,0 +1,12 @@
+-- Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+-- This product includes software developed at Datadog (https://www.datadoghq.com/).
+-- Copyright 2025-Present Datadog, Inc.
+
+-- Optimistic concurrency for sticker metadata. Every metadata update bumps the version, and
+-- conditional updates (PATCH with If-Match) only apply when the version still matches.
+-- Stock claims and releases deliberately leave the version alone so that hot stickers do not
+-- invalidate every in-flight metadata edit.
+
+ALTER TABLE stickers ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN stickers.version IS 'Optimistic locking version, exposed to clients as the ETag';
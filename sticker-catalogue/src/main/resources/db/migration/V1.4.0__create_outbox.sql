@@ -0,0 +1,20 @@
+-- Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+-- This product includes software developed at Datadog (https://www.datadoghq.com/).
+-- Copyright 2025-Present Datadog, Inc.
+
+-- Transactional outbox for sticker events. Events are written in the same transaction as the
+-- sticker change and relayed to the message broker afterwards, oldest first per sticker.
+-- There is deliberately no foreign key: a deleted sticker's StickerDeleted event outlives it.
+
+CREATE TABLE outbox (
+    id BIGSERIAL PRIMARY KEY,
+    sticker_id VARCHAR(50) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error VARCHAR(500)
+);
+
+-- Finds the oldest pending event for each sticker
+CREATE INDEX idx_outbox_sticker_id ON outbox(sticker_id, id);
@@ -0,0 +1,23 @@
+-- Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+-- This product includes software developed at Datadog (https://www.datadoghq.com/).
+-- Copyright 2025-Present Datadog, Inc.
+
+-- Change feed for catalogue mirrors. Every write to a sticker stamps it with the next value of
+-- sticker_change_seq, and deleting a sticker leaves a tombstone stamped from the same sequence,
+-- so "everything after token N" is two range scans on indexed columns.
+
+CREATE SEQUENCE sticker_change_seq;
+
+-- Existing rows are numbered in no particular order; a mirror starting from 0 reads them all
+ALTER TABLE stickers ADD COLUMN change_seq BIGINT NOT NULL DEFAULT nextval('sticker_change_seq');
+
+CREATE INDEX idx_stickers_change_seq ON stickers(change_seq);
+
+-- The sticker row is gone, so nothing references it
+CREATE TABLE sticker_tombstones (
+    change_seq BIGINT PRIMARY KEY,
+    sticker_id VARCHAR(50) NOT NULL,
+    deleted_at TIMESTAMP NOT NULL
+);
+
+COMMENT ON TABLE sticker_tombstones IS 'Deleted stickers, for the change feed';
@@ -0,0 +1,15 @@
+-- Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+-- This product includes software developed at Datadog (https://www.datadoghq.com/).
+-- Copyright 2025-Present Datadog, Inc.
+
+-- Records which version of the sample data has been seeded, so that only one replica seeds and
+-- the others skip straight to serving. completed_at stays empty while images are still uploading.
+
+CREATE TABLE seed_versions (
+    seed_name VARCHAR(50) PRIMARY KEY,
+    version INTEGER NOT NULL,
+    started_at TIMESTAMP NOT NULL,
+    completed_at TIMESTAMP
+);
+
+COMMENT ON TABLE seed_versions IS 'Seed data versions applied by StickerSeeder';
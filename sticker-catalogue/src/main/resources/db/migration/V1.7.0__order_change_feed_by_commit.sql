@@ -0,0 +1,16 @@
+-- Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+-- This product includes software developed at Datadog (https://www.datadoghq.com/).
+-- Copyright 2025-Present Datadog, Inc.
+
+-- Change numbers are taken when a row is written, not when its transaction commits, so a slow
+-- transaction can commit a lower number than one a mirror has already read past. Every change is
+-- now also stamped with the writing transaction's ID, and the feed is ordered by (change_xid,
+-- change_seq) and only reads changes from transactions older than every one still running.
+
+-- Existing rows all get this migration's transaction, and keep their relative order by change_seq
+ALTER TABLE stickers ADD COLUMN change_xid BIGINT NOT NULL DEFAULT pg_current_xact_id()::text::bigint;
+ALTER TABLE sticker_tombstones ADD COLUMN change_xid BIGINT NOT NULL DEFAULT pg_current_xact_id()::text::bigint;
+
+DROP INDEX idx_stickers_change_seq;
+CREATE INDEX idx_stickers_change_position ON stickers(change_xid, change_seq);
+CREATE INDEX idx_sticker_tombstones_change_position ON sticker_tombstones(change_xid, change_seq);
@@ -8,6 +8,8 @@ package com.datadoghq.stickerlandia.stickercatalogue;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.Matchers.hasKey;
 
 import io.quarkus.test.junit.QuarkusTest;
 import io.restassured.http.ContentType;
@@ -26,4 +28,26 @@ public class HealthResourceTest {
                 .contentType(ContentType.JSON)
                 .body("status", is("OK"));
     }
+
+    @Test
+    void testLivenessEndpoint() {
+        given().when()
+                .get("/health/live")
+                .then()
+                .statusCode(200)
+                .contentType(ContentType.JSON)
+                .body("status", is("UP"));
+    }
+
+    @Test
+    void testReadinessEndpointReportsEachDependency() {
+        given().when()
+                .get("/health/ready")
+                .then()
+                .contentType(ContentType.JSON)
+                .body("checks.database.status", is("UP"))
+                .body("checks.database.latencyMs", notNullValue())
+                .body("checks", hasKey("image-storage"))
+                .body("checks", hasKey("event-publisher"));
+    }
 }
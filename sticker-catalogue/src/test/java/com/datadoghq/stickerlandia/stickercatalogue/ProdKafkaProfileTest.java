@@ -7,10 +7,13 @@
 package com.datadoghq.stickerlandia.stickercatalogue;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.datadoghq.stickerlandia.stickercatalogue.messaging.KafkaStickerEventPublisher;
 import com.datadoghq.stickerlandia.stickercatalogue.messaging.StickerEventPublisher;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.metrics.MeterProvider;
 import io.quarkus.arc.ClientProxy;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.QuarkusTestProfile;
@@ -46,6 +49,8 @@ class ProdKafkaProfileTest {
 
     @Inject StickerEventPublisher eventPublisher;
 
+    @Inject OpenTelemetry openTelemetry;
+
     @Test
     void shouldUseKafkaPublisher() {
         assertNotNull(eventPublisher, "StickerEventPublisher should be injected");
@@ -58,4 +63,14 @@ class ProdKafkaProfileTest {
                 "prod-kafka profile should wire KafkaStickerEventPublisher, but got: "
                         + unwrapped.getClass().getName());
     }
+
+    @Test
+    void shouldExportMetrics() {
+        OpenTelemetry unwrapped = ClientProxy.unwrap(openTelemetry);
+
+        assertNotSame(
+                MeterProvider.noop(),
+                unwrapped.getMeterProvider(),
+                "prod profiles should export metrics rather than use a no-op meter");
+    }
 }
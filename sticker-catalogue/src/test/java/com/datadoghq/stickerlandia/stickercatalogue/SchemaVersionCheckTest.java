@@ -0,0 +1,106 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.inject.Instance;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationInfoService;
+import org.flywaydb.core.api.MigrationVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link SchemaVersionCheck}. */
+class SchemaVersionCheckTest {
+
+    private final Flyway flyway = mock(Flyway.class);
+    private final MigrationInfoService info = mock(MigrationInfoService.class);
+    private SchemaVersionCheck check;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        Instance<Flyway> instance = mock(Instance.class);
+        when(instance.isResolvable()).thenReturn(true);
+        when(instance.get()).thenReturn(flyway);
+        when(flyway.info()).thenReturn(info);
+        check = new SchemaVersionCheck();
+        check.flyway = instance;
+        check.migrateAtStart = false;
+        check.store = "postgres";
+    }
+
+    @Test
+    void refusesToStartWhileMigrationsArePending() {
+        MigrationInfo current = migration("1.5.0");
+        MigrationInfo[] pending = {migration("1.6.0")};
+        when(info.current()).thenReturn(current);
+        when(info.pending()).thenReturn(pending);
+
+        IllegalStateException e =
+                assertThrows(IllegalStateException.class, () -> check.onStart(new StartupEvent()));
+        assertEquals(
+                "Database schema is at version 1.5.0 but 1 migrations up to version 1.6.0 are"
+                        + " pending; run the migrate command first",
+                e.getMessage());
+    }
+
+    @Test
+    void refusesToStartAgainstAnEmptyDatabase() {
+        MigrationInfo[] pending = {migration("1.0.0"), migration("1.1.0")};
+        when(info.current()).thenReturn(null);
+        when(info.pending()).thenReturn(pending);
+
+        IllegalStateException e =
+                assertThrows(IllegalStateException.class, () -> check.onStart(new StartupEvent()));
+        assertEquals(
+                "Database schema is at version empty but 2 migrations up to version 1.1.0 are"
+                        + " pending; run the migrate command first",
+                e.getMessage());
+    }
+
+    @Test
+    void startsWhenNothingIsPending() {
+        MigrationInfo current = migration("1.6.0");
+        when(info.current()).thenReturn(current);
+        when(info.pending()).thenReturn(new MigrationInfo[0]);
+
+        assertDoesNotThrow(() -> check.onStart(new StartupEvent()));
+    }
+
+    @Test
+    void leavesTheCheckToFlywayWhenMigratingAtStart() {
+        check.migrateAtStart = true;
+
+        check.onStart(new StartupEvent());
+
+        verifyNoInteractions(flyway);
+    }
+
+    @Test
+    void skipsTheCheckWithoutADatabase() {
+        check.store = "memory";
+
+        check.onStart(new StartupEvent());
+
+        verifyNoInteractions(flyway);
+    }
+
+    private static MigrationInfo migration(String version) {
+        MigrationInfo migration = mock(MigrationInfo.class);
+        when(migration.getVersion()).thenReturn(MigrationVersion.fromVersion(version));
+        return migration;
+    }
+}
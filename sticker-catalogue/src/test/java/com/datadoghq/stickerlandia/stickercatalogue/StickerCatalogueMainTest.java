@@ -0,0 +1,44 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the command handling of {@link StickerCatalogueMain}. */
+class StickerCatalogueMainTest {
+
+    @Test
+    void migrateOnlyLeavesFlywayRunning() {
+        Map<String, String> properties = StickerCatalogueMain.commandProperties("migrate");
+
+        assertEquals("true", properties.get("quarkus.flyway.migrate-at-start"));
+        assertEquals("false", properties.get("quarkus.http.host-enabled"));
+        assertEquals("false", properties.get("quarkus.scheduler.enabled"));
+        assertEquals("false", properties.get("sticker.events.outbox.notify.enabled"));
+        assertEquals("false", properties.get("sticker.seed.enabled"));
+    }
+
+    @Test
+    void servingChangesNoConfiguration() {
+        assertTrue(StickerCatalogueMain.commandProperties().isEmpty());
+        assertTrue(StickerCatalogueMain.commandProperties("serve").isEmpty());
+    }
+
+    @Test
+    void migrateExitsOnceMigrationsAreApplied() {
+        assertEquals(0, new StickerCatalogueMain().run("migrate"));
+    }
+
+    @Test
+    void unknownCommandsExitWithAUsageError() {
+        assertEquals(2, new StickerCatalogueMain().run("migrat"));
+    }
+}
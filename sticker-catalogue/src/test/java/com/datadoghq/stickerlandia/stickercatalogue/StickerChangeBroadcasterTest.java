@@ -0,0 +1,113 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.datadoghq.stickerlandia.stickercatalogue.dto.StickerChangeNotification;
+import io.opentelemetry.api.OpenTelemetry;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+/** Unit tests for {@link StickerChangeBroadcaster}. */
+class StickerChangeBroadcasterTest {
+
+    private TransactionSynchronizationRegistry transactions;
+    private StickerChangeBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        transactions = mock(TransactionSynchronizationRegistry.class);
+        when(transactions.getTransactionStatus()).thenReturn(Status.STATUS_NO_TRANSACTION);
+        broadcaster = new StickerChangeBroadcaster();
+        broadcaster.transactions = transactions;
+        broadcaster.meter = OpenTelemetry.noop().getMeter("test");
+        broadcaster.maxSubscribers = 2;
+        broadcaster.bufferSize = 2;
+        broadcaster.init();
+    }
+
+    @Test
+    void shouldPublishOnlyOnceTheTransactionCommits() {
+        when(transactions.getTransactionStatus()).thenReturn(Status.STATUS_ACTIVE);
+        AssertSubscriber<StickerChangeNotification> subscriber =
+                broadcaster.subscribe().subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        broadcaster.publishAfterCommit(notification("sticker-committed"));
+        broadcaster.publishAfterCommit(notification("sticker-rolled-back"));
+        ArgumentCaptor<Synchronization> synchronizations =
+                ArgumentCaptor.forClass(Synchronization.class);
+        verify(transactions, times(2))
+                .registerInterposedSynchronization(synchronizations.capture());
+        subscriber.assertHasNotReceivedAnyItem();
+
+        synchronizations.getAllValues().get(0).afterCompletion(Status.STATUS_COMMITTED);
+        synchronizations.getAllValues().get(1).afterCompletion(Status.STATUS_ROLLEDBACK);
+
+        assertEquals(List.of("sticker-committed"), stickerIds(subscriber));
+    }
+
+    @Test
+    void shouldDropOldestNotificationsForASlowSubscriber() {
+        AssertSubscriber<StickerChangeNotification> slow =
+                broadcaster.subscribe().subscribe().withSubscriber(AssertSubscriber.create(0));
+        AssertSubscriber<StickerChangeNotification> fast =
+                broadcaster.subscribe().subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        for (int i = 1; i <= 5; i++) {
+            broadcaster.publishAfterCommit(notification("sticker-" + i));
+        }
+        slow.request(10);
+
+        assertEquals(List.of("sticker-4", "sticker-5"), stickerIds(slow));
+        assertEquals(
+                List.of("sticker-1", "sticker-2", "sticker-3", "sticker-4", "sticker-5"),
+                stickerIds(fast));
+    }
+
+    @Test
+    void shouldRefuseSubscribersOverTheLimitUntilOneLeaves() {
+        AssertSubscriber<StickerChangeNotification> first =
+                broadcaster.subscribe().subscribe().withSubscriber(AssertSubscriber.create(1));
+        broadcaster.subscribe().subscribe().withSubscriber(AssertSubscriber.create(1));
+
+        assertThrows(IllegalStateException.class, broadcaster::subscribe);
+
+        first.cancel();
+        assertEquals(1, broadcaster.subscriberCount());
+        broadcaster.subscribe();
+        assertEquals(2, broadcaster.subscriberCount());
+    }
+
+    @Test
+    void shouldSkipTransactionBookkeepingWithoutSubscribers() {
+        broadcaster.publishAfterCommit(notification("sticker-unseen"));
+
+        verifyNoInteractions(transactions);
+    }
+
+    private static StickerChangeNotification notification(String stickerId) {
+        return new StickerChangeNotification(
+                StickerChangeNotification.Type.QUANTITY_CHANGED, stickerId, null, 1);
+    }
+
+    private static List<String> stickerIds(AssertSubscriber<StickerChangeNotification> subscriber) {
+        return subscriber.getItems().stream().map(StickerChangeNotification::getStickerId).toList();
+    }
+}
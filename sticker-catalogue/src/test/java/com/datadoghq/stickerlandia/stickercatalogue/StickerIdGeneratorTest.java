@@ -0,0 +1,92 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link StickerIdGenerator}. */
+class StickerIdGeneratorTest {
+
+    @Test
+    void shouldKeepStickerPrefixAndFixedLength() {
+        String id = new StickerIdGenerator().nextId();
+
+        assertTrue(id.startsWith(StickerIdGenerator.PREFIX), "Unexpected ID: " + id);
+        assertEquals(
+                StickerIdGenerator.PREFIX.length() + StickerIdGenerator.ENCODED_LENGTH,
+                id.length());
+        assertTrue(id.matches("sticker-[0-9a-hjkmnp-tv-z]{26}"), "Unexpected ID: " + id);
+    }
+
+    @Test
+    void shouldOrderIdsByCreationTime() {
+        AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+        StickerIdGenerator generator = new StickerIdGenerator(clock::get);
+
+        String previous = generator.nextId();
+        for (int i = 0; i < 1_000; i++) {
+            if (i % 10 == 0) {
+                clock.incrementAndGet();
+            }
+            String next = generator.nextId();
+            assertTrue(next.compareTo(previous) > 0, next + " should sort after " + previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void shouldStayMonotonicWhenClockGoesBackwards() {
+        AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+        StickerIdGenerator generator = new StickerIdGenerator(clock::get);
+
+        String first = generator.nextId();
+        clock.addAndGet(-5_000);
+        String second = generator.nextId();
+
+        assertTrue(second.compareTo(first) > 0, second + " should sort after " + first);
+    }
+
+    @Test
+    void shouldGenerateUniqueIdsUnderConcurrentCreates() throws Exception {
+        StickerIdGenerator generator = new StickerIdGenerator();
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        int threads = 8;
+        int idsPerThread = 10_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    for (int i = 0; i < idsPerThread; i++) {
+                                        ids.add(generator.nextId());
+                                    }
+                                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads * idsPerThread, ids.size());
+    }
+}
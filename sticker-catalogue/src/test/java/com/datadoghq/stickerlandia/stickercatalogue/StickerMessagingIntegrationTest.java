@@ -29,6 +29,7 @@ import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import java.time.Duration;
 import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.eclipse.microprofile.reactive.messaging.Incoming;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -50,6 +51,7 @@ class StickerMessagingIntegrationTest {
             new CopyOnWriteArrayList<>();
     private static final CopyOnWriteArrayList<CloudEvent<StickerDeletedEvent>> deletedEvents =
             new CopyOnWriteArrayList<>();
+    private static final CopyOnWriteArrayList<String> addedKeys = new CopyOnWriteArrayList<>();
 
     @BeforeEach
     @Transactional
@@ -62,17 +64,19 @@ class StickerMessagingIntegrationTest {
 
         // Clear message collectors
         addedEvents.clear();
+        addedKeys.clear();
         updatedEvents.clear();
         deletedEvents.clear();
     }
 
     // Kafka message consumers for testing
     @Incoming("stickers_added_test")
-    void consumeStickerAddedEvent(String message) {
+    void consumeStickerAddedEvent(ConsumerRecord<String, String> record) {
         try {
             CloudEvent<StickerAddedEvent> event =
                     objectMapper.readValue(
-                            message, new TypeReference<CloudEvent<StickerAddedEvent>>() {});
+                            record.value(), new TypeReference<CloudEvent<StickerAddedEvent>>() {});
+            addedKeys.add(record.key());
             addedEvents.add(event);
         } catch (Exception e) {
             throw new RuntimeException("Failed to parse StickerAddedEvent", e);
@@ -146,6 +150,7 @@ class StickerMessagingIntegrationTest {
         // Verify event data
         StickerAddedEvent eventData = cloudEvent.getData();
         assertEquals(stickerId, eventData.getStickerId());
+        assertEquals(stickerId, addedKeys.get(0), "Records should be keyed by sticker ID");
         assertEquals("Test Messaging Sticker", eventData.getName());
         assertEquals("A sticker for testing Kafka messaging", eventData.getDescription());
         assertNotNull(eventData.getAddedAt());
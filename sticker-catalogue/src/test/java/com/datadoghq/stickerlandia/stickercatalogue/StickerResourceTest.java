@@ -9,15 +9,29 @@ package com.datadoghq.stickerlandia.stickercatalogue;
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.datadoghq.stickerlandia.stickercatalogue.dto.CreateStickerRequest;
+import com.datadoghq.stickerlandia.stickercatalogue.dto.UpdateStickerRequest;
 import com.datadoghq.stickerlandia.stickercatalogue.entity.Sticker;
+import com.datadoghq.stickerlandia.stickercatalogue.entity.StickerReservation;
+import io.quarkus.narayana.jta.QuarkusTransaction;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.security.TestSecurity;
 import io.restassured.http.ContentType;
+import io.restassured.path.json.JsonPath;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -26,9 +40,17 @@ class StickerResourceTest {
 
     private static final String EXISTING_STICKER_ID = "test-sticker-001";
     private static final String NON_EXISTING_STICKER_ID = "non-existing-sticker";
+    private static final String LAST_ONE_STICKER_ID = "test-sticker-last-one";
+    private static final String UNLIMITED_STICKER_ID = "test-sticker-unlimited";
 
     @Inject EntityManager em;
 
+    @Inject StickerRepository stickerRepository;
+
+    @Inject StickerReservationRepository reservationRepository;
+
+    @Inject StickerStockShardRepository stockShards;
+
     @BeforeEach
     @Transactional
     void setupTestData() {
@@ -38,6 +60,23 @@ class StickerResourceTest {
             sticker = new Sticker(EXISTING_STICKER_ID, "Test Sticker", "For testing purposes", 100);
             sticker.persist();
         }
+
+        // A limited sticker with a single unit left, reset before every test
+        StickerReservation.delete("stickerId", LAST_ONE_STICKER_ID);
+        Sticker lastOne = Sticker.findById(LAST_ONE_STICKER_ID);
+        if (lastOne == null) {
+            lastOne = new Sticker(LAST_ONE_STICKER_ID, "Last One", "Only one left", 1);
+            lastOne.persist();
+        } else {
+            lastOne.setName("Last One");
+            lastOne.setStickerQuantityRemaining(1);
+        }
+
+        Sticker unlimited = Sticker.findById(UNLIMITED_STICKER_ID);
+        if (unlimited == null) {
+            unlimited = new Sticker(UNLIMITED_STICKER_ID, "Unlimited", "Never runs out", -1);
+            unlimited.persist();
+        }
     }
 
     @Test
@@ -163,4 +202,672 @@ class StickerResourceTest {
                 .body("title", is("Not Found"))
                 .body("detail", is("Sticker with ID " + NON_EXISTING_STICKER_ID + " not found"));
     }
+
+    @Test
+    @TestSecurity(user = "testuser", roles = "user")
+    void testClaimLimitedStickerDecrementsUntilSoldOut() {
+        given().when()
+                .post("/api/stickers/v1/{stickerId}/claim", LAST_ONE_STICKER_ID)
+                .then()
+                .statusCode(200)
+                .contentType(ContentType.JSON)
+                .body("stickerId", is(LAST_ONE_STICKER_ID))
+                .body("stickerQuantityRemaining", is(0));
+
+        given().when()
+                .post("/api/stickers/v1/{stickerId}/claim", LAST_ONE_STICKER_ID)
+                .then()
+                .statusCode(409)
+                .contentType("application/problem+json")
+                .body("status", is(409))
+                .body("detail", is("Sticker with ID " + LAST_ONE_STICKER_ID + " is out of stock"));
+    }
+
+    @Test
+    void testClaimDuringAnUpdateIsNotWrittenBack() {
+        // As a PUT does: load the sticker, then a claim commits before the update is flushed
+        QuarkusTransaction.requiringNew()
+                .run(
+                        () -> {
+                            Sticker loaded = Sticker.findById(LAST_ONE_STICKER_ID);
+                            QuarkusTransaction.requiringNew()
+                                    .run(() -> stickerRepository.claimStock(LAST_ONE_STICKER_ID));
+                            loaded.setName("Renamed during a claim");
+                        });
+
+        given().when()
+                .get("/api/stickers/v1/{stickerId}", LAST_ONE_STICKER_ID)
+                .then()
+                .statusCode(200)
+                .body("stickerName", is("Renamed during a claim"))
+                .body("stickerQuantityRemaining", is(0));
+    }
+
+    @Test
+    @TestSecurity(user = "testuser", roles = "user")
+    void testReleaseLimitedStickerIncrementsStock() {
+        given().when()
+                .post("/api/stickers/v1/{stickerId}/release", LAST_ONE_STICKER_ID)
+                .then()
+                .statusCode(200)
+                .contentType(ContentType.JSON)
+                .body("stickerQuantityRemaining", is(2));
+    }
+
+    @Test
+    @TestSecurity(user = "testuser", roles = "user")
+    void testClaimUnlimitedStickerLeavesQuantityUnlimited() {
+        given().when()
+                .post("/api/stickers/v1/{stickerId}/claim", UNLIMITED_STICKER_ID)
+                .then()
+                .statusCode(200)
+                .contentType(ContentType.JSON)
+                .body("stickerQuantityRemaining", is(-1));
+
+        given().when()
+                .get("/api/stickers/v1/{stickerId}", UNLIMITED_STICKER_ID)
+                .then()
+                .statusCode(200)
+                .body("stickerQuantityRemaining", is(-1));
+    }
+
+    @Test
+    @TestSecurity(user = "testuser", roles = "user")
+    void testClaimNonExistingStickerReturns404() {
+        given().when()
+                .post("/api/stickers/v1/{stickerId}/claim", NON_EXISTING_STICKER_ID)
+                .then()
+                .statusCode(404)
+                .contentType("application/problem+json")
+                .body("detail", is("Sticker with ID " + NON_EXISTING_STICKER_ID + " not found"));
+    }
+
+    @Test
+    @TestSecurity(user = "testuser", roles = "user")
+    void testClaimShardedStickerSpreadsStockAcrossShards() {
+        CreateStickerRequest request = new CreateStickerRequest();
+        request.setStickerName("Sharded Sticker");
+        request.setStickerQuantityRemaining(3);
+        request.setStockShardCount(4);
+
+        String stickerId =
+                given().contentType(ContentType.JSON)
+                        .body(request)
+                        .when()
+                        .post("/api/stickers/v1")
+                        .then()
+                        .statusCode(201)
+                        .extract()
+                        .path("stickerId");
+
+        given().when()
+                .get("/api/stickers/v1/{stickerId}", stickerId)
+                .then()
+                .statusCode(200)
+                .body("stockShardCount", is(4))
+                .body("stickerQuantityRemaining", is(3));
+
+        for (int remaining = 2; remaining >= 0; remaining--) {
+            given().when()
+                    .post("/api/stickers/v1/{stickerId}/claim", stickerId)
+                    .then()
+                    .statusCode(200)
+                    .body("stickerQuantityRemaining", is(remaining));
+        }
+
+        given().when()
+                .post("/api/stickers/v1/{stickerId}/claim", stickerId)
+                .then()
+                .statusCode(409)
+                .contentType("application/problem+json");
+    }
+
+    @Test
+    @TestSecurity(user = "testuser", roles = "user")
+    void testShardedClaimWaitsForLockedShardsBeforeSellingOut() throws Exception {
+        CreateStickerRequest request = new CreateStickerRequest();
+        request.setStickerName("Contended Sharded Sticker");
+        request.setStickerQuantityRemaining(2);
+        request.setStockShardCount(2);
+
+        String stickerId =
+                given().contentType(ContentType.JSON)
+                        .body(request)
+                        .when()
+                        .post("/api/stickers/v1")
+                        .then()
+                        .statusCode(201)
+                        .extract()
+                        .path("stickerId");
+
+        // Another transaction takes the unit in shard 0 and holds shard 1 without changing it
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> holder =
+                    executor.submit(
+                            () ->
+                                    QuarkusTransaction.requiringNew()
+                                            .run(() -> holdShards(stickerId, held, commit)));
+            assertTrue(held.await(10, TimeUnit.SECONDS));
+
+            Future<Integer> claim =
+                    executor.submit(
+                            () ->
+                                    given().when()
+                                            .post("/api/stickers/v1/{stickerId}/claim", stickerId)
+                                            .then()
+                                            .extract()
+                                            .statusCode());
+            awaitLockWaiter();
+            commit.countDown();
+            holder.get(10, TimeUnit.SECONDS);
+
+            // Shard 1 still had its unit, so the claim must get it rather than a 409
+            assertEquals(200, claim.get(10, TimeUnit.SECONDS));
+        } finally {
+            commit.countDown();
+            executor.shutdownNow();
+        }
+
+        given().when().post("/api/stickers/v1/{stickerId}/claim", stickerId).then().statusCode(409);
+    }
+
+    @Test
+    @TestSecurity(user = "testuser", roles = "user")
+    void testOnlyOneReplicaRefreshesCachedStock() throws Exception {
+        CreateStickerRequest request = new CreateStickerRequest();
+        request.setStickerName("Refreshed Sharded Sticker");
+        request.setStickerQuantityRemaining(4);
+        request.setStockShardCount(2);
+
+        String stickerId =
+                given().contentType(ContentType.JSON)
+                        .body(request)
+                        .when()
+                        .post("/api/stickers/v1")
+                        .then()
+                        .statusCode(201)
+                        .extract()
+                        .path("stickerId");
+
+        // Another replica holds the refresh lock while the shards drift from the cached sum
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> holder =
+                    executor.submit(
+                            () ->
+                                    QuarkusTransaction.requiringNew()
+                                            .run(() -> holdRefreshLock(held, release)));
+            assertTrue(held.await(10, TimeUnit.SECONDS));
+            QuarkusTransaction.requiringNew()
+                    .run(
+                            () ->
+                                    em.createNativeQuery(
+                                                    "UPDATE sticker_stock_shards SET quantity_remaining = 0"
+                                                            + " WHERE sticker_id = ?1 AND shard_id = 0")
+                                            .setParameter(1, stickerId)
+                                            .executeUpdate());
+
+            stockShards.refreshCachedQuantities();
+            assertEquals(4, cachedQuantity(stickerId));
+
+            release.countDown();
+            holder.get(10, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+
+        stockShards.refreshCachedQuantities();
+        assertEquals(2, cachedQuantity(stickerId));
+    }
+
+    @Test
+    @TestSecurity(user = "testuser", roles = "user")
+    void testShardingUnlimitedStickerReturns400() {
+        CreateStickerRequest request = new CreateStickerRequest();
+        request.setStickerName("Unlimited Sharded Sticker");
+        request.setStickerQuantityRemaining(-1);
+        request.setStockShardCount(4);
+
+        given().contentType(ContentType.JSON)
+                .body(request)
+                .when()
+                .post("/api/stickers/v1")
+                .then()
+                .statusCode(400)
+                .contentType("application/problem+json");
+    }
+
+    @Test
+    @TestSecurity(user = "testuser", roles = "user")
+    void testReserveAndConfirmKeepsStockTaken() {
+        String reservationId =
+                given().when()
+                        .post("/api/stickers/v1/{stickerId}/reservations", LAST_ONE_STICKER_ID)
+                        .then()
+                        .statusCode(201)
+                        .contentType(ContentType.JSON)
+                        .body("stickerId", is(LAST_ONE_STICKER_ID))
+                        .body("stickerQuantityRemaining", is(0))
+                        .body("expiresAt", notNullValue())
+                        .extract()
+                        .path("reservationId");
+
+        given().when()
+                .post("/api/stickers/v1/{stickerId}/reservations", LAST_ONE_STICKER_ID)
+                .then()
+                .statusCode(409)
+                .contentType("application/problem+json");
+
+        given().when()
+                .post(
+                        "/api/stickers/v1/{stickerId}/reservations/{reservationId}/confirm",
+                        LAST_ONE_STICKER_ID,
+                        reservationId)
+                .then()
+                .statusCode(200)
+                .body("reservationId", is(reservationId));
+
+        // A confirmed hold is gone, so it can be neither confirmed nor cancelled again
+        given().when()
+                .delete(
+                        "/api/stickers/v1/{stickerId}/reservations/{reservationId}",
+                        LAST_ONE_STICKER_ID,
+                        reservationId)
+                .then()
+                .statusCode(404);
+
+        given().when()
+                .get("/api/stickers/v1/{stickerId}", LAST_ONE_STICKER_ID)
+                .then()
+                .statusCode(200)
+                .body("stickerQuantityRemaining", is(0));
+    }
+
+    @Test
+    @TestSecurity(user = "testuser", roles = "user")
+    void testCancelReservationReturnsStock() {
+        String reservationId =
+                given().when()
+                        .post("/api/stickers/v1/{stickerId}/reservations", LAST_ONE_STICKER_ID)
+                        .then()
+                        .statusCode(201)
+                        .extract()
+                        .path("reservationId");
+
+        given().when()
+                .delete(
+                        "/api/stickers/v1/{stickerId}/reservations/{reservationId}",
+                        LAST_ONE_STICKER_ID,
+                        reservationId)
+                .then()
+                .statusCode(200)
+                .body("stickerQuantityRemaining", is(1));
+    }
+
+    @Test
+    @TestSecurity(user = "testuser", roles = "user")
+    void testExpiredReservationIsReapedBackIntoStock() {
+        String reservationId =
+                given().when()
+                        .queryParam("ttlSeconds", 60)
+                        .post("/api/stickers/v1/{stickerId}/reservations", LAST_ONE_STICKER_ID)
+                        .then()
+                        .statusCode(201)
+                        .body("stickerQuantityRemaining", is(0))
+                        .extract()
+                        .path("reservationId");
+
+        QuarkusTransaction.requiringNew()
+                .run(
+                        () ->
+                                StickerReservation.update(
+                                        "expiresAt = ?1 where reservationId = ?2",
+                                        Instant.now().minusSeconds(1),
+                                        reservationId));
+
+        // Expired but not yet reaped
+        given().when()
+                .post(
+                        "/api/stickers/v1/{stickerId}/reservations/{reservationId}/confirm",
+                        LAST_ONE_STICKER_ID,
+                        reservationId)
+                .then()
+                .statusCode(410)
+                .contentType("application/problem+json")
+                .body("title", is("Gone"));
+
+        reservationRepository.reapExpiredReservations();
+
+        given().when()
+                .get("/api/stickers/v1/{stickerId}", LAST_ONE_STICKER_ID)
+                .then()
+                .statusCode(200)
+                .body("stickerQuantityRemaining", is(1));
+
+        given().when()
+                .post(
+                        "/api/stickers/v1/{stickerId}/reservations/{reservationId}/confirm",
+                        LAST_ONE_STICKER_ID,
+                        reservationId)
+                .then()
+                .statusCode(404);
+    }
+
+    @Test
+    @TestSecurity(user = "testuser", roles = "user")
+    void testReserveWithTtlAboveMaximumReturns400() {
+        given().when()
+                .queryParam("ttlSeconds", 86400)
+                .post("/api/stickers/v1/{stickerId}/reservations", LAST_ONE_STICKER_ID)
+                .then()
+                .statusCode(400)
+                .contentType("application/problem+json");
+    }
+
+    @Test
+    @TestSecurity(user = "testuser", roles = "user")
+    void testPatchStickerHonorsIfMatch() {
+        CreateStickerRequest request = new CreateStickerRequest();
+        request.setStickerName("Patchable Sticker");
+        request.setStickerDescription("Before");
+        request.setStickerQuantityRemaining(10);
+
+        String stickerId =
+                given().contentType(ContentType.JSON)
+                        .body(request)
+                        .when()
+                        .post("/api/stickers/v1")
+                        .then()
+                        .statusCode(201)
+                        .extract()
+                        .path("stickerId");
+
+        String etag =
+                given().when()
+                        .get("/api/stickers/v1/{stickerId}", stickerId)
+                        .then()
+                        .statusCode(200)
+                        .header("ETag", notNullValue())
+                        .extract()
+                        .header("ETag");
+
+        UpdateStickerRequest rename = new UpdateStickerRequest();
+        rename.setStickerName("Patched Sticker");
+
+        String newEtag =
+                given().contentType(ContentType.JSON)
+                        .header("If-Match", etag)
+                        .body(rename)
+                        .when()
+                        .patch("/api/stickers/v1/{stickerId}", stickerId)
+                        .then()
+                        .statusCode(200)
+                        .body("stickerName", is("Patched Sticker"))
+                        .body("stickerDescription", is("Before"))
+                        .body("stickerQuantityRemaining", is(10))
+                        .extract()
+                        .header("ETag");
+
+        // A second writer still holding the old ETag loses
+        UpdateStickerRequest describe = new UpdateStickerRequest();
+        describe.setStickerDescription("After");
+
+        given().contentType(ContentType.JSON)
+                .header("If-Match", etag)
+                .body(describe)
+                .when()
+                .patch("/api/stickers/v1/{stickerId}", stickerId)
+                .then()
+                .statusCode(412)
+                .contentType("application/problem+json")
+                .body("title", is("Precondition Failed"));
+
+        given().contentType(ContentType.JSON)
+                .header("If-Match", newEtag)
+                .body(describe)
+                .when()
+                .patch("/api/stickers/v1/{stickerId}", stickerId)
+                .then()
+                .statusCode(200)
+                .body("stickerName", is("Patched Sticker"))
+                .body("stickerDescription", is("After"));
+    }
+
+    @Test
+    @TestSecurity(user = "testuser", roles = "user")
+    void testPatchNonExistingStickerReturns404() {
+        UpdateStickerRequest rename = new UpdateStickerRequest();
+        rename.setStickerName("Nobody");
+
+        given().contentType(ContentType.JSON)
+                .body(rename)
+                .when()
+                .patch("/api/stickers/v1/{stickerId}", NON_EXISTING_STICKER_ID)
+                .then()
+                .statusCode(404)
+                .contentType("application/problem+json");
+    }
+
+    @Test
+    @TestSecurity(user = "testuser", roles = "user")
+    void testEmptyPatchReturns400() {
+        given().contentType(ContentType.JSON)
+                .body(new UpdateStickerRequest())
+                .when()
+                .patch("/api/stickers/v1/{stickerId}", EXISTING_STICKER_ID)
+                .then()
+                .statusCode(400)
+                .contentType("application/problem+json");
+    }
+
+    @Test
+    @TestSecurity(user = "testuser", roles = "user")
+    void testChangeFeedReportsLatestStateThenTombstone() {
+        String since = latestChangeToken();
+
+        CreateStickerRequest request = new CreateStickerRequest();
+        request.setStickerName("Mirrored Sticker");
+        request.setStickerQuantityRemaining(10);
+        String stickerId =
+                given().contentType(ContentType.JSON)
+                        .body(request)
+                        .when()
+                        .post("/api/stickers/v1")
+                        .then()
+                        .statusCode(201)
+                        .extract()
+                        .path("stickerId");
+        given().when().post("/api/stickers/v1/{stickerId}/claim", stickerId).then().statusCode(200);
+
+        String upserts = "changes.findAll { it.stickerId == '" + stickerId + "' }";
+        given().queryParam("since", since)
+                .when()
+                .get("/api/stickers/v1/changes")
+                .then()
+                .statusCode(200)
+                .body(upserts + ".size()", is(1))
+                .body(upserts + "[0].changeType", is("upsert"))
+                .body(upserts + "[0].sticker.stickerQuantityRemaining", is(9));
+
+        given().when().delete("/api/stickers/v1/{stickerId}", stickerId).then().statusCode(204);
+
+        given().queryParam("since", since)
+                .when()
+                .get("/api/stickers/v1/changes")
+                .then()
+                .statusCode(200)
+                .body(upserts + ".size()", is(1))
+                .body(upserts + "[0].changeType", is("delete"))
+                .body(upserts + "[0].sticker", is(nullValue()));
+    }
+
+    @Test
+    @TestSecurity(user = "testuser", roles = "user")
+    void testChangeFeedWaitsForATransactionThatCommitsLate() throws Exception {
+        String since = latestChangeToken();
+
+        // A claim takes its change number, then its transaction stays open while a later write
+        // commits, for longer than any fixed holdback would wait
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        String lateToken;
+        try {
+            Future<?> claim =
+                    executor.submit(
+                            () ->
+                                    QuarkusTransaction.requiringNew()
+                                            .run(
+                                                    () -> {
+                                                        stickerRepository.claimStock(
+                                                                LAST_ONE_STICKER_ID);
+                                                        held.countDown();
+                                                        awaitQuietly(commit);
+                                                    }));
+            assertTrue(held.await(10, TimeUnit.SECONDS));
+
+            CreateStickerRequest request = new CreateStickerRequest();
+            request.setStickerName("Committed First");
+            String stickerId =
+                    given().contentType(ContentType.JSON)
+                            .body(request)
+                            .when()
+                            .post("/api/stickers/v1")
+                            .then()
+                            .statusCode(201)
+                            .extract()
+                            .path("stickerId");
+            Thread.sleep(2_500);
+
+            List<String> watched = List.of(LAST_ONE_STICKER_ID, stickerId);
+            JsonPath page = changesSince(since);
+            assertEquals(List.of(), changedStickers(page, watched));
+            lateToken = page.getString("nextToken");
+
+            commit.countDown();
+            claim.get(10, TimeUnit.SECONDS);
+
+            // The claim's transaction wrote first, so it comes first once it has committed
+            assertEquals(watched, changedStickers(changesSince(lateToken), watched));
+        } finally {
+            commit.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testChangeFeedRejectsMalformedToken() {
+        given().queryParam("since", "not-a-token")
+                .when()
+                .get("/api/stickers/v1/changes")
+                .then()
+                .statusCode(400)
+                .contentType("application/problem+json");
+    }
+
+    private static JsonPath changesSince(String token) {
+        return given().queryParam("since", token)
+                .when()
+                .get("/api/stickers/v1/changes")
+                .then()
+                .statusCode(200)
+                .extract()
+                .jsonPath();
+    }
+
+    private static List<String> changedStickers(JsonPath page, List<String> stickerIds) {
+        return page.<String>getList("changes.stickerId").stream()
+                .filter(stickerIds::contains)
+                .toList();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String latestChangeToken() {
+        String token = null;
+        boolean hasMore = true;
+        while (hasMore) {
+            JsonPath page =
+                    given().queryParam("limit", 1000)
+                            .queryParam("since", token == null ? "" : token)
+                            .when()
+                            .get("/api/stickers/v1/changes")
+                            .then()
+                            .statusCode(200)
+                            .extract()
+                            .jsonPath();
+            token = page.getString("nextToken");
+            hasMore = page.getBoolean("hasMore");
+        }
+        return token;
+    }
+
+    private void holdShards(String stickerId, CountDownLatch held, CountDownLatch commit) {
+        em.createNativeQuery(
+                        "UPDATE sticker_stock_shards SET quantity_remaining = 0"
+                                + " WHERE sticker_id = ?1 AND shard_id = 0")
+                .setParameter(1, stickerId)
+                .executeUpdate();
+        em.createNativeQuery(
+                        "SELECT quantity_remaining FROM sticker_stock_shards"
+                                + " WHERE sticker_id = ?1 AND shard_id = 1 FOR UPDATE")
+                .setParameter(1, stickerId)
+                .getResultList();
+        held.countDown();
+        try {
+            commit.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void holdRefreshLock(CountDownLatch held, CountDownLatch release) {
+        em.createNativeQuery("SELECT pg_advisory_xact_lock(?1)")
+                .setParameter(1, StickerStockShardRepository.REFRESH_LOCK_KEY)
+                .getSingleResult();
+        held.countDown();
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static int cachedQuantity(String stickerId) {
+        Sticker sticker = QuarkusTransaction.requiringNew().call(() -> Sticker.findById(stickerId));
+        return sticker.getStickerQuantityRemaining();
+    }
+
+    /** Waits until some backend is blocked on a row lock. */
+    private void awaitLockWaiter() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            Number waiting =
+                    QuarkusTransaction.requiringNew()
+                            .call(
+                                    () ->
+                                            (Number)
+                                                    em.createNativeQuery(
+                                                                    "SELECT count(*) FROM pg_stat_activity"
+                                                                            + " WHERE wait_event_type = 'Lock'")
+                                                            .getSingleResult());
+            if (waiting.intValue() > 0) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("No claim queued behind the held shards");
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.datadoghq.stickerlandia.common.dto.dto.ProblemDetails;
+import com.datadoghq.stickerlandia.stickercatalogue.dto.UpdateStickerRequest;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.transaction.RollbackException;
+import jakarta.ws.rs.core.Response;
+import org.hibernate.StaleObjectStateException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for how {@link StickerResource} reports a PUT that loses a concurrent update. */
+class StickerResourceUpdateConflictTest {
+
+    private static final String STICKER_ID = "sticker-001";
+
+    private StickerRepository stickerRepository;
+    private StickerResource resource;
+
+    @BeforeEach
+    void setUp() {
+        stickerRepository = mock(StickerRepository.class);
+        resource = new StickerResource();
+        resource.stickerRepository = stickerRepository;
+    }
+
+    @Test
+    void shouldReturnConflictWhenTheSaveLosesTheRace() {
+        when(stickerRepository.updateStickerMetadata(eq(STICKER_ID), any()))
+                .thenThrow(new OptimisticLockException("Row was updated by another transaction"));
+
+        assertConflict(resource.updateStickerMetadata(STICKER_ID, renameRequest()));
+    }
+
+    @Test
+    void shouldReturnConflictWhenTheCommitRollsBack() {
+        RollbackException rollback = new RollbackException("Transaction rolled back");
+        rollback.initCause(new StaleObjectStateException("Sticker", STICKER_ID));
+        when(stickerRepository.updateStickerMetadata(eq(STICKER_ID), any()))
+                .thenThrow(new RuntimeException(rollback));
+
+        assertConflict(resource.updateStickerMetadata(STICKER_ID, renameRequest()));
+    }
+
+    @Test
+    void shouldRethrowOtherFailures() {
+        RuntimeException failure = new RuntimeException("Connection refused");
+        when(stickerRepository.updateStickerMetadata(eq(STICKER_ID), any())).thenThrow(failure);
+
+        assertSame(
+                failure,
+                assertThrows(
+                        RuntimeException.class,
+                        () -> resource.updateStickerMetadata(STICKER_ID, renameRequest())));
+    }
+
+    private static UpdateStickerRequest renameRequest() {
+        UpdateStickerRequest request = new UpdateStickerRequest();
+        request.setStickerName("Renamed");
+        return request;
+    }
+
+    private static void assertConflict(Response response) {
+        assertEquals(409, response.getStatus());
+        ProblemDetails problemDetails = (ProblemDetails) response.getEntity();
+        assertEquals(409, problemDetails.getStatus());
+        assertEquals(
+                "Sticker with ID " + STICKER_ID + " has been modified concurrently",
+                problemDetails.getDetail());
+    }
+}
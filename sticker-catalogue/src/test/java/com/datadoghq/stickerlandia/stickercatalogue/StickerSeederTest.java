@@ -0,0 +1,209 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.datadoghq.stickerlandia.stickercatalogue.entity.SeedVersion;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link StickerSeeder} against the seeded test database and object storage. */
+@QuarkusTest
+class StickerSeederTest {
+
+    @Inject StickerSeeder seeder;
+
+    @Inject EntityManager entityManager;
+
+    @ConfigProperty(name = "sticker.seed.lease")
+    Duration seedLease;
+
+    @BeforeEach
+    void awaitStartupSeeding() throws Exception {
+        seeder.imagesSeeded().get(2, TimeUnit.MINUTES);
+    }
+
+    @AfterEach
+    void restoreSeed() throws Exception {
+        seeder.uploadImages(seedAgain().uploads()).get(1, TimeUnit.MINUTES);
+        setMarker(StickerSeeder.SEED_VERSION, Instant.now(), Instant.now());
+    }
+
+    @Test
+    void skipsWhenAnotherReplicaHoldsTheLock() throws Exception {
+        setMarker(0, Instant.now(), Instant.now());
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> holder =
+                    executor.submit(
+                            () ->
+                                    QuarkusTransaction.requiringNew()
+                                            .run(() -> holdSeedLock(held, release)));
+            assertTrue(held.await(10, TimeUnit.SECONDS));
+
+            assertEquals(List.of(), claimAndSeed());
+            assertEquals(0, marker().getVersion());
+
+            release.countDown();
+            holder.get(10, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void skipsWhenTheSeedIsComplete() {
+        setMarker(
+                StickerSeeder.SEED_VERSION, Instant.now().minus(Duration.ofDays(1)), Instant.now());
+        clearImageKey("sticker-024");
+
+        assertEquals(List.of(), claimAndSeed());
+    }
+
+    @Test
+    void skipsASeedStillWithinItsLease() {
+        setMarker(StickerSeeder.SEED_VERSION, Instant.now(), null);
+        clearImageKey("sticker-024");
+
+        assertEquals(List.of(), claimAndSeed());
+    }
+
+    @Test
+    void takesOverASeedWhoseLeaseHasExpired() {
+        Instant abandoned = Instant.now().minus(seedLease).minus(Duration.ofMinutes(1));
+        setMarker(StickerSeeder.SEED_VERSION, abandoned, null);
+        clearImageKey("sticker-024");
+        Instant takenOver = Instant.now();
+
+        assertEquals(List.of("sticker-024"), ids(claimAndSeed()));
+        SeedVersion marker = marker();
+        assertFalse(marker.getStartedAt().isBefore(takenOver));
+        assertNull(marker.getCompletedAt());
+    }
+
+    @Test
+    void leavesTheSeedIncompleteWhenAnUploadFails() throws Exception {
+        setMarker(StickerSeeder.SEED_VERSION, Instant.now(), null);
+        StickerSeeder.SampleSticker broken =
+                new StickerSeeder.SampleSticker(
+                        "sticker-024", "Hackerdog", "", -1, "/stickers/missing.png", "Missing");
+
+        seeder.uploadImages(List.of(broken)).get(1, TimeUnit.MINUTES);
+
+        assertNull(marker().getCompletedAt());
+    }
+
+    @Test
+    void seedingAgainCreatesAndUploadsNothing() {
+        StickerSeeder.Seeded seeded = seedAgain();
+
+        assertEquals(Set.of(), seeded.created());
+        assertEquals(List.of(), seeded.uploads());
+    }
+
+    @Test
+    void seedingOnlyFillsInWhatIsMissing() throws Exception {
+        QuarkusTransaction.requiringNew()
+                .run(
+                        () -> {
+                            entityManager
+                                    .createNativeQuery(
+                                            "DELETE FROM stickers WHERE sticker_id = 'sticker-026'")
+                                    .executeUpdate();
+                            entityManager
+                                    .createNativeQuery(
+                                            "UPDATE stickers SET image_key = NULL"
+                                                    + " WHERE sticker_id = 'sticker-025'")
+                                    .executeUpdate();
+                        });
+
+        StickerSeeder.Seeded seeded = seedAgain();
+
+        assertEquals(Set.of("sticker-026"), seeded.created());
+        assertEquals(List.of("sticker-025", "sticker-026"), ids(seeded.uploads()));
+
+        seeder.uploadImages(seeded.uploads()).get(1, TimeUnit.MINUTES);
+        assertEquals(List.of(), seedAgain().uploads());
+    }
+
+    private List<StickerSeeder.SampleSticker> claimAndSeed() {
+        return QuarkusTransaction.requiringNew()
+                .call(() -> seeder.claimAndSeed(StickerSeeder.getSampleStickers()));
+    }
+
+    private void holdSeedLock(CountDownLatch held, CountDownLatch release) {
+        entityManager
+                .createNativeQuery("SELECT pg_advisory_xact_lock(?1)")
+                .setParameter(1, StickerSeeder.SEED_LOCK_KEY)
+                .getSingleResult();
+        held.countDown();
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void clearImageKey(String stickerId) {
+        QuarkusTransaction.requiringNew()
+                .run(
+                        () ->
+                                entityManager
+                                        .createNativeQuery(
+                                                "UPDATE stickers SET image_key = NULL"
+                                                        + " WHERE sticker_id = ?1")
+                                        .setParameter(1, stickerId)
+                                        .executeUpdate());
+    }
+
+    private static void setMarker(int version, Instant startedAt, Instant completedAt) {
+        QuarkusTransaction.requiringNew()
+                .run(
+                        () -> {
+                            SeedVersion marker = SeedVersion.findById(StickerSeeder.SEED_NAME);
+                            marker.setVersion(version);
+                            marker.setStartedAt(startedAt);
+                            marker.setCompletedAt(completedAt);
+                        });
+    }
+
+    private static SeedVersion marker() {
+        return QuarkusTransaction.requiringNew()
+                .call(() -> SeedVersion.findById(StickerSeeder.SEED_NAME));
+    }
+
+    private StickerSeeder.Seeded seedAgain() {
+        return QuarkusTransaction.requiringNew()
+                .call(() -> seeder.seedStickers(StickerSeeder.getSampleStickers()));
+    }
+
+    private static List<String> ids(List<StickerSeeder.SampleSticker> samples) {
+        return samples.stream().map(StickerSeeder.SampleSticker::id).toList();
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.common.health;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.datadoghq.stickerlandia.common.health.DependencyCheck;
+import com.datadoghq.stickerlandia.common.health.DependencyProber;
+import jakarta.enterprise.inject.Instance;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class DependencyProberTest {
+
+    private DependencyProber prober;
+
+    @Test
+    void shouldReportEachDependencyWithItsLatency() {
+        prober =
+                proberFor(
+                        check("database", () -> {}),
+                        check(
+                                "image-storage",
+                                () -> {
+                                    throw new IllegalStateException("Bucket not found");
+                                }));
+
+        DependencyProber.Snapshot snapshot = prober.probe();
+
+        assertFalse(snapshot.allUp());
+        assertTrue(snapshot.results().get("database").up());
+        assertNull(snapshot.results().get("database").error());
+        DependencyProber.Result storage = snapshot.results().get("image-storage");
+        assertFalse(storage.up());
+        assertTrue(storage.error().contains("Bucket not found"), storage.error());
+        assertTrue(storage.latencyMillis() >= 0);
+    }
+
+    @Test
+    void shouldCountASlowCheckAsDownWithoutWaitingForIt() {
+        prober =
+                proberFor(
+                        check("database", () -> {}),
+                        check("event-publisher", () -> Thread.sleep(5_000)));
+
+        long start = System.nanoTime();
+        DependencyProber.Snapshot snapshot = prober.probe();
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 2_000);
+        assertTrue(snapshot.results().get("database").up());
+        assertFalse(snapshot.results().get("event-publisher").up());
+        assertEquals(100, snapshot.results().get("event-publisher").latencyMillis());
+    }
+
+    @Test
+    void shouldServeTheLatestProbeUntilTheNextOne() {
+        AtomicBoolean up = new AtomicBoolean(true);
+        prober =
+                proberFor(
+                        check(
+                                "database",
+                                () -> {
+                                    if (!up.get()) {
+                                        throw new IllegalStateException("Connection refused");
+                                    }
+                                }));
+        assertNull(prober.latest());
+        assertTrue(prober.isProbing());
+
+        DependencyProber.Snapshot first = prober.probe();
+        up.set(false);
+
+        assertSame(first, prober.latest());
+        assertTrue(prober.latest().allUp());
+        assertFalse(prober.probe().allUp());
+    }
+
+    private static DependencyProber proberFor(DependencyCheck... checks) {
+        @SuppressWarnings("unchecked")
+        Instance<DependencyCheck> instance = mock(Instance.class);
+        when(instance.stream()).thenAnswer(invocation -> List.of(checks).stream());
+        return new DependencyProber(instance, Duration.ofSeconds(10), Duration.ofMillis(100));
+    }
+
+    private static DependencyCheck check(String name, ThrowingRunnable body) {
+        return new DependencyCheck() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public void check() throws Exception {
+                body.run();
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.common.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.datadoghq.stickerlandia.common.messaging.AvroCloudEventSerializer;
+import com.datadoghq.stickerlandia.common.messaging.CloudEventDeserializer;
+import com.datadoghq.stickerlandia.common.messaging.CloudEventHeaders;
+import com.datadoghq.stickerlandia.common.messaging.CloudEventSerializer;
+import com.datadoghq.stickerlandia.common.messaging.StickerEventAvro;
+import com.datadoghq.stickerlandia.stickercatalogue.event.CloudEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.event.StickerAddedEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.event.StickerDeletedEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.event.StickerUpdatedEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.messaging.StickerCloudEvents;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.avro.message.MissingSchemaException;
+import org.apache.avro.message.SchemaStore;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+
+class AvroCloudEventSerializerTest {
+
+    private static final String TOPIC = "stickers.stickerAdded.v1";
+
+    @Test
+    void avroRecordsRoundTripThroughTheSchemaStore() {
+        SchemaStore.Cache registry = new SchemaStore.Cache();
+        AvroCloudEventSerializer serializer = new AvroCloudEventSerializer();
+        serializer.configure(Map.of(AvroCloudEventSerializer.SCHEMA_STORE_CONFIG, registry), false);
+        CloudEventDeserializer deserializer = new CloudEventDeserializer();
+        deserializer.configure(
+                Map.of(AvroCloudEventSerializer.SCHEMA_STORE_CONFIG, registry), false);
+
+        CloudEvent<StickerAddedEvent> event =
+                StickerCloudEvents.stickerAdded("sticker-001", "Ruby", "A red gem");
+        Headers headers = new RecordHeaders();
+        byte[] value = serializer.serialize(TOPIC, headers, event);
+
+        assertEquals(
+                AvroCloudEventSerializer.CONTENT_TYPE,
+                CloudEventHeaders.get(headers, CloudEventHeaders.CONTENT_TYPE));
+        CloudEvent<?> read = deserializer.deserialize(TOPIC, headers, value);
+        assertEquals(event.getId(), read.getId());
+        assertEquals(event.getType(), read.getType());
+        assertEquals(event.getTime(), read.getTime());
+        StickerAddedEvent data = assertInstanceOf(StickerAddedEvent.class, read.getData());
+        assertEquals("sticker-001", data.getStickerId());
+        assertEquals("Ruby", data.getName());
+        assertEquals("A red gem", data.getDescription());
+        assertEquals(
+                Instant.parse(event.getData().getAddedAt()).truncatedTo(ChronoUnit.MICROS),
+                Instant.parse(data.getAddedAt()));
+    }
+
+    @Test
+    void serializingWithoutHeadersFallsBackToStructuredJson() throws Exception {
+        AvroCloudEventSerializer serializer = new AvroCloudEventSerializer();
+        CloudEvent<StickerAddedEvent> event =
+                StickerCloudEvents.stickerAdded("sticker-001", "Ruby", "A red gem");
+
+        byte[] value = serializer.serialize(TOPIC, event);
+
+        JsonNode json = new ObjectMapper().readTree(value);
+        assertEquals(event.getId(), json.path("id").asText());
+        assertEquals(event.getType(), json.path("type").asText());
+        CloudEvent<?> read = new CloudEventDeserializer().deserialize(TOPIC, value);
+        assertEquals(event.getId(), read.getId());
+        StickerAddedEvent data = assertInstanceOf(StickerAddedEvent.class, read.getData());
+        assertEquals("Ruby", data.getName());
+        assertNull(serializer.serialize(TOPIC, null));
+    }
+
+    @Test
+    void newerWriterSchemasAreResolvedThroughTheSchemaStore() throws Exception {
+        // A producer that has already added a field the consumer does not know about yet
+        Schema current = StickerEventAvro.schema(StickerDeletedEvent.EVENT_TYPE);
+        List<Schema.Field> fields = new ArrayList<>();
+        current.getFields().forEach(f -> fields.add(new Schema.Field(f, f.schema())));
+        fields.add(new Schema.Field("deletedBy", Schema.create(Schema.Type.STRING)));
+        Schema newer =
+                Schema.createRecord(current.getName(), null, current.getNamespace(), false, fields);
+
+        GenericData.Record record = new GenericData.Record(newer);
+        record.put("stickerId", "sticker-001");
+        record.put("name", "Ruby");
+        record.put("deletedAt", 1_700_000_000_000_000L);
+        record.put("deletedBy", "admin");
+        byte[] value =
+                new BinaryMessageEncoder<GenericRecord>(GenericData.get(), newer)
+                        .encode(record)
+                        .array();
+        Headers headers = new RecordHeaders();
+        CloudEventHeaders.write(
+                headers,
+                StickerCloudEvents.stickerDeleted("sticker-001", "Ruby"),
+                AvroCloudEventSerializer.CONTENT_TYPE);
+
+        SchemaStore.Cache registry = new SchemaStore.Cache();
+        CloudEventDeserializer deserializer = new CloudEventDeserializer();
+        deserializer.configure(
+                Map.of(AvroCloudEventSerializer.SCHEMA_STORE_CONFIG, registry), false);
+        assertThrows(
+                MissingSchemaException.class,
+                () -> deserializer.deserialize(TOPIC, headers, value));
+
+        registry.addSchema(newer);
+        StickerDeletedEvent data =
+                assertInstanceOf(
+                        StickerDeletedEvent.class,
+                        deserializer.deserialize(TOPIC, headers, value).getData());
+        assertEquals("Ruby", data.getName());
+    }
+
+    @Test
+    void deserializerNegotiatesJsonEncodings() {
+        CloudEventDeserializer deserializer = new CloudEventDeserializer();
+        CloudEvent<StickerUpdatedEvent> event =
+                StickerCloudEvents.stickerUpdated("sticker-001", "Ruby", "Now shinier");
+
+        CloudEventSerializer structured = new CloudEventSerializer();
+        structured.configure(Map.of(), false);
+        Headers structuredHeaders = new RecordHeaders();
+        CloudEvent<?> fromStructured =
+                deserializer.deserialize(
+                        TOPIC,
+                        structuredHeaders,
+                        structured.serialize(TOPIC, structuredHeaders, event));
+
+        CloudEventSerializer binary = new CloudEventSerializer();
+        binary.configure(Map.of(CloudEventSerializer.CONTENT_MODE_CONFIG, "binary"), false);
+        Headers binaryHeaders = new RecordHeaders();
+        CloudEvent<?> fromBinary =
+                deserializer.deserialize(
+                        TOPIC, binaryHeaders, binary.serialize(TOPIC, binaryHeaders, event));
+
+        for (CloudEvent<?> read : new CloudEvent<?>[] {fromStructured, fromBinary}) {
+            assertEquals(event.getId(), read.getId());
+            StickerUpdatedEvent data = assertInstanceOf(StickerUpdatedEvent.class, read.getData());
+            assertEquals("Now shinier", data.getDescription());
+        }
+    }
+
+    @Test
+    void avroValueIsSmallerThanJson() {
+        CloudEventSerializer json = new CloudEventSerializer();
+        json.configure(Map.of(CloudEventSerializer.CONTENT_MODE_CONFIG, "binary"), false);
+        AvroCloudEventSerializer avro = new AvroCloudEventSerializer();
+
+        CloudEvent<StickerAddedEvent> event =
+                StickerCloudEvents.stickerAdded("sticker-001", "Ruby", "A red gem");
+        int jsonSize = json.serialize(TOPIC, new RecordHeaders(), event).length;
+        int avroSize = avro.serialize(TOPIC, new RecordHeaders(), event).length;
+
+        assertTrue(avroSize * 2 < jsonSize, avroSize + " bytes vs " + jsonSize + " as JSON");
+    }
+
+    @Test
+    void schemasCoverTheAsyncApiEventData() throws Exception {
+        JsonNode schemas =
+                new ObjectMapper()
+                        .readTree(new File("docs/async_api.json"))
+                        .path("components")
+                        .path("schemas");
+
+        assertCovers(schemas, "stickerAddedEventData", StickerAddedEvent.EVENT_TYPE);
+        assertCovers(schemas, "stickerUpdatedEventData", StickerUpdatedEvent.EVENT_TYPE);
+        assertCovers(schemas, "stickerDeletedEventData", StickerDeletedEvent.EVENT_TYPE);
+    }
+
+    private static void assertCovers(JsonNode schemas, String dataSchema, String eventType) {
+        JsonNode properties = schemas.path(dataSchema).path("allOf").get(1).path("properties");
+        assertNotNull(properties, dataSchema);
+
+        Set<String> expected = new HashSet<>();
+        properties
+                .properties()
+                .forEach(
+                        property -> {
+                            // Constants are implied by the Avro schema itself
+                            if (!property.getValue().has("const")) {
+                                expected.add(property.getKey());
+                            }
+                        });
+        Set<String> actual = new HashSet<>();
+        for (Schema.Field field : StickerEventAvro.schema(eventType).getFields()) {
+            actual.add(field.name());
+        }
+        assertEquals(expected, actual, dataSchema);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.common.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.datadoghq.stickerlandia.common.messaging.CloudEventSerializer;
+import com.datadoghq.stickerlandia.stickercatalogue.event.CloudEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.event.StickerDeletedEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+
+class CloudEventSerializerTest {
+
+    private static final String TOPIC = "stickers.stickerDeleted.v1";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void structuredModeWritesTheWholeEnvelope() throws Exception {
+        CloudEventSerializer serializer = new CloudEventSerializer();
+        serializer.configure(Map.of(), false);
+        Headers headers = new RecordHeaders();
+
+        JsonNode value = objectMapper.readTree(serializer.serialize(TOPIC, headers, event()));
+
+        assertEquals(StickerDeletedEvent.EVENT_TYPE, value.get("type").asText());
+        assertEquals("sticker-001", value.get("data").get("stickerId").asText());
+        assertFalse(headers.iterator().hasNext());
+    }
+
+    @Test
+    void binaryModeMovesAttributesIntoHeaders() throws Exception {
+        CloudEventSerializer serializer = new CloudEventSerializer();
+        serializer.configure(Map.of(CloudEventSerializer.CONTENT_MODE_CONFIG, "binary"), false);
+        CloudEvent<StickerDeletedEvent> event = event();
+        event.setTraceParent("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+        Headers headers = new RecordHeaders();
+
+        JsonNode value = objectMapper.readTree(serializer.serialize(TOPIC, headers, event));
+
+        assertEquals("sticker-001", value.get("stickerId").asText());
+        assertNull(value.get("type"));
+        assertEquals("1.0", header(headers, "ce_specversion"));
+        assertEquals(event.getId(), header(headers, "ce_id"));
+        assertEquals("sticker-catalogue", header(headers, "ce_source"));
+        assertEquals(StickerDeletedEvent.EVENT_TYPE, header(headers, "ce_type"));
+        assertEquals(event.getTime(), header(headers, "ce_time"));
+        assertEquals(event.getTraceParent(), header(headers, "traceparent"));
+        assertEquals("application/json", header(headers, "content-type"));
+    }
+
+    @Test
+    void binaryModeIsSmallerThanStructuredMode() {
+        CloudEventSerializer structured = new CloudEventSerializer();
+        structured.configure(Map.of(), false);
+        CloudEventSerializer binary = new CloudEventSerializer();
+        binary.configure(Map.of(CloudEventSerializer.CONTENT_MODE_CONFIG, "binary"), false);
+
+        CloudEvent<StickerDeletedEvent> event = event();
+        int structuredSize = structured.serialize(TOPIC, new RecordHeaders(), event).length;
+        int binarySize = binary.serialize(TOPIC, new RecordHeaders(), event).length;
+
+        assertTrue(binarySize < structuredSize);
+    }
+
+    private static CloudEvent<StickerDeletedEvent> event() {
+        return new CloudEvent<>(
+                StickerDeletedEvent.EVENT_TYPE,
+                "sticker-catalogue",
+                new StickerDeletedEvent("sticker-001", "Test Sticker"));
+    }
+
+    private static String header(Headers headers, String name) {
+        Header header = headers.lastHeader(name);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.datadoghq.stickerlandia.stickercatalogue.event.CloudEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.event.StickerAddedEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.event.StickerDeletedEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.event.StickerUpdatedEvent;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class CoalescingStickerEventPublisherTest {
+
+    private final RecordingPublisher broker = new RecordingPublisher();
+    private CoalescingStickerEventPublisher publisher;
+
+    @AfterEach
+    void close() {
+        if (publisher != null) {
+            publisher.close();
+        }
+    }
+
+    @Test
+    void rapidUpdatesAreSentOnceWithTheLatestState() throws Exception {
+        publisher = new CoalescingStickerEventPublisher(broker, Duration.ofMillis(50));
+
+        CompletionStage<Void> first = publisher.publishStickerUpdated("sticker-1", "v1", null);
+        CompletionStage<Void> second = publisher.publishStickerUpdated("sticker-1", "v2", null);
+        CompletionStage<Void> third = publisher.publishStickerUpdated("sticker-1", "v3", null);
+
+        third.toCompletableFuture().get(5, TimeUnit.SECONDS);
+        assertTrue(first.toCompletableFuture().isDone());
+        assertTrue(second.toCompletableFuture().isDone());
+        assertEquals(1, broker.sent.size());
+        assertEquals("v3", ((StickerUpdatedEvent) broker.sent.get(0).getData()).getName());
+    }
+
+    @Test
+    void updatesToDifferentStickersAreNotCoalesced() throws Exception {
+        publisher = new CoalescingStickerEventPublisher(broker, Duration.ofMillis(20));
+
+        CompletionStage<Void> one = publisher.publishStickerUpdated("sticker-1", "a", null);
+        CompletionStage<Void> two = publisher.publishStickerUpdated("sticker-2", "b", null);
+
+        CompletableFuture.allOf(one.toCompletableFuture(), two.toCompletableFuture())
+                .get(5, TimeUnit.SECONDS);
+        assertEquals(2, broker.sent.size());
+    }
+
+    @Test
+    void pendingUpdateIsSentBeforeADelete() throws Exception {
+        publisher = new CoalescingStickerEventPublisher(broker, Duration.ofHours(1));
+
+        CompletionStage<Void> update = publisher.publishStickerUpdated("sticker-1", "v2", null);
+        publisher.publishStickerDeleted("sticker-1", "v2").toCompletableFuture().get();
+
+        assertTrue(update.toCompletableFuture().isDone());
+        assertEquals(
+                List.of(StickerUpdatedEvent.EVENT_TYPE, StickerDeletedEvent.EVENT_TYPE),
+                broker.sent.stream().map(CloudEvent::getType).toList());
+    }
+
+    @Test
+    void addedEventsAreNotHeld() throws Exception {
+        publisher = new CoalescingStickerEventPublisher(broker, Duration.ofHours(1));
+
+        publisher.publishStickerAdded("sticker-1", "New", null).toCompletableFuture().get();
+
+        assertEquals(1, broker.sent.size());
+    }
+
+    @Test
+    void updatesAreHeldWhileTheDelegateIsSending() throws Exception {
+        publisher = new CoalescingStickerEventPublisher(broker, Duration.ofHours(1));
+        broker.onSend =
+                cloudEvent -> {
+                    // Holding an update for the same sticker must not wait for this send
+                    CompletableFuture.runAsync(
+                                    () -> publisher.publishStickerUpdated("sticker-1", "v2", null))
+                            .get(1, TimeUnit.SECONDS);
+                };
+
+        publisher
+                .publishStickerDeleted("sticker-1", "v1")
+                .toCompletableFuture()
+                .get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void sendsForAStickerWaitForTheDelegateToTakeTheOneBefore() throws Exception {
+        publisher = new CoalescingStickerEventPublisher(broker, Duration.ofHours(1));
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        broker.onSend =
+                cloudEvent -> {
+                    if (StickerAddedEvent.EVENT_TYPE.equals(cloudEvent.getType())) {
+                        sending.countDown();
+                        release.await(5, TimeUnit.SECONDS);
+                    }
+                };
+
+        CompletableFuture<Void> added =
+                CompletableFuture.runAsync(
+                        () -> publisher.publishStickerAdded("sticker-1", "New", null));
+        assertTrue(sending.await(5, TimeUnit.SECONDS));
+        CompletionStage<Void> deleted = publisher.publishStickerDeleted("sticker-1", "New");
+
+        assertEquals(1, broker.sent.size());
+        release.countDown();
+        added.get(5, TimeUnit.SECONDS);
+        deleted.toCompletableFuture().get(5, TimeUnit.SECONDS);
+        assertEquals(
+                List.of(StickerAddedEvent.EVENT_TYPE, StickerDeletedEvent.EVENT_TYPE),
+                broker.sent.stream().map(CloudEvent::getType).toList());
+    }
+
+    @Test
+    void failedSendFailsEveryCoalescedCaller() {
+        broker.failWith = new IllegalStateException("broker down");
+        publisher = new CoalescingStickerEventPublisher(broker, Duration.ofMillis(20));
+
+        CompletionStage<Void> first = publisher.publishStickerUpdated("sticker-1", "v1", null);
+        CompletionStage<Void> second = publisher.publishStickerUpdated("sticker-1", "v2", null);
+
+        for (CompletionStage<Void> stage : List.of(first, second)) {
+            assertThrows(
+                    ExecutionException.class,
+                    () -> stage.toCompletableFuture().get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    private static final class RecordingPublisher implements StickerEventPublisher {
+
+        final List<CloudEvent<?>> sent = new CopyOnWriteArrayList<>();
+        volatile RuntimeException failWith;
+        volatile SendHook onSend;
+
+        @Override
+        public CompletionStage<Void> publishStickerAdded(
+                String stickerId, String name, String description) {
+            return publishEvent(StickerCloudEvents.stickerAdded(stickerId, name, description));
+        }
+
+        @Override
+        public CompletionStage<Void> publishStickerUpdated(
+                String stickerId, String name, String description) {
+            return publishEvent(StickerCloudEvents.stickerUpdated(stickerId, name, description));
+        }
+
+        @Override
+        public CompletionStage<Void> publishStickerDeleted(String stickerId, String name) {
+            return publishEvent(StickerCloudEvents.stickerDeleted(stickerId, name));
+        }
+
+        @Override
+        public CompletionStage<Void> publishEvent(CloudEvent<?> cloudEvent) {
+            if (failWith != null) {
+                return CompletableFuture.failedFuture(failWith);
+            }
+            sent.add(cloudEvent);
+            if (onSend != null) {
+                try {
+                    onSend.sending(cloudEvent);
+                } catch (Exception e) {
+                    return CompletableFuture.failedFuture(e);
+                }
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /** Runs inside the broker's send, after the event has been recorded. */
+    private interface SendHook {
+        void sending(CloudEvent<?> cloudEvent) throws Exception;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.datadoghq.stickerlandia.stickercatalogue.event.CloudEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.event.StickerUpdatedEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.messaging.DispatchingStickerEventPublisher.WaitStrategy;
+import io.opentelemetry.api.OpenTelemetry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class DispatchingStickerEventPublisherTest {
+
+    private final RecordingPublisher broker = new RecordingPublisher();
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    void deliversEveryEventInPublishOrderPerThread(WaitStrategy waitStrategy) throws Exception {
+        int threads = 4;
+        int perThread = 500;
+        try (DispatchingStickerEventPublisher publisher = open(8, waitStrategy)) {
+            List<CompletableFuture<Void>> sends = new CopyOnWriteArrayList<>();
+            List<Thread> producers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                String stickerId = "sticker-" + t;
+                producers.add(
+                        Thread.ofPlatform()
+                                .start(
+                                        () -> {
+                                            for (int i = 0; i < perThread; i++) {
+                                                sends.add(
+                                                        publisher
+                                                                .publishStickerUpdated(
+                                                                        stickerId, "v" + i, null)
+                                                                .toCompletableFuture());
+                                            }
+                                        }));
+            }
+            for (Thread producer : producers) {
+                producer.join();
+            }
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                    .get(10, TimeUnit.SECONDS);
+        }
+
+        Map<String, List<String>> namesBySticker =
+                broker.sent.stream()
+                        .map(event -> (StickerUpdatedEvent) event.getData())
+                        .collect(
+                                Collectors.groupingBy(
+                                        StickerUpdatedEvent::getStickerId,
+                                        Collectors.mapping(
+                                                StickerUpdatedEvent::getName,
+                                                Collectors.toList())));
+        assertEquals(threads, namesBySticker.size());
+        for (List<String> names : namesBySticker.values()) {
+            assertEquals(perThread, names.size());
+            for (int i = 0; i < perThread; i++) {
+                assertEquals("v" + i, names.get(i));
+            }
+        }
+    }
+
+    @Test
+    void failedSendFailsTheCaller() {
+        broker.failWith = new IllegalStateException("broker down");
+        try (DispatchingStickerEventPublisher publisher = open(4, WaitStrategy.BLOCKING)) {
+            CompletionStage<Void> sent = publisher.publishStickerDeleted("sticker-1", "Gone");
+
+            assertThrows(
+                    ExecutionException.class,
+                    () -> sent.toCompletableFuture().get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void closeSendsWhatWasAlreadyPublished() {
+        DispatchingStickerEventPublisher publisher = open(64, WaitStrategy.SLEEPING);
+        for (int i = 0; i < 50; i++) {
+            publisher.publishStickerUpdated("sticker-1", "v" + i, null);
+        }
+        publisher.close();
+
+        assertEquals(50, broker.sent.size());
+        assertThrows(
+                IllegalStateException.class,
+                () -> publisher.publishStickerUpdated("sticker-1", "late", null));
+    }
+
+    @Test
+    void ringSizeMustBeAPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> open(100, WaitStrategy.BLOCKING));
+    }
+
+    private DispatchingStickerEventPublisher open(int ringSize, WaitStrategy waitStrategy) {
+        return new DispatchingStickerEventPublisher(
+                broker, ringSize, waitStrategy, 4, OpenTelemetry.noop().getMeter("test"));
+    }
+
+    private static final class RecordingPublisher implements StickerEventPublisher {
+
+        final List<CloudEvent<?>> sent = new CopyOnWriteArrayList<>();
+        volatile RuntimeException failWith;
+
+        @Override
+        public CompletionStage<Void> publishStickerAdded(
+                String stickerId, String name, String description) {
+            return publishEvent(StickerCloudEvents.stickerAdded(stickerId, name, description));
+        }
+
+        @Override
+        public CompletionStage<Void> publishStickerUpdated(
+                String stickerId, String name, String description) {
+            return publishEvent(StickerCloudEvents.stickerUpdated(stickerId, name, description));
+        }
+
+        @Override
+        public CompletionStage<Void> publishStickerDeleted(String stickerId, String name) {
+            return publishEvent(StickerCloudEvents.stickerDeleted(stickerId, name));
+        }
+
+        @Override
+        public CompletionStage<Void> publishEvent(CloudEvent<?> cloudEvent) {
+            if (failWith != null) {
+                return CompletableFuture.failedFuture(failWith);
+            }
+            sent.add(cloudEvent);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+}
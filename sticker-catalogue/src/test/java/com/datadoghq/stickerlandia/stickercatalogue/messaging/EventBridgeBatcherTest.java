@@ -0,0 +1,170 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequest;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsRequestEntry;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResponse;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResultEntry;
+
+class EventBridgeBatcherTest {
+
+    private final List<PutEventsRequest> requests = new CopyOnWriteArrayList<>();
+    private EventBridgeBatcher batcher;
+
+    @AfterEach
+    void closeBatcher() {
+        if (batcher != null) {
+            batcher.close();
+        }
+    }
+
+    @Test
+    void fullBatchesAreSentWithoutWaitingForLinger() throws Exception {
+        batcher =
+                new EventBridgeBatcher(
+                        this::acceptAll, Runnable::run, Runnable::run, Duration.ofHours(1), 10);
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(batcher.submit(entry("detail-" + i)));
+        }
+
+        assertEquals(2, requests.size());
+        assertEquals(10, requests.get(0).entries().size());
+        for (CompletableFuture<Void> future : futures) {
+            future.get(1, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void partialBatchIsSentAfterLinger() throws Exception {
+        batcher =
+                new EventBridgeBatcher(
+                        this::acceptAll, Runnable::run, Runnable::run, Duration.ofMillis(20), 10);
+
+        CompletableFuture<Void> first = batcher.submit(entry("a"));
+        CompletableFuture<Void> second = batcher.submit(entry("b"));
+
+        second.get(5, TimeUnit.SECONDS);
+        assertTrue(first.isDone());
+        assertEquals(1, requests.size());
+        assertEquals(2, requests.get(0).entries().size());
+    }
+
+    @Test
+    void perEntryFailuresOnlyFailTheirOwnCaller() throws Exception {
+        batcher =
+                new EventBridgeBatcher(
+                        request -> {
+                            requests.add(request);
+                            return PutEventsResponse.builder()
+                                    .failedEntryCount(1)
+                                    .entries(
+                                            PutEventsResultEntry.builder().eventId("1").build(),
+                                            PutEventsResultEntry.builder()
+                                                    .errorCode("ThrottlingException")
+                                                    .errorMessage("Slow down")
+                                                    .build())
+                                    .build();
+                        },
+                        Runnable::run,
+                        Runnable::run,
+                        Duration.ofHours(1),
+                        2);
+
+        CompletableFuture<Void> accepted = batcher.submit(entry("ok"));
+        CompletableFuture<Void> rejected = batcher.submit(entry("throttled"));
+
+        accepted.get(1, TimeUnit.SECONDS);
+        ExecutionException failure =
+                assertThrows(ExecutionException.class, () -> rejected.get(1, TimeUnit.SECONDS));
+        assertTrue(failure.getCause().getMessage().contains("ThrottlingException"));
+    }
+
+    @Test
+    void lingerFlushFailsRatherThanSendingOnTheTimer() {
+        Executor full =
+                task -> {
+                    throw new RejectedExecutionException("Queue full");
+                };
+        batcher =
+                new EventBridgeBatcher(
+                        this::acceptAll, Runnable::run, full, Duration.ofMillis(20), 10);
+
+        CompletableFuture<Void> future = batcher.submit(entry("a"));
+
+        ExecutionException failure =
+                assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, failure.getCause());
+        assertTrue(requests.isEmpty());
+    }
+
+    @Test
+    void batchIsSplitBeforeExceedingRequestSizeLimit() {
+        batcher =
+                new EventBridgeBatcher(
+                        this::acceptAll, Runnable::run, Runnable::run, Duration.ofHours(1), 10);
+        String large = "x".repeat(EventBridgeBatcher.MAX_REQUEST_BYTES / 2);
+
+        batcher.submit(entry(large));
+        batcher.submit(entry(large));
+
+        // The second entry would not fit alongside the first, so the first goes on its own
+        assertEquals(1, requests.size());
+        assertEquals(1, requests.get(0).entries().size());
+    }
+
+    @Test
+    void oversizedEntryIsRejectedImmediately() {
+        batcher =
+                new EventBridgeBatcher(
+                        this::acceptAll, Runnable::run, Runnable::run, Duration.ofHours(1), 10);
+
+        CompletableFuture<Void> future =
+                batcher.submit(entry("x".repeat(EventBridgeBatcher.MAX_REQUEST_BYTES + 1)));
+
+        assertTrue(future.isCompletedExceptionally());
+        assertFalse(requests.stream().anyMatch(r -> !r.entries().isEmpty()));
+    }
+
+    private PutEventsResponse acceptAll(PutEventsRequest request) {
+        requests.add(request);
+        return PutEventsResponse.builder()
+                .failedEntryCount(0)
+                .entries(
+                        request.entries().stream()
+                                .map(e -> PutEventsResultEntry.builder().eventId("id").build())
+                                .toList())
+                .build();
+    }
+
+    private static PutEventsRequestEntry entry(String detail) {
+        return PutEventsRequestEntry.builder()
+                .source("sticker-catalogue")
+                .detailType("stickers.stickerAdded")
+                .detail(detail)
+                .build();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.datadoghq.stickerlandia.stickercatalogue.messaging.EventBridgeSendExecutor.RejectionPolicy;
+import io.opentelemetry.api.OpenTelemetry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class EventBridgeSendExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private EventBridgeSendExecutor executor;
+
+    @AfterEach
+    void shutDown() {
+        release.countDown();
+        if (executor != null) {
+            executor.close();
+        }
+    }
+
+    @Test
+    void abortPolicyRejectsOnceTheQueueIsFull() throws Exception {
+        executor = newExecutor(RejectionPolicy.ABORT);
+        fillPool();
+
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {}));
+    }
+
+    @Test
+    void callerRunsPolicySendsOnTheSubmittingThread() throws Exception {
+        executor = newExecutor(RejectionPolicy.CALLER_RUNS);
+        fillPool();
+
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        executor.execute(() -> ranOn.set(Thread.currentThread()));
+
+        assertEquals(Thread.currentThread(), ranOn.get());
+    }
+
+    @Test
+    void offCallerSendsAreRejectedRatherThanRunOnTheSubmittingThread() throws Exception {
+        executor = newExecutor(RejectionPolicy.CALLER_RUNS);
+        fillPool();
+
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        assertThrows(
+                RejectedExecutionException.class,
+                () -> executor.offCaller().execute(() -> ranOn.set(Thread.currentThread())));
+        assertNull(ranOn.get());
+    }
+
+    @Test
+    void queuedSendsRunOnTheDedicatedThreads() throws Exception {
+        executor = newExecutor(RejectionPolicy.ABORT);
+        CountDownLatch ran = new CountDownLatch(1);
+        AtomicReference<String> threadName = new AtomicReference<>();
+
+        executor.execute(
+                () -> {
+                    threadName.set(Thread.currentThread().getName());
+                    ran.countDown();
+                });
+
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+        assertTrue(threadName.get().startsWith("eventbridge-send-"));
+    }
+
+    private EventBridgeSendExecutor newExecutor(RejectionPolicy policy) {
+        return new EventBridgeSendExecutor(
+                1, 1, policy, OpenTelemetry.noop().getMeter("eventbridge-test"));
+    }
+
+    /** Occupies the single thread and the single queue slot. */
+    private void fillPool() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(
+                () -> {
+                    started.countDown();
+                    awaitRelease();
+                });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        executor.execute(this::awaitRelease);
+        assertEquals(1, executor.queueDepth());
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EventSpoolTest {
+
+    @TempDir Path directory;
+
+    @Test
+    void eventsComeBackInOrderAfterReopening() {
+        try (EventSpool spool = new EventSpool(directory, 4096)) {
+            spool.append("type.a", "{\"n\":1}");
+            spool.append("type.b", "{\"n\":2}");
+            spool.append("type.c", "{\"n\":3}");
+            spool.remove();
+        }
+
+        try (EventSpool spool = new EventSpool(directory, 4096)) {
+            assertEquals(2, spool.depth());
+            assertEquals("type.b", spool.peek().eventType());
+            assertEquals("{\"n\":2}", spool.peek().json());
+            spool.remove();
+            assertEquals("type.c", spool.peek().eventType());
+            spool.remove();
+            assertNull(spool.peek());
+            assertEquals(0, spool.depth());
+        }
+    }
+
+    @Test
+    void rollsToNewSegmentsAndDeletesConsumedOnes() throws IOException {
+        String json = "x".repeat(100);
+        try (EventSpool spool = new EventSpool(directory, 256)) {
+            for (int i = 0; i < 6; i++) {
+                spool.append("type", json);
+            }
+            assertEquals(3, segmentCount());
+
+            for (int i = 0; i < 6; i++) {
+                spool.remove();
+            }
+            assertNull(spool.peek());
+            assertEquals(1, segmentCount());
+
+            assertThrows(
+                    IllegalArgumentException.class, () -> spool.append("type", "x".repeat(300)));
+        }
+    }
+
+    @Test
+    void tornRecordIsDiscardedOnRecovery() throws IOException {
+        try (EventSpool spool = new EventSpool(directory, 4096)) {
+            spool.append("type", "{\"n\":1}");
+            spool.append("type", "{\"n\":2}");
+        }
+        // Corrupt the body of the second record, as a crash part way through writing it would
+        int second = EventSpool.HEADER_BYTES + 2 + "type".length() + "{\"n\":1}".length();
+        try (Stream<Path> files = Files.list(directory);
+                FileChannel channel =
+                        FileChannel.open(
+                                files.findFirst().orElseThrow(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {'?'}), second + EventSpool.HEADER_BYTES + 8);
+        }
+
+        try (EventSpool spool = new EventSpool(directory, 4096)) {
+            assertEquals(1, spool.depth());
+            assertEquals("{\"n\":1}", spool.peek().json());
+            spool.append("type", "{\"n\":3}");
+            spool.remove();
+            assertEquals("{\"n\":3}", spool.peek().json());
+        }
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.datadoghq.stickerlandia.stickercatalogue.event.CloudEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.event.StickerUpdatedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.OpenTelemetry;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SpoolingStickerEventPublisherTest {
+
+    @TempDir Path directory;
+
+    private final FlakyPublisher broker = new FlakyPublisher();
+    private SpoolingStickerEventPublisher publisher;
+
+    @AfterEach
+    void close() {
+        if (publisher != null) {
+            publisher.close();
+        }
+    }
+
+    @Test
+    void sendsDirectlyWhileTheBrokerIsUp() throws Exception {
+        publisher = open(Duration.ofSeconds(5));
+
+        publisher.publishStickerUpdated("sticker-1", "v1", null).toCompletableFuture().get();
+
+        assertEquals(1, broker.sent.size());
+        assertEquals(0, publisher.replay());
+    }
+
+    @Test
+    void failedSendsAreSpooledAndReplayedInOrder() throws Exception {
+        publisher = open(Duration.ofSeconds(5));
+        broker.down = true;
+
+        publisher.publishStickerUpdated("sticker-1", "v1", null).toCompletableFuture().get();
+        broker.down = false;
+        // Queued behind the spooled event even though the broker is back
+        publisher.publishStickerUpdated("sticker-1", "v2", null).toCompletableFuture().get();
+        assertEquals(0, broker.sent.size());
+
+        assertEquals(2, publisher.replay());
+        assertEquals(List.of("v1", "v2"), sentNames());
+    }
+
+    @Test
+    void timedOutSendsAreSpooled() throws Exception {
+        publisher = open(Duration.ofMillis(20));
+        broker.hang = true;
+
+        publisher
+                .publishStickerUpdated("sticker-1", "v1", null)
+                .toCompletableFuture()
+                .get(5, TimeUnit.SECONDS);
+        broker.hang = false;
+
+        assertEquals(1, publisher.replay());
+        assertEquals(List.of("v1"), sentNames());
+    }
+
+    @Test
+    void laterEventsForAStickerWaitForItsOutstandingSend() throws Exception {
+        publisher = open(Duration.ofSeconds(1));
+        broker.hang = true;
+        CompletableFuture<Void> first =
+                publisher.publishStickerUpdated("sticker-1", "v1", null).toCompletableFuture();
+        broker.hang = false;
+
+        // The broker is back, but v2 must not overtake v1 while v1 is in doubt
+        CompletableFuture<Void> second =
+                publisher.publishStickerUpdated("sticker-1", "v2", null).toCompletableFuture();
+        publisher
+                .publishStickerUpdated("sticker-2", "other", null)
+                .toCompletableFuture()
+                .get(5, TimeUnit.SECONDS);
+        assertFalse(second.isDone());
+        assertEquals(List.of("other"), sentNames());
+
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+        assertEquals(2, publisher.replay());
+        assertEquals(List.of("other", "v1", "v2"), sentNames());
+    }
+
+    @Test
+    void laterEventsForAStickerAreSentOnceItsSendIsAcknowledged() throws Exception {
+        publisher = open(Duration.ofSeconds(5));
+        CompletableFuture<Void> ack = new CompletableFuture<>();
+        broker.next = ack;
+        CompletableFuture<Void> first =
+                publisher.publishStickerUpdated("sticker-1", "v1", null).toCompletableFuture();
+        CompletableFuture<Void> second =
+                publisher.publishStickerUpdated("sticker-1", "v2", null).toCompletableFuture();
+        assertEquals(List.of("v1"), sentNames());
+
+        ack.complete(null);
+
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+        assertEquals(List.of("v1", "v2"), sentNames());
+        assertEquals(0, publisher.replay());
+    }
+
+    @Test
+    void spoolSurvivesRestart() throws Exception {
+        publisher = open(Duration.ofSeconds(5));
+        broker.down = true;
+        publisher.publishStickerUpdated("sticker-1", "v1", null).toCompletableFuture().get();
+        publisher.close();
+
+        broker.down = false;
+        publisher = open(Duration.ofSeconds(5));
+
+        assertEquals(1, publisher.replay());
+        assertEquals(List.of("v1"), sentNames());
+    }
+
+    private SpoolingStickerEventPublisher open(Duration sendTimeout) {
+        return new SpoolingStickerEventPublisher(
+                broker,
+                new EventSpool(directory, 64 * 1024),
+                new ObjectMapper().findAndRegisterModules(),
+                sendTimeout,
+                Duration.ofHours(1),
+                OpenTelemetry.noop().getMeter("test"));
+    }
+
+    private List<String> sentNames() {
+        return broker.sent.stream()
+                .map(event -> ((StickerUpdatedEvent) event.getData()).getName())
+                .toList();
+    }
+
+    private static final class FlakyPublisher implements StickerEventPublisher {
+
+        final List<CloudEvent<?>> sent = new CopyOnWriteArrayList<>();
+        volatile boolean down;
+        volatile boolean hang;
+        volatile CompletableFuture<Void> next;
+
+        @Override
+        public CompletionStage<Void> publishStickerAdded(
+                String stickerId, String name, String description) {
+            return publishEvent(StickerCloudEvents.stickerAdded(stickerId, name, description));
+        }
+
+        @Override
+        public CompletionStage<Void> publishStickerUpdated(
+                String stickerId, String name, String description) {
+            return publishEvent(StickerCloudEvents.stickerUpdated(stickerId, name, description));
+        }
+
+        @Override
+        public CompletionStage<Void> publishStickerDeleted(String stickerId, String name) {
+            return publishEvent(StickerCloudEvents.stickerDeleted(stickerId, name));
+        }
+
+        @Override
+        public CompletionStage<Void> publishEvent(CloudEvent<?> cloudEvent) {
+            if (down) {
+                return CompletableFuture.failedFuture(new IllegalStateException("broker down"));
+            }
+            if (hang) {
+                return new CompletableFuture<>();
+            }
+            sent.add(cloudEvent);
+            CompletableFuture<Void> outcome = next;
+            next = null;
+            return outcome != null ? outcome : CompletableFuture.completedFuture(null);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.datadoghq.stickerlandia.stickercatalogue.event.CloudEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.event.StickerDeletedEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.event.StickerUpdatedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+class StickerCloudEventsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void storedEventReadsBackWithItsDataType() throws Exception {
+        CloudEvent<StickerUpdatedEvent> original =
+                StickerCloudEvents.stickerUpdated("sticker-1", "Name", "Description");
+
+        CloudEvent<?> restored =
+                StickerCloudEvents.read(
+                        objectMapper,
+                        original.getType(),
+                        objectMapper.writeValueAsString(original));
+
+        assertEquals(original.getId(), restored.getId());
+        assertEquals(original.getTime(), restored.getTime());
+        StickerUpdatedEvent data = assertInstanceOf(StickerUpdatedEvent.class, restored.getData());
+        assertEquals("Name", data.getName());
+        assertEquals("sticker-1", StickerCloudEvents.stickerId(restored));
+    }
+
+    @Test
+    void stickerIdIsTakenFromEventData() {
+        assertEquals(
+                "sticker-2",
+                StickerCloudEvents.stickerId(StickerCloudEvents.stickerDeleted("sticker-2", "x")));
+    }
+
+    @Test
+    void unknownEventTypeIsRejected() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> StickerCloudEvents.read(objectMapper, "stickers.unknown.v1", "{}"));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> StickerCloudEvents.stickerId(new CloudEvent<>("other", "source", "data")));
+    }
+
+    @Test
+    void deletedEventKeepsItsType() {
+        assertEquals(
+                StickerDeletedEvent.EVENT_TYPE,
+                StickerCloudEvents.stickerDeleted("sticker-3", "x").getType());
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.datadoghq.stickerlandia.stickercatalogue.entity.OutboxEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.event.CloudEvent;
+import com.datadoghq.stickerlandia.stickercatalogue.event.StickerUpdatedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link StickerEventOutboxRelay} against the real outbox table. The relay is only run by
+ * the tests themselves, and the broker is replaced by a mock whose outcome is set per event.
+ */
+@QuarkusTest
+@TestProfile(StickerEventOutboxRelayTest.ManualRelayProfile.class)
+class StickerEventOutboxRelayTest {
+
+    public static class ManualRelayProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "sticker.events.outbox.notify.enabled", "false",
+                    "sticker.events.outbox.relay.interval", "off",
+                    "sticker.events.outbox.relay.send-timeout", "1s");
+        }
+    }
+
+    @Inject StickerEventOutboxRelay relay;
+
+    @Inject ObjectMapper objectMapper;
+
+    @InjectMock StickerEventPublisher publisher;
+
+    private final List<String> sent = Collections.synchronizedList(new ArrayList<>());
+    private final Map<String, CompletableFuture<Void>> outcomes = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        QuarkusTransaction.requiringNew().run(() -> OutboxEvent.deleteAll());
+        when(publisher.publishEvent(any()))
+                .thenAnswer(
+                        invocation -> {
+                            String name = name(invocation.getArgument(0));
+                            sent.add(name);
+                            return outcomes.getOrDefault(
+                                    name, CompletableFuture.completedFuture(null));
+                        });
+    }
+
+    @Test
+    void shouldRelayEachStickersEventsInOrder() {
+        record("relay-a", "a1");
+        record("relay-a", "a2");
+        record("relay-b", "b1");
+
+        relay.relayPendingEvents();
+
+        // a2 is held back until a1 has been acknowledged and deleted
+        assertEquals(List.of("a1", "b1"), sent);
+        assertEquals(List.of("a2"), pending());
+
+        relay.relayPendingEvents();
+
+        assertEquals(List.of("a1", "b1", "a2"), sent);
+        assertEquals(List.of(), pending());
+    }
+
+    @Test
+    void shouldLeaveFailedEventsAtTheHeadOfTheirSticker() {
+        outcomes.put(
+                "a1", CompletableFuture.failedFuture(new IllegalStateException("Broker down")));
+        record("relay-a", "a1");
+        record("relay-a", "a2");
+        record("relay-b", "b1");
+
+        relay.relayPendingEvents();
+        relay.relayPendingEvents();
+
+        assertEquals(List.of("a1", "b1", "a1"), sent);
+        assertEquals(List.of("a1", "a2"), pending());
+        OutboxEvent failed = head("relay-a");
+        assertEquals(2, failed.getAttempts());
+        assertEquals("Broker down", failed.getLastError());
+    }
+
+    @Test
+    void shouldOnlyDeleteEventsTheBrokerAcknowledged() {
+        outcomes.put("a1", new CompletableFuture<>());
+        outcomes.put("b1", new CompletableFuture<>());
+        record("relay-a", "a1");
+        record("relay-b", "b1");
+        record("relay-c", "c1");
+
+        long start = System.nanoTime();
+        relay.relayPendingEvents();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Both unacknowledged sends share the batch's one-second deadline
+        assertTrue(elapsedMillis < 1_900, "Batch took " + elapsedMillis + "ms");
+        assertEquals(List.of("a1", "b1"), pending());
+        assertEquals(1, head("relay-a").getAttempts());
+        assertNotNull(head("relay-b").getLastError());
+    }
+
+    private void record(String stickerId, String name) {
+        CloudEvent<StickerUpdatedEvent> cloudEvent =
+                StickerCloudEvents.stickerUpdated(stickerId, name, "Relayed by the test");
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(cloudEvent);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        QuarkusTransaction.requiringNew()
+                .run(() -> new OutboxEvent(stickerId, cloudEvent.getType(), payload).persist());
+    }
+
+    private List<String> pending() {
+        List<OutboxEvent> events =
+                QuarkusTransaction.requiringNew().call(() -> OutboxEvent.list("order by id"));
+        return events.stream()
+                .map(
+                        event ->
+                                name(
+                                        StickerCloudEvents.read(
+                                                objectMapper,
+                                                event.getEventType(),
+                                                event.getPayload())))
+                .toList();
+    }
+
+    private static OutboxEvent head(String stickerId) {
+        return QuarkusTransaction.requiringNew()
+                .call(
+                        () ->
+                                OutboxEvent.find("stickerId = ?1 order by id", stickerId)
+                                        .firstResult());
+    }
+
+    private static String name(CloudEvent<?> cloudEvent) {
+        return ((StickerUpdatedEvent) cloudEvent.getData()).getName();
+    }
+}
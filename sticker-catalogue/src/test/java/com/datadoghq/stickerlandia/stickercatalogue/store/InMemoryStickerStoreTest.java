@@ -0,0 +1,168 @@
+/*
+ * Unless explicitly stated otherwise all files in this repository are licensed under the Apache License Version 2.0.
+ * This product includes software developed at Datadog (https://www.datadoghq.com/).
+ * Copyright 2025-Present Datadog, Inc.
+ */
+
+package com.datadoghq.stickerlandia.stickercatalogue.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.datadoghq.stickerlandia.stickercatalogue.entity.Sticker;
+import jakarta.persistence.OptimisticLockException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link InMemoryStickerStore}. */
+class InMemoryStickerStoreTest {
+
+    private final InMemoryStickerStore store = new InMemoryStickerStore();
+
+    @Test
+    void shouldPageNewestFirst() {
+        Instant start = Instant.parse("2025-01-01T00:00:00Z");
+        for (int i = 0; i < 5; i++) {
+            store.insert(sticker("sticker-" + i, -1, start.plusSeconds(i)));
+        }
+
+        assertEquals(List.of("sticker-4", "sticker-3"), ids(store.findPage(0, 2)));
+        assertEquals(List.of("sticker-0"), ids(store.findPage(2, 2)));
+        assertEquals(5, store.count());
+    }
+
+    @Test
+    void shouldRejectADuplicateId() {
+        store.insert(sticker("sticker-1", -1, Instant.now()));
+
+        assertThrows(
+                IllegalStateException.class,
+                () -> store.insert(sticker("sticker-1", -1, Instant.now())));
+    }
+
+    @Test
+    void shouldPatchOnlyWhenTheVersionMatches() {
+        store.insert(sticker("sticker-1", 10, Instant.now()));
+
+        assertNull(store.patch("sticker-1", "Renamed", null, null, 7L));
+        assertEquals("Sticker sticker-1", store.findById("sticker-1").getName());
+
+        Sticker patched = store.patch("sticker-1", "Renamed", null, null, 0L);
+        assertEquals("Renamed", patched.getName());
+        assertEquals(1, patched.getVersion());
+        assertNull(store.patch("missing", "Renamed", null, null, null));
+    }
+
+    @Test
+    void shouldRefuseToSaveAStaleCopy() {
+        store.insert(sticker("sticker-1", 10, Instant.now()));
+        Sticker first = store.findById("sticker-1");
+        Sticker second = store.findById("sticker-1");
+
+        first.setName("First");
+        store.save(first);
+        second.setName("Second");
+
+        assertThrows(OptimisticLockException.class, () -> store.save(second));
+        assertEquals("First", store.findById("sticker-1").getName());
+        assertEquals(1, first.getVersion());
+    }
+
+    @Test
+    void shouldNotLetAStaleCopyUndoAClaim() {
+        store.insert(sticker("sticker-1", 10, Instant.now()));
+        Sticker loaded = store.findById("sticker-1");
+
+        assertEquals(9, store.claim("sticker-1"));
+        loaded.setName("Renamed");
+        store.save(loaded);
+
+        Sticker saved = store.findById("sticker-1");
+        assertEquals("Renamed", saved.getName());
+        assertEquals(9, saved.getStickerQuantityRemaining());
+        assertEquals(9, loaded.getStickerQuantityRemaining());
+    }
+
+    @Test
+    void shouldSaveAQuantityTheCallerChanged() {
+        store.insert(sticker("sticker-1", 10, Instant.now()));
+        Sticker loaded = store.findById("sticker-1");
+
+        store.claim("sticker-1");
+        loaded.setStickerQuantityRemaining(50);
+        store.save(loaded);
+
+        assertEquals(50, store.findById("sticker-1").getStickerQuantityRemaining());
+    }
+
+    @Test
+    void shouldNeverClaimMoreThanTheStock() throws Exception {
+        store.insert(sticker("sticker-1", 100, Instant.now()));
+
+        List<Future<Integer>> claims = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 400; i++) {
+                claims.add(executor.submit(() -> store.claim("sticker-1")));
+            }
+        }
+
+        long granted = 0;
+        for (Future<Integer> claim : claims) {
+            if (claim.get() != null) {
+                granted++;
+            }
+        }
+        assertEquals(100, granted);
+        assertEquals(0, store.findById("sticker-1").getStickerQuantityRemaining());
+    }
+
+    @Test
+    void shouldLeaveUnlimitedStockAlone() {
+        store.insert(sticker("sticker-1", -1, Instant.now()));
+
+        assertNull(store.claim("sticker-1"));
+        assertNull(store.release("sticker-1", 3));
+        assertEquals(-1, store.findById("sticker-1").getStickerQuantityRemaining());
+    }
+
+    @Test
+    void shouldRemoveDeletedStickersFromPages() {
+        store.insert(sticker("sticker-1", -1, Instant.now()));
+        store.insert(sticker("sticker-2", -1, Instant.now().plusSeconds(1)));
+
+        store.delete(store.findById("sticker-2"));
+
+        assertNull(store.findById("sticker-2"));
+        assertEquals(List.of("sticker-1"), ids(store.findPage(0, 10)));
+        assertEquals(1, store.count());
+    }
+
+    @Test
+    void shouldHandOutCopies() {
+        Sticker inserted = sticker("sticker-1", 5, Instant.now());
+        store.insert(inserted);
+
+        inserted.setName("Changed after insert");
+        store.findById("sticker-1").setStickerQuantityRemaining(0);
+
+        Sticker stored = store.findById("sticker-1");
+        assertEquals("Sticker sticker-1", stored.getName());
+        assertEquals(5, stored.getStickerQuantityRemaining());
+    }
+
+    private static Sticker sticker(String stickerId, int quantity, Instant createdAt) {
+        Sticker sticker = new Sticker(stickerId, "Sticker " + stickerId, "A sticker", quantity);
+        sticker.setCreatedAt(createdAt);
+        return sticker;
+    }
+
+    private static List<String> ids(List<Sticker> stickers) {
+        return stickers.stream().map(Sticker::getStickerId).toList();
+    }
+}